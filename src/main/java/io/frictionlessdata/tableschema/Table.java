@@ -1,6 +1,7 @@
 package io.frictionlessdata.tableschema;
 
 import io.frictionlessdata.tableschema.datasourceformat.CsvDataSourceFormat;
+import io.frictionlessdata.tableschema.datasourceformat.CsvTokenizer;
 import io.frictionlessdata.tableschema.datasourceformat.DataSourceFormat;
 import io.frictionlessdata.tableschema.datasourceformat.StringArrayDataSourceFormat;
 import io.frictionlessdata.tableschema.exception.InvalidCastException;
@@ -8,17 +9,32 @@ import io.frictionlessdata.tableschema.exception.TableSchemaException;
 import io.frictionlessdata.tableschema.exception.TableValidationException;
 import io.frictionlessdata.tableschema.exception.TypeInferringException;
 import io.frictionlessdata.tableschema.field.Field;
+import io.frictionlessdata.tableschema.io.AsyncFileReader;
+import io.frictionlessdata.tableschema.io.RangeDownloader;
+import io.frictionlessdata.tableschema.io.RemoteCache;
+import io.frictionlessdata.tableschema.iterator.BatchIterator;
+import io.frictionlessdata.tableschema.iterator.BeanIterator;
+import io.frictionlessdata.tableschema.iterator.ColumnBatch;
 import io.frictionlessdata.tableschema.iterator.SimpleTableIterator;
 import io.frictionlessdata.tableschema.iterator.TableIterator;
+import io.frictionlessdata.tableschema.iterator.TablePublisher;
 import io.frictionlessdata.tableschema.schema.Schema;
+import io.frictionlessdata.tableschema.schema.SchemaRegistry;
 import io.frictionlessdata.tableschema.util.JsonUtil;
 import io.frictionlessdata.tableschema.util.TableSchemaUtil;
+import io.frictionlessdata.tableschema.validation.ValidationContext;
+import io.frictionlessdata.tableschema.validation.ValidationError;
+import io.frictionlessdata.tableschema.validation.ValidationOptions;
+import io.frictionlessdata.tableschema.validation.ValidationReport;
 import org.apache.commons.csv.CSVFormat;
 import org.apache.commons.csv.CSVPrinter;
 
 import java.io.*;
 import java.net.URL;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 
 /**
  * This class represents a CSV or JSON-array encoded  table with optional CSV specification
@@ -45,6 +61,16 @@ public class Table{
     private DataSourceFormat dataSourceFormat = null;
     private Schema schema = null;
     private CSVFormat format = DataSourceFormat.getDefaultCsvFormat();
+    private CsvTokenizer csvTokenizer = null;
+    private int castCacheSize = 0;
+    private int prefetchDepth = 0;
+
+    // resolved from the data once instead of for every iterator, reset by invalidateCaches()
+    private String[] dataHeaders = null;
+    // the header indices and the successful header validation are valid for these declared headers
+    private String[] indexedHeaders = null;
+    private int[] headerIndices = null;
+    private String[] validatedHeaders = null;
 
     /**
      * Constructor for an empty Table. It contains neither data nor is it controlled by a Schema
@@ -162,6 +188,20 @@ public class Table{
         return fromSource(dataSource, schema, format);
     }
 
+    /**
+     * Create Table from a URL containing either CSV or JSON and with a Schema and a CSVFormat. The Schema
+     * is taken from the registry, so it is only read and validated again if it has changed.
+     * @param dataSource the URL for the CSV or JSON content
+     * @param schemaUrl the URL for the table schema
+     * @param format The expected CSVFormat if dataSource is a CSV-containing InputStream; ignored for JSON data
+     * @param schemaRegistry the registry to look the schema up in
+     * @throws Exception if reading throws an Exception
+     */
+    public static Table fromSource(URL dataSource, URL schemaUrl, CSVFormat format, SchemaRegistry schemaRegistry)
+            throws Exception {
+        return fromSource(dataSource, schemaRegistry.get(schemaUrl, true), format);
+    }
+
     /**
      * Create Table from a URL containing either CSV or JSON and with  a Schema and a CSVFormat.
      * @param dataSource the URL for the CSV or JSON content
@@ -178,6 +218,133 @@ public class Table{
         return table;
     }
 
+    /**
+     * Create Table from a URL containing CSV, with a Schema and a CSVFormat. Unlike the other URL factories,
+     * the data is not read into memory but read from the URL on every pass, eg. validating and then
+     * reading the Table, through a cache of local copies so the data is only downloaded again if it
+     * has changed.
+     * @param dataSource the URL for the CSV content
+     * @param schema table schema
+     * @param format The expected CSVFormat
+     * @param remoteCache the cache of local copies, can be shared between Tables
+     */
+    public static Table fromSource(URL dataSource, Schema schema, CSVFormat format, RemoteCache remoteCache) {
+        return createTable(DataSourceFormat.createDataSourceFormat(dataSource, remoteCache), schema, format);
+    }
+
+    /**
+     * Create Table from a URL containing either CSV or JSON and with a Schema and a CSVFormat. The data is
+     * downloaded as parallel byte ranges if the server supports them, which is faster for large resources
+     * on high-latency links.
+     * @param dataSource the URL for the CSV or JSON content
+     * @param schema table schema
+     * @param format The expected CSVFormat if dataSource is a CSV-containing InputStream; ignored for JSON data
+     * @param downloader the downloader to fetch the data with
+     * @throws IOException if downloading throws an Exception
+     */
+    public static Table fromSourceDownloaded(URL dataSource, Schema schema, CSVFormat format,
+                                             RangeDownloader downloader) throws IOException {
+        try (InputStream in = downloader.open(dataSource)) {
+            return createTable(DataSourceFormat.createDataSourceFormat(in), schema, format);
+        }
+    }
+
+    /**
+     * Create Table from a URL containing either CSV or JSON without blocking the calling thread. `file:` URLs
+     * are read asynchronously, other URLs on the Executor, see {@link AsyncFileReader}. Loading several
+     * Tables this way reads them at the same time.
+     * @param dataSource the URL for the CSV or JSON content
+     * @param executor the Executor to read and parse the data on
+     * @return future completing with the Table, or exceptionally if reading fails
+     */
+    public static CompletableFuture<Table> fromSourceAsync(URL dataSource, Executor executor) {
+        return fromSourceAsync(dataSource, (Schema) null, null, executor);
+    }
+
+    /**
+     * Create Table from a URL containing either CSV or JSON and with a Schema and a CSVFormat without blocking
+     * the calling thread. The data and the Schema are read at the same time.
+     * @param dataSource the URL for the CSV or JSON content
+     * @param schemaUrl the URL for the table schema
+     * @param format The expected CSVFormat if dataSource is a CSV-containing InputStream; ignored for JSON data
+     * @param executor the Executor to read and parse the data and the Schema on
+     * @return future completing with the Table, or exceptionally if reading or parsing fails
+     */
+    public static CompletableFuture<Table> fromSourceAsync(URL dataSource, URL schemaUrl, CSVFormat format,
+                                                           Executor executor) {
+        CompletableFuture<Schema> schema = Schema.fromJsonAsync(schemaUrl, true, executor);
+        return readDataSourceFormat(AsyncFileReader.read(dataSource, executor), executor)
+                .thenCombine(schema, (dataSourceFormat, s) -> createTable(dataSourceFormat, s, format));
+    }
+
+    /**
+     * Create Table from a URL containing either CSV or JSON and with a Schema and a CSVFormat without blocking
+     * the calling thread.
+     * @param dataSource the URL for the CSV or JSON content
+     * @param schema table schema
+     * @param format The expected CSVFormat if dataSource is a CSV-containing InputStream; ignored for JSON data
+     * @param executor the Executor to read and parse the data on
+     * @return future completing with the Table, or exceptionally if reading fails
+     */
+    public static CompletableFuture<Table> fromSourceAsync(URL dataSource, Schema schema, CSVFormat format,
+                                                           Executor executor) {
+        return readDataSourceFormat(AsyncFileReader.read(dataSource, executor), executor)
+                .thenApply((dataSourceFormat) -> createTable(dataSourceFormat, schema, format));
+    }
+
+    /**
+     * Create Table from a {@link java.io.File} containing the CSV/JSON data and with a Schema and a CSVFormat
+     * without blocking the calling thread. Files in ZIP archives are read on the Executor.
+     * @param dataSource path of the data, relative to `basePath`
+     * @param basePath the directory or ZIP archive containing the data
+     * @param schema table schema
+     * @param format The expected CSVFormat if dataSource is a CSV-containing InputStream; ignored for JSON data
+     * @param executor the Executor to parse the data on
+     * @return future completing with the Table, or exceptionally if reading fails
+     */
+    public static CompletableFuture<Table> fromSourceAsync(File dataSource, File basePath, Schema schema,
+                                                           CSVFormat format, Executor executor) {
+        if (basePath.getName().endsWith(".zip")) {
+            return CompletableFuture.supplyAsync(() -> {
+                try {
+                    return fromSource(dataSource, basePath, schema, format);
+                } catch (Exception ex) {
+                    throw new CompletionException(ex);
+                }
+            }, executor);
+        }
+        CompletableFuture<byte[]> content;
+        try {
+            content = AsyncFileReader.read(DataSourceFormat.toSecure(dataSource.toPath(), basePath.toPath()));
+        } catch (Exception ex) {
+            content = new CompletableFuture<>();
+            content.completeExceptionally(ex);
+        }
+        return readDataSourceFormat(content, executor)
+                .thenApply((dataSourceFormat) -> createTable(dataSourceFormat, schema, format));
+    }
+
+    private static CompletableFuture<DataSourceFormat> readDataSourceFormat(CompletableFuture<byte[]> content,
+                                                                            Executor executor) {
+        return content.thenApplyAsync((bytes) -> {
+            try {
+                return DataSourceFormat.createDataSourceFormat(new ByteArrayInputStream(bytes));
+            } catch (IOException ex) {
+                throw new CompletionException(ex);
+            }
+        }, executor);
+    }
+
+    private static Table createTable(DataSourceFormat dataSourceFormat, Schema schema, CSVFormat format) {
+        Table table = new Table();
+        table.dataSourceFormat = dataSourceFormat;
+        table.schema = schema;
+        if (null != format) {
+            table.setCsvFormat(format);
+        }
+        return table;
+    }
+
     public Iterator<Object[]> iterator() throws Exception{
        return new TableIterator<>(this, false, false, true, false);
     }
@@ -186,6 +353,53 @@ public class Table{
        return new TableIterator<>(this, keyed, extended, cast, relations);
     }
 
+    /**
+     * Iterate over the rows as instances of a bean class, see {@link BeanIterator} for how columns are
+     * bound to the properties of the bean. Needs a Schema to cast the values.
+     * @param type the bean class
+     * @param <T> the bean type
+     * @return Iterator returning a new bean per row
+     * @throws Exception if the Table has no Schema or the data can't be read
+     */
+    public <T> Iterator<T> iterator(Class<T> type) throws Exception{
+        return new BeanIterator<>(this, type);
+    }
+
+    /**
+     * Iterate over the rows in batches, stored column by column in typed vectors, see {@link ColumnBatch}.
+     * Needs a Schema to cast the values.
+     * @param batchSize the maximum number of rows per batch, only the last batch can be smaller
+     * @return Iterator returning a ColumnBatch per batch of rows
+     * @throws Exception if the Table has no Schema or the data can't be read
+     */
+    public Iterator<ColumnBatch> batchIterator(int batchSize) throws Exception{
+        return new BatchIterator(this, batchSize);
+    }
+
+    /**
+     * Publish the rows to subscribers as they request them, see {@link TablePublisher}. Every subscriber
+     * gets its own iteration, with the rows cast if there's a Schema, like by {@link #iterator()}.
+     * @param executor the Executor to read, cast and emit the rows on
+     * @return the publisher
+     */
+    public TablePublisher<Object[]> publisher(Executor executor) {
+        return new TablePublisher<>(() -> new TableIterator<>(this), executor);
+    }
+
+    /**
+     * Publish the rows in batches stored column by column, see {@link #batchIterator(int)}. Needs a
+     * Schema to cast the values, a missing Schema is signalled to the subscriber as an error.
+     * @param batchSize the maximum number of rows per batch
+     * @param executor the Executor to read, cast and emit the batches on
+     * @return the publisher
+     */
+    public TablePublisher<ColumnBatch> batchPublisher(int batchSize, Executor executor) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("Batch size must be positive");
+        }
+        return new TablePublisher<>(() -> new BatchIterator(this, batchSize), executor);
+    }
+
     public Iterator<String[]> stringArrayIterator() throws Exception{
         return new SimpleTableIterator(this, false);
     }
@@ -203,14 +417,35 @@ public class Table{
     }
 
     public Map<Integer, Integer> getSchemaHeaderMapping() {
+        int[] indices = getSchemaHeaderIndices();
+        if (null == indices) {
+            return null;
+        }
+        Map<Integer, Integer> mapping = new HashMap<>();
+        for (int i = 0; i < indices.length; i++) {
+            mapping.put(i, (indices[i] >= 0) ? indices[i] : null);
+        }
+        return mapping;
+    }
+
+    /**
+     * Returns the column positions in the data of the headers as returned by {@link #getHeaders()}, the
+     * array form of {@link #getSchemaHeaderMapping()}. The positions are computed once and cached
+     * until the Schema, the data or the CSV format of the Table change.
+     * @return the index in the data of every header or -1 for declared headers not found in the data
+     */
+    public int[] getSchemaHeaderIndices() {
         try {
-            if (null == schema) {
-                return TableSchemaUtil
-                        .createSchemaHeaderMapping(dataSourceFormat.getHeaders(), dataSourceFormat.getHeaders());
-            } else {
-                return TableSchemaUtil
-                        .createSchemaHeaderMapping(dataSourceFormat.getHeaders(), getDeclaredHeaders());
+            String[] headers = getDataHeaders();
+            String[] sortedHeaders = (null == schema) ? headers : getDeclaredHeaders();
+            if ((null == headers) || (null == sortedHeaders)) {
+                return null;
             }
+            if ((null == headerIndices) || !Arrays.equals(sortedHeaders, indexedHeaders)) {
+                headerIndices = TableSchemaUtil.createSchemaHeaderIndices(headers, sortedHeaders);
+                indexedHeaders = sortedHeaders;
+            }
+            return headerIndices.clone();
         } catch (Exception ex) {
             throw new RuntimeException(ex);
         }
@@ -234,7 +469,28 @@ public class Table{
         if (null != schema) {
             return getDeclaredHeaders();
         }
-        return this.dataSourceFormat.getHeaders();
+        String[] headers = getDataHeaders();
+        return (null != headers) ? headers.clone() : null;
+    }
+
+    // the headers found in the data, callers must not modify the array
+    private String[] getDataHeaders() throws Exception {
+        if (null == dataHeaders) {
+            dataHeaders = this.dataSourceFormat.getHeaders();
+        }
+        return dataHeaders;
+    }
+
+    /*
+     * Drop everything that was derived from the Schema, the data or the CSV format. Changes to the field
+     * names of a Schema are noticed without this, as cached results are stored along with the field names
+     * they were computed for.
+     */
+    private void invalidateCaches() {
+        dataHeaders = null;
+        indexedHeaders = null;
+        headerIndices = null;
+        validatedHeaders = null;
     }
 
     private String[] getDeclaredHeaders() {
@@ -255,10 +511,11 @@ public class Table{
         
         List<Object[]> rows = new ArrayList<>();
         
-        Iterator<Object[]> iter = this.iterator(false, false, cast, false);
-        while(iter.hasNext()){
-            Object[] row = iter.next();
-            rows.add(row);
+        try (TableIterator<Object[]> iter = new TableIterator<>(this, false, false, cast, false)) {
+            while(iter.hasNext()){
+                Object[] row = iter.next();
+                rows.add(row);
+            }
         }
 
         return rows;
@@ -354,7 +611,7 @@ public class Table{
                         List<String> fieldNames = schema.getFieldNames();
                         headers = fieldNames.toArray(new String[0]);
                     } else {
-                        headers = dataSourceFormat.getHeaders();
+                        headers = getDataHeaders();
                     }
                     writeCsv(out, this.format, headers);
                 } catch (Exception ex) {
@@ -416,16 +673,20 @@ public class Table{
     public void validate() throws TableValidationException, TableSchemaException {
         if (null == schema)
             return;
+        String[] declared = getDeclaredHeaders();
+        if (Arrays.equals(declared, validatedHeaders)) {
+            return;
+        }
         String[] headers = null;
         try {
-            headers = this.dataSourceFormat.getHeaders();
+            headers = getDataHeaders();
         } catch (Exception ex) {
             throw new TableSchemaException(ex);
         }
-        List<String> declaredHeaders = Arrays.asList(getDeclaredHeaders());
-        List<String> foundHeaders = Arrays.asList(headers);
+        Set<String> declaredHeaders = new HashSet<>(Arrays.asList(declared));
+        Set<String> foundHeaders = new HashSet<>(Arrays.asList(headers));
         if (dataSourceFormat.hasReliableHeaders()) {
-            for (String col : declaredHeaders) {
+            for (String col : declared) {
                 if (!foundHeaders.contains(col)) {
                     throw new TableValidationException("Declared column " + col + " not found in data");
                 }
@@ -436,8 +697,118 @@ public class Table{
                 throw new TableValidationException("Found undeclared column: "+col);
             }
         }
+        validatedHeaders = declared;
     }
     
+    /**
+     * Validates the data of the Table against the Schema and collects the problems found into a
+     * {@link ValidationReport} instead of throwing an exception on the first invalid header or value.
+     *
+     * Validation stops once {@link ValidationOptions#getMaxErrors()} errors have been collected. Header
+     * mismatches are reported with a row number of -1, declared columns missing from the data are
+     * treated as holding null values.
+     *
+     * @param options the validation options, defaults are used if null
+     * @return the report holding all errors found
+     * @throws TableSchemaException thrown if something goes wrong reading the table data
+     */
+    public ValidationReport validate(ValidationOptions options) throws TableSchemaException {
+        ValidationOptions locOptions = (null != options) ? options : new ValidationOptions();
+        ValidationReport report = new ValidationReport(locOptions.getMaxErrors());
+        if (null == schema)
+            return report;
+        try {
+            String[] headers = getDataHeaders();
+            String[] declaredHeaders = getDeclaredHeaders();
+            if (!validateHeaders(headers, declaredHeaders, report)) {
+                return report;
+            }
+
+            int[] mapping = getSchemaHeaderIndices();
+            List<Field> fields = schema.getFields();
+            ValidationContext context = new ValidationContext();
+            Iterator<? extends CharSequence[]> iter = this.dataSourceFormat.charSequenceIterator();
+            try {
+                long rowNum = 0;
+                while (iter.hasNext()) {
+                    if (report.isFull()) {
+                        report.setTruncated(true);
+                        break;
+                    }
+                    CharSequence[] row = iter.next();
+                    for (int i = 0; i < fields.size(); i++) {
+                        int key = mapping[i];
+                        CharSequence rawVal = ((key >= 0) && (key < row.length)) ? row[key] : null;
+                        if (!validateValue(fields.get(i), rawVal, rowNum, i, locOptions, context, report)) {
+                            break;
+                        }
+                    }
+                    rowNum++;
+                }
+                report.setRowCount(rowNum);
+            } finally {
+                // releases the stream of a tokenizer-backed source when the report fills up early
+                if (iter instanceof AutoCloseable) {
+                    ((AutoCloseable) iter).close();
+                }
+            }
+        } catch (TableSchemaException ex) {
+            throw ex;
+        } catch (Exception ex) {
+            throw new TableSchemaException(ex);
+        }
+        return report;
+    }
+
+    private boolean validateHeaders(String[] headers, String[] declaredHeaders, ValidationReport report) {
+        Set<String> declared = new HashSet<>(Arrays.asList(declaredHeaders));
+        Set<String> found = new HashSet<>(Arrays.asList(headers));
+        if (dataSourceFormat.hasReliableHeaders()) {
+            for (int i = 0; i < declaredHeaders.length; i++) {
+                if (!found.contains(declaredHeaders[i])) {
+                    if (!report.addError(new ValidationError(-1, i, declaredHeaders[i], null,
+                            ValidationError.ErrorCode.HEADER_ERROR, null, null)))
+                        return false;
+                }
+            }
+        }
+        for (String col : headers) {
+            if (!declared.contains(col)) {
+                if (!report.addError(new ValidationError(-1, -1, col, null,
+                        ValidationError.ErrorCode.HEADER_ERROR, null, null)))
+                    return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean validateValue(Field field, CharSequence rawVal, long rowNum, int column,
+                                         ValidationOptions options, ValidationContext context,
+                                         ValidationReport report) {
+        Object val = null;
+        if ((null != rawVal) && !field.isMissingValue(rawVal)) {
+            try {
+                val = field.tryParseValue(rawVal, field.getFormat(), field.getOptions());
+            } catch (Exception ex) {
+                val = Field.INVALID_VALUE;
+            }
+            if (val == Field.INVALID_VALUE) {
+                return report.addError(new ValidationError(rowNum, column, field.getName(), rawVal.toString(),
+                        ValidationError.ErrorCode.TYPE_ERROR, null, null));
+            }
+        }
+        if (options.isEnforceConstraints() && (null != field.getConstraints())) {
+            Map<String, Object> violations = field.checkConstraintViolations(val, context);
+            for (Map.Entry<String, Object> violation : violations.entrySet()) {
+                String rawString = (null != rawVal) ? rawVal.toString() : null;
+                if (!report.addError(new ValidationError(rowNum, column, field.getName(), rawString,
+                        ValidationError.ErrorCode.CONSTRAINT_ERROR, violation.getKey(), violation.getValue())))
+                    return false;
+            }
+        }
+        return true;
+    }
+
     public Schema inferSchema() throws TypeInferringException{
         return inferSchema(-1);
     }
@@ -464,6 +835,7 @@ public class Table{
 
     public Table setCsvFormat(CSVFormat format) {
         this.format = format;
+        invalidateCaches();
         if ((null != dataSourceFormat) && (dataSourceFormat instanceof CsvDataSourceFormat)) {
             ((CsvDataSourceFormat) dataSourceFormat).setFormat(format);
         }
@@ -474,6 +846,67 @@ public class Table{
         return format;
     }
 
+    /**
+     * Set the tokenizer for CSV data, eg. a {@link io.frictionlessdata.tableschema.datasourceformat.FastCsvTokenizer}.
+     * Ignored for JSON data and for CSV formats the tokenizer doesn't support.
+     * @param tokenizer the tokenizer or null to parse with commons-csv
+     * @return this Table
+     */
+    public Table setCsvTokenizer(CsvTokenizer tokenizer) {
+        this.csvTokenizer = tokenizer;
+        invalidateCaches();
+        if ((null != dataSourceFormat) && (dataSourceFormat instanceof CsvDataSourceFormat)) {
+            ((CsvDataSourceFormat) dataSourceFormat).setTokenizer(tokenizer);
+        }
+        return this;
+    }
+
+    public CsvTokenizer getCsvTokenizer() {
+        return csvTokenizer;
+    }
+
+    /**
+     * Memoize cast values while iterating over the Table: for columns with few distinct values, eg. country
+     * codes or status flags, equal raw values then get parsed only once and share one cast value. Each
+     * column samples its first values and stops caching if they are mostly distinct.
+     * See {@link io.frictionlessdata.tableschema.validation.CastCache}.
+     * @param castCacheSize the number of values to cache per column, 0 (the default) to disable caching
+     * @return this Table
+     */
+    public Table setCastCacheSize(int castCacheSize) {
+        if (castCacheSize < 0) {
+            throw new IllegalArgumentException("Cache size must not be negative");
+        }
+        this.castCacheSize = castCacheSize;
+        return this;
+    }
+
+    public int getCastCacheSize() {
+        return castCacheSize;
+    }
+
+    /**
+     * Read rows ahead on a separate thread while iterating over the Table, so waiting for the data, eg. from
+     * a URL, overlaps with casting and checking the rows. The rows are read and tokenized in batches of
+     * 256 rows and at most `depth` batches are held ahead of the iteration. Errors reading the data are
+     * thrown by the iterator once it gets to them. Iterators that are abandoned before the end should be closed to stop the
+     * reading thread, see {@link TableIterator#close()}.
+     * @param prefetchDepth the number of row batches to read ahead, 0 (the default) to read on the
+     *                      iterating thread
+     * @return this Table
+     */
+    public Table setPrefetchDepth(int prefetchDepth) {
+        if (prefetchDepth < 0) {
+            throw new IllegalArgumentException("Prefetch depth must not be negative");
+        }
+        this.prefetchDepth = prefetchDepth;
+        return this;
+    }
+
+    public int getPrefetchDepth() {
+        return prefetchDepth;
+    }
+
     /**
      * Get the current Schema for this Table
      * @return the active Schema
@@ -489,6 +922,7 @@ public class Table{
      */
     public Table setSchema(Schema schema) {
         this.schema = schema;
+        invalidateCaches();
         if (null != dataSourceFormat)
             validate();
         return this;
@@ -509,6 +943,7 @@ public class Table{
      */
     public Table setDataSourceFormat(DataSourceFormat fmt) {
         this.dataSourceFormat = fmt;
+        invalidateCaches();
         if (null != schema)
             validate();
         return this;
@@ -530,12 +965,13 @@ public class Table{
             List<Object[]> data = table.read();
             List<Object[]> oData = ((Table) o).read();
             equals = equals & data.size() == oData.size();
-            Iterator<Object[]> iterator = this.iterator(false, false, false, true);
-            Iterator<Object[]> oIter = ((Table) o).iterator(false, false, false, true);
-            while (iterator.hasNext()) {
-                Object[] arr = iterator.next();
-                Object[] oArr = oIter.next();
-                equals = equals & Arrays.equals(arr, oArr);
+            try (TableIterator<Object[]> iterator = new TableIterator<>(this, false, false, false, true);
+                 TableIterator<Object[]> oIter = new TableIterator<>((Table) o, false, false, false, true)) {
+                while (iterator.hasNext()) {
+                    Object[] arr = iterator.next();
+                    Object[] oArr = oIter.next();
+                    equals = equals & Arrays.equals(arr, oArr);
+                }
             }
             return equals;
         } catch (Exception ex) {
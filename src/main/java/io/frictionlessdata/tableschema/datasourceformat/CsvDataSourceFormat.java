@@ -2,6 +2,7 @@ package io.frictionlessdata.tableschema.datasourceformat;
 
 import com.google.common.collect.Iterators;
 import io.frictionlessdata.tableschema.exception.TableSchemaException;
+import io.frictionlessdata.tableschema.io.RemoteCache;
 import io.frictionlessdata.tableschema.util.JsonUtil;
 
 import org.apache.commons.csv.CSVFormat;
@@ -11,10 +12,7 @@ import org.apache.commons.csv.CSVRecord;
 import java.io.*;
 import java.net.URL;
 import java.nio.charset.StandardCharsets;
-import java.util.ArrayList;
-import java.util.Iterator;
-import java.util.List;
-import java.util.Map;
+import java.util.*;
 import java.util.stream.Collectors;
 
 /**
@@ -23,6 +21,8 @@ import java.util.stream.Collectors;
 public class CsvDataSourceFormat extends AbstractDataSourceFormat {
 
     private CSVFormat format = DataSourceFormat.getDefaultCsvFormat();
+    private CsvTokenizer tokenizer = null;
+    private RemoteCache remoteCache = null;
 
     /**
      * Constructor from a Stream. In contrast to lazy-loading File- or URL-based constructors, this one
@@ -71,28 +71,81 @@ public class CsvDataSourceFormat extends AbstractDataSourceFormat {
     }
 
 
+    /**
+     * Set the tokenizer to split the CSV data with, eg. a {@link FastCsvTokenizer}. It is used for all
+     * CSV formats it supports, other formats and a null tokenizer use commons-csv.
+     * @param tokenizer the tokenizer or null
+     * @return this CsvDataSourceFormat
+     */
+    public CsvDataSourceFormat setTokenizer(CsvTokenizer tokenizer) {
+        this.tokenizer = tokenizer;
+        this.headers = null;
+        return this;
+    }
+
+    public CsvTokenizer getTokenizer() {
+        return tokenizer;
+    }
+
+    /**
+     * Read URL data sources through a cache of local copies, so iterating more than once downloads the
+     * data only once. Has no effect on other data sources.
+     * @param remoteCache the cache or null to download on every read
+     * @return this CsvDataSourceFormat
+     */
+    public CsvDataSourceFormat setRemoteCache(RemoteCache remoteCache) {
+        this.remoteCache = remoteCache;
+        return this;
+    }
+
+    public RemoteCache getRemoteCache() {
+        return remoteCache;
+    }
+
     @Override
     public Iterator<String[]> iterator() throws Exception{
+        if (useTokenizer()) {
+            return Iterators.transform(new TokenizerIterator(openRecords()), (CharSequence[] input) -> {
+                String[] cols = new String[input.length];
+                for (int i = 0; i < cols.length; i++) {
+                    cols[i] = input[i].toString();
+                }
+                return cols;
+            });
+        }
         Iterator<CSVRecord> iterCSVRecords = this.getCSVParser().iterator();
 
         return Iterators.transform(iterCSVRecords, (CSVRecord input) -> {
-            Iterator<String> iterCols = input.iterator();
-
-            List<String> cols = new ArrayList<>();
-            while(iterCols.hasNext()){
-                cols.add(iterCols.next());
+            String[] cols = new String[input.size()];
+            for (int i = 0; i < cols.length; i++) {
+                cols[i] = input.get(i);
             }
-
-            return cols.toArray(new String[0]);
+            return cols;
         });
     }
 
+    /**
+     * Returns rows whose values are views into the read buffer of the tokenizer if one is set and supports
+     * the CSV format, the String rows of {@link #iterator()} otherwise.
+     * @return Iterator over the data
+     * @throws Exception thrown if reading the data fails
+     */
+    @Override
+    public Iterator<? extends CharSequence[]> charSequenceIterator() throws Exception {
+        if (useTokenizer()) {
+            return new TokenizerIterator(openRecords());
+        }
+        return iterator();
+    }
+
     @Override
     public String[] getHeaders() throws Exception{
         if (null == headers) {
             // Get a copy of the header map that iterates in column order.
             // The map keys are column names. The map values are 0-based indices.
-            Map<String, Integer> headerMap = this.getCSVParser().getHeaderMap();
+            Map<String, Integer> headerMap = useTokenizer()
+                    ? this.getTokenizerHeaderMap()
+                    : this.getCSVParser().getHeaderMap();
 
             // Generate list of keys
             List<String> headerVals = new ArrayList<>();
@@ -137,6 +190,9 @@ public class CsvDataSourceFormat extends AbstractDataSourceFormat {
             return CSVParser.parse(lines, format);
 
         } else if(dataSource instanceof URL){
+            if (null != remoteCache) {
+                return new CSVParser(new InputStreamReader(remoteCache.open((URL)dataSource), StandardCharsets.UTF_8), format);
+            }
             return CSVParser.parse((URL)dataSource, StandardCharsets.UTF_8, format);
 
         } else{
@@ -145,6 +201,124 @@ public class CsvDataSourceFormat extends AbstractDataSourceFormat {
     }
 
 
+    private boolean useTokenizer() {
+        return (null != tokenizer) && tokenizer.supports(getFormat());
+    }
+
+    /*
+     * Open the tokenizer on the data and skip the header record like CSVParser does: either the
+     * first record holds the headers, or the headers are given by the format and the first
+     * record is skipped if the format says so.
+     */
+    private CsvTokenizer.Records openRecords() throws Exception {
+        CSVFormat format = getFormat();
+        CsvTokenizer.Records records = tokenizer.open(getReader(), format);
+        String[] formatHeader = format.getHeader();
+        if ((null != formatHeader) && ((formatHeader.length == 0) || format.getSkipHeaderRecord())) {
+            records.next();
+        }
+        return records;
+    }
+
+    // Same rules as CSVParser for the header map: missing and duplicate names
+    private Map<String, Integer> getTokenizerHeaderMap() throws Exception {
+        CSVFormat format = getFormat();
+        String[] formatHeader = format.getHeader();
+        if (null == formatHeader) {
+            return null;
+        }
+        String[] headerRecord = formatHeader;
+        if (formatHeader.length == 0) {
+            headerRecord = null;
+            try (CsvTokenizer.Records records = tokenizer.open(getReader(), format)) {
+                CharSequence[] firstRecord = records.next();
+                if (null != firstRecord) {
+                    headerRecord = new String[firstRecord.length];
+                    for (int i = 0; i < firstRecord.length; i++) {
+                        headerRecord[i] = firstRecord[i].toString();
+                    }
+                }
+            }
+        }
+        Map<String, Integer> headerMap = new LinkedHashMap<>();
+        if (null != headerRecord) {
+            for (int i = 0; i < headerRecord.length; i++) {
+                String header = headerRecord[i];
+                boolean emptyHeader = (null == header) || header.trim().isEmpty();
+                if (emptyHeader && !format.getAllowMissingColumnNames()) {
+                    throw new IllegalArgumentException("A header name is missing in " + Arrays.toString(headerRecord));
+                }
+                if ((null != header) && headerMap.containsKey(header) && !emptyHeader
+                        && !format.getAllowDuplicateHeaderNames()) {
+                    throw new IllegalArgumentException("The header contains a duplicate name: \"" + header
+                            + "\" in " + Arrays.toString(headerRecord));
+                }
+                if (null != header) {
+                    headerMap.put(header, i);
+                }
+            }
+        }
+        return headerMap;
+    }
+
+    private Reader getReader() throws Exception {
+        if (dataSource instanceof String){
+            return new StringReader((String)dataSource);
+        } else if(dataSource instanceof File){
+            return new StringReader(getFileContents(((File)dataSource).getPath()));
+        } else if(dataSource instanceof URL){
+            InputStream in = (null != remoteCache)
+                    ? remoteCache.open((URL)dataSource)
+                    : ((URL)dataSource).openStream();
+            return new InputStreamReader(in, StandardCharsets.UTF_8);
+        } else{
+            throw new TableSchemaException("Data source is of invalid type.");
+        }
+    }
+
+    // Iterates over tokenized records, closes the input once all records have been read or on close()
+    private static class TokenizerIterator implements Iterator<CharSequence[]>, Closeable {
+        private final CsvTokenizer.Records records;
+        private CharSequence[] next;
+        private boolean fetched = false;
+
+        TokenizerIterator(CsvTokenizer.Records records) {
+            this.records = records;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (!fetched) {
+                try {
+                    next = records.next();
+                    if (null == next) {
+                        records.close();
+                    }
+                } catch (IOException ex) {
+                    throw new TableSchemaException(ex);
+                }
+                fetched = true;
+            }
+            return null != next;
+        }
+
+        @Override
+        public CharSequence[] next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            fetched = false;
+            return next;
+        }
+
+        @Override
+        public void close() throws IOException {
+            fetched = true;
+            next = null;
+            records.close();
+        }
+    }
+
     @Override
     public boolean hasReliableHeaders() {
         try {
@@ -0,0 +1,48 @@
+package io.frictionlessdata.tableschema.datasourceformat;
+
+import org.apache.commons.csv.CSVFormat;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+
+/**
+ * Splits CSV data into records and cell values. {@link CsvDataSourceFormat} parses with commons-csv
+ * unless a tokenizer is set, in which case it is used for every {@link CSVFormat} it
+ * {@link #supports(CSVFormat) supports}. Header handling stays with the CsvDataSourceFormat, a
+ * tokenizer returns all records including the header record.
+ *
+ * Implementations must produce the same records as commons-csv for the formats they support.
+ */
+public interface CsvTokenizer {
+
+    /**
+     * Signals whether the tokenizer implements all parsing options of a format.
+     * @param format the CSV format
+     * @return true if `format` can be parsed by this tokenizer
+     */
+    boolean supports(CSVFormat format);
+
+    /**
+     * Start tokenizing CSV data.
+     * @param input the data, closed when the returned Records are closed
+     * @param format the CSV format, one that this tokenizer {@link #supports(CSVFormat) supports}
+     * @return the records of `input`
+     * @throws IOException if reading fails
+     */
+    Records open(Reader input, CSVFormat format) throws IOException;
+
+    /**
+     * Cursor over the records of CSV data.
+     */
+    interface Records extends Closeable {
+
+        /**
+         * Read the next record. The values may be views into the read buffer, they are only valid
+         * until the next call to this method.
+         * @return the values of the next record or null if there are no more records
+         * @throws IOException if reading fails or the data is not valid CSV
+         */
+        CharSequence[] next() throws IOException;
+    }
+}
@@ -4,11 +4,13 @@
 package io.frictionlessdata.tableschema.datasourceformat;
 
 import io.frictionlessdata.tableschema.exception.TableSchemaException;
+import io.frictionlessdata.tableschema.io.RemoteCache;
 import io.frictionlessdata.tableschema.util.JsonUtil;
 
 import org.apache.commons.csv.CSVFormat;
 
 import java.io.*;
+import java.net.URL;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -31,6 +33,21 @@ public interface DataSourceFormat {
      */
     Iterator<String[]> iterator() throws Exception;
 
+    /**
+     * Returns an Iterator over the rows of data with the cell values as CharSequences. Formats that
+     * can hand out windows into their read buffer override this method so that cells which get cast
+     * into a non-string type never become String objects. The default returns the rows of
+     * {@link #iterator()}.
+     *
+     * The CharSequences of a row may be views that are only valid until the Iterator is called again,
+     * consumers have to call `toString()` on values they want to keep.
+     * @return Iterator over the data
+     * @throws Exception thrown if reading the data fails
+     */
+    default Iterator<? extends CharSequence[]> charSequenceIterator() throws Exception {
+        return iterator();
+    }
+
     /**
      * Returns the data headers if no headers were set or the set headers
      * @return Column headers as a String array
@@ -121,6 +138,17 @@ public interface DataSourceFormat {
                 .withRecordSeparator("\n");
     }
 
+    /**
+     * Factory method to instantiate a {@link CsvDataSourceFormat} reading CSV data from a URL. The data is
+     * not held in memory but read again on every pass, through the cache of local copies if one is given.
+     * @param input the URL of the CSV data
+     * @param remoteCache the cache to read the URL through or null
+     * @return DataSource created from the URL
+     */
+    static DataSourceFormat createDataSourceFormat(URL input, RemoteCache remoteCache) {
+        return new CsvDataSourceFormat(input).setRemoteCache(remoteCache);
+    }
+
     /**
      * Factory method to instantiate either a {@link JsonArrayDataSourceFormat} or a
      * {@link CsvDataSourceFormat}  based on input format
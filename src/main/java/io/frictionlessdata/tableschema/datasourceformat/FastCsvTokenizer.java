@@ -0,0 +1,473 @@
+package io.frictionlessdata.tableschema.datasourceformat;
+
+import io.frictionlessdata.tableschema.util.CharSlice;
+import org.apache.commons.csv.CSVFormat;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.Arrays;
+
+/**
+ * A {@link CsvTokenizer} for RFC 4180 style data, eg. {@link CSVFormat#RFC4180}, {@link CSVFormat#DEFAULT}
+ * or {@link CSVFormat#TDF}. It scans a char buffer with a small state machine and hands out cell values
+ * as {@link CharSlice} views into that buffer instead of copying them into Strings. Only quoted values
+ * with escaped (doubled) quotes get copied, into a scratch buffer.
+ *
+ * Supported options are the delimiter, the quote character (or none), `ignoreSurroundingSpaces`,
+ * `ignoreEmptyLines` and `trim`. Escape characters, comment markers, null strings and trailing
+ * delimiters are not supported, {@link CsvDataSourceFormat} falls back to commons-csv for those formats.
+ *
+ * Optionally, the tokenizer first builds a {@link StructuralIndex} of each buffer fill and then only
+ * visits the positions of delimiters and line breaks instead of every char. This pays off for wide
+ * tables with short values, for data with long values scanning char by char is just as fast.
+ *
+ * Instances are stateless and can be shared, each {@link #open(Reader, CSVFormat)} call returns
+ * independent Records.
+ */
+public class FastCsvTokenizer implements CsvTokenizer {
+    private static final int DEFAULT_BUFFER_SIZE = 64 * 1024;
+
+    private final int bufferSize;
+    private final boolean structuralIndex;
+
+    public FastCsvTokenizer() {
+        this(DEFAULT_BUFFER_SIZE, false);
+    }
+
+    /**
+     * @param bufferSize initial size of the read buffer in chars. The buffer grows if a record
+     *                   doesn't fit into it.
+     */
+    public FastCsvTokenizer(int bufferSize) {
+        this(bufferSize, false);
+    }
+
+    /**
+     * @param bufferSize initial size of the read buffer in chars. The buffer grows if a record
+     *                   doesn't fit into it.
+     * @param structuralIndex whether to find the value boundaries with a {@link StructuralIndex}
+     */
+    public FastCsvTokenizer(int bufferSize, boolean structuralIndex) {
+        if (bufferSize < 1) {
+            throw new IllegalArgumentException("Buffer size must be positive");
+        }
+        this.bufferSize = bufferSize;
+        this.structuralIndex = structuralIndex;
+    }
+
+    @Override
+    public boolean supports(CSVFormat format) {
+        char delimiter = format.getDelimiter();
+        return (null == format.getEscapeCharacter())
+                && (null == format.getCommentMarker())
+                && (null == format.getNullString())
+                && !format.getTrailingDelimiter()
+                && !format.getIgnoreHeaderCase()
+                && (delimiter != '\n') && (delimiter != '\r');
+    }
+
+    @Override
+    public Records open(Reader input, CSVFormat format) throws IOException {
+        if (!supports(format)) {
+            throw new IllegalArgumentException("CSV format not supported: " + format);
+        }
+        return new BufferedRecords(input, format, bufferSize, structuralIndex);
+    }
+
+    private static final class BufferedRecords implements Records {
+        private static final int RECORD = 0;
+        private static final int END = 1;
+        private static final int NEED_MORE = 2;
+
+        private final Reader reader;
+        private final char delimiter;
+        // -1 if quoting is disabled
+        private final int quote;
+        private final boolean ignoreSurroundingSpaces;
+        private final boolean ignoreEmptyLines;
+        private final boolean trim;
+
+        private char[] buffer;
+        private int position = 0;
+        private int limit = 0;
+        private boolean eof = false;
+
+        // unescaped values of quoted cells with doubled quotes
+        private char[] scratch = new char[256];
+        private int scratchPosition = 0;
+
+        // null if parsing char by char
+        private final StructuralIndex index;
+        // set after a fall back to parsing char by char, until the next fill
+        private boolean indexSuspended = false;
+
+        // one reusable view per column
+        private CharSlice[] cells = new CharSlice[16];
+        private int cellCount = 0;
+        private long recordNumber = 0;
+
+        BufferedRecords(Reader reader, CSVFormat format, int bufferSize, boolean structuralIndex) {
+            this.reader = reader;
+            this.delimiter = format.getDelimiter();
+            this.quote = (null != format.getQuoteCharacter()) ? format.getQuoteCharacter() : -1;
+            this.ignoreSurroundingSpaces = format.getIgnoreSurroundingSpaces();
+            this.ignoreEmptyLines = format.getIgnoreEmptyLines();
+            this.trim = format.getTrim();
+            this.buffer = new char[bufferSize];
+            this.index = structuralIndex ? new StructuralIndex() : null;
+            for (int i = 0; i < cells.length; i++) {
+                cells[i] = new CharSlice();
+            }
+        }
+
+        @Override
+        public CharSequence[] next() throws IOException {
+            while (true) {
+                int result = ((null != index) && !indexSuspended) ? parseIndexedRecord() : parseRecord();
+                if (result == RECORD) {
+                    recordNumber++;
+                    return Arrays.copyOf(cells, cellCount, CharSequence[].class);
+                } else if (result == END) {
+                    return null;
+                }
+                fill();
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            reader.close();
+        }
+
+        /*
+         * Move the unparsed rest of the buffer to its start, grow it if the rest fills the whole buffer,
+         * and read more data. Invalidates all views handed out so far.
+         */
+        private void fill() throws IOException {
+            if (null != index) {
+                index.invalidate();
+                indexSuspended = false;
+            }
+            if (position > 0) {
+                System.arraycopy(buffer, position, buffer, 0, limit - position);
+                limit -= position;
+                position = 0;
+            }
+            if (limit == buffer.length) {
+                buffer = Arrays.copyOf(buffer, buffer.length * 2);
+            }
+            int read = reader.read(buffer, limit, buffer.length - limit);
+            if (read < 0) {
+                eof = true;
+            } else {
+                limit += read;
+            }
+        }
+
+        /*
+         * Parse one record starting at `position`. If the buffer ends before the record does, NEED_MORE
+         * is returned and parsing starts over at the same position after the buffer has been filled.
+         * Follows the commons-csv Lexer: a record starts at the start of a line, the following cells
+         * after a delimiter, which is why a delimiter right before the end of data results in an empty
+         * last cell while a line break right before the end of data doesn't start a new record.
+         */
+        private int parseRecord() throws IOException {
+            final char[] buf = buffer;
+            final int lim = limit;
+            final char delim = delimiter;
+            int i = position;
+            cellCount = 0;
+            scratchPosition = 0;
+
+            if (ignoreEmptyLines) {
+                while ((i < lim) && ((buf[i] == '\n') || (buf[i] == '\r'))) {
+                    i++;
+                }
+                // empty lines don't belong to any record, no need to scan them again
+                position = i;
+            }
+            if (i == lim) {
+                return eof ? END : NEED_MORE;
+            }
+
+            while (true) {
+                if (ignoreSurroundingSpaces) {
+                    while ((i < lim) && isSurroundingSpace(buf[i])) {
+                        i++;
+                    }
+                }
+                if (i == lim) {
+                    if (!eof) {
+                        return NEED_MORE;
+                    }
+                    addCell(buf, i, i);
+                    position = i;
+                    return RECORD;
+                }
+                char c = buf[i];
+                if (c == delim) {
+                    addCell(buf, i, i);
+                    i++;
+                } else if ((c == '\n') || (c == '\r')) {
+                    int next = skipLineBreak(i);
+                    if (next < 0) {
+                        return NEED_MORE;
+                    }
+                    addCell(buf, i, i);
+                    position = next;
+                    return RECORD;
+                } else if (c == quote) {
+                    int contentStart = i + 1;
+                    int j = contentStart;
+                    int escapedQuotes = 0;
+                    while (true) {
+                        while ((j < lim) && (buf[j] != c)) {
+                            j++;
+                        }
+                        if (j == lim) {
+                            if (eof) {
+                                throw new IOException("(record " + (recordNumber + 1)
+                                        + ") EOF reached before encapsulated token finished");
+                            }
+                            return NEED_MORE;
+                        }
+                        if (j + 1 == lim) {
+                            if (!eof) {
+                                return NEED_MORE;
+                            }
+                            break;
+                        }
+                        if (buf[j + 1] != c) {
+                            break;
+                        }
+                        escapedQuotes++;
+                        j += 2;
+                    }
+                    int contentEnd = j;
+                    // only whitespace is allowed between the closing quote and the delimiter
+                    int k = j + 1;
+                    while ((k < lim) && isSurroundingSpace(buf[k])) {
+                        k++;
+                    }
+                    if (k == lim) {
+                        if (!eof) {
+                            return NEED_MORE;
+                        }
+                        addQuotedCell(buf, contentStart, contentEnd, escapedQuotes);
+                        position = k;
+                        return RECORD;
+                    }
+                    char d = buf[k];
+                    if (d == delim) {
+                        addQuotedCell(buf, contentStart, contentEnd, escapedQuotes);
+                        i = k + 1;
+                    } else if ((d == '\n') || (d == '\r')) {
+                        int next = skipLineBreak(k);
+                        if (next < 0) {
+                            return NEED_MORE;
+                        }
+                        addQuotedCell(buf, contentStart, contentEnd, escapedQuotes);
+                        position = next;
+                        return RECORD;
+                    } else {
+                        throw new IOException("(record " + (recordNumber + 1)
+                                + ") invalid char between encapsulated token and delimiter");
+                    }
+                } else {
+                    // the hot loop: unquoted value
+                    int j = i + 1;
+                    while (j < lim) {
+                        char d = buf[j];
+                        if ((d == delim) || (d == '\n') || (d == '\r')) {
+                            break;
+                        }
+                        j++;
+                    }
+                    if ((j == lim) && !eof) {
+                        return NEED_MORE;
+                    }
+                    int end = j;
+                    if (ignoreSurroundingSpaces) {
+                        while ((end > i) && Character.isWhitespace(buf[end - 1])) {
+                            end--;
+                        }
+                    }
+                    if (j == lim) {
+                        addCell(buf, i, end);
+                        position = j;
+                        return RECORD;
+                    }
+                    if (buf[j] == delim) {
+                        addCell(buf, i, end);
+                        i = j + 1;
+                    } else {
+                        int next = skipLineBreak(j);
+                        if (next < 0) {
+                            return NEED_MORE;
+                        }
+                        addCell(buf, i, end);
+                        position = next;
+                        return RECORD;
+                    }
+                }
+            }
+        }
+
+        /*
+         * Parse one record starting at `position` by jumping from one delimiter or line break to the
+         * next. Values that are not RFC 4180 compliant, eg. with a quote in the middle of an unquoted
+         * value, break the assumptions of the index: the record is then parsed by parseRecord(),
+         * which applies the commons-csv rules, and the index is rebuilt for the following records.
+         */
+        private int parseIndexedRecord() throws IOException {
+            final char[] buf = buffer;
+            final int lim = limit;
+            final char delim = delimiter;
+            int i = position;
+            cellCount = 0;
+            scratchPosition = 0;
+
+            if (ignoreEmptyLines) {
+                while ((i < lim) && ((buf[i] == '\n') || (buf[i] == '\r'))) {
+                    i++;
+                }
+                position = i;
+            }
+            if (i == lim) {
+                return eof ? END : NEED_MORE;
+            }
+            if (!index.covers(i, lim)) {
+                index.build(buf, i, lim, delim, quote);
+            }
+
+            while (true) {
+                int boundary = index.nextStructural(i);
+                if ((boundary < 0) && !eof) {
+                    return NEED_MORE;
+                }
+                int cellEnd = (boundary < 0) ? lim : boundary;
+                int start = i;
+                if (ignoreSurroundingSpaces) {
+                    while ((start < cellEnd) && isSurroundingSpace(buf[start])) {
+                        start++;
+                    }
+                }
+                int firstQuote = (quote < 0) ? -1 : index.nextQuote(i, cellEnd);
+                if (firstQuote < 0) {
+                    int end = cellEnd;
+                    if (ignoreSurroundingSpaces) {
+                        while ((end > start) && Character.isWhitespace(buf[end - 1])) {
+                            end--;
+                        }
+                    }
+                    addCell(buf, start, end);
+                } else {
+                    if (firstQuote != start) {
+                        return fallBack();
+                    }
+                    int escapedQuotes = 0;
+                    int closingQuote;
+                    int p = firstQuote + 1;
+                    while (true) {
+                        closingQuote = index.nextQuote(p, cellEnd);
+                        if (closingQuote < 0) {
+                            return fallBack();
+                        }
+                        if ((closingQuote + 1 < cellEnd) && (buf[closingQuote + 1] == quote)) {
+                            escapedQuotes++;
+                            p = closingQuote + 2;
+                        } else {
+                            break;
+                        }
+                    }
+                    for (int k = closingQuote + 1; k < cellEnd; k++) {
+                        if (!isSurroundingSpace(buf[k])) {
+                            return fallBack();
+                        }
+                    }
+                    addQuotedCell(buf, firstQuote + 1, closingQuote, escapedQuotes);
+                }
+                if (boundary < 0) {
+                    position = lim;
+                    return RECORD;
+                }
+                if (buf[boundary] == delim) {
+                    i = boundary + 1;
+                } else {
+                    int next = skipLineBreak(boundary);
+                    if (next < 0) {
+                        return NEED_MORE;
+                    }
+                    position = next;
+                    return RECORD;
+                }
+            }
+        }
+
+        /*
+         * Parse the record char by char. The index is of no use for the rest of the buffer, as it might
+         * be off about what is quoted, and rebuilding it after every irregular record could be quadratic.
+         */
+        private int fallBack() throws IOException {
+            index.invalidate();
+            indexSuspended = true;
+            return parseRecord();
+        }
+
+        // index after the line break at `index`, -1 if we can't tell yet whether a CR is followed by LF
+        private int skipLineBreak(int index) {
+            if (buffer[index] == '\n') {
+                return index + 1;
+            }
+            if (index + 1 < limit) {
+                return (buffer[index + 1] == '\n') ? index + 2 : index + 1;
+            }
+            return eof ? index + 1 : -1;
+        }
+
+        // same as the commons-csv Lexer: whitespace, but neither the delimiter nor a line break
+        private boolean isSurroundingSpace(char c) {
+            return (c != delimiter) && (c != '\n') && (c != '\r') && Character.isWhitespace(c);
+        }
+
+        private void addQuotedCell(char[] buf, int start, int end, int escapedQuotes) {
+            if (escapedQuotes == 0) {
+                addCell(buf, start, end);
+                return;
+            }
+            int length = end - start - escapedQuotes;
+            if (scratchPosition + length > scratch.length) {
+                // cells of this record still point to the old array, so don't copy but start over
+                scratch = new char[Math.max(scratch.length * 2, length)];
+                scratchPosition = 0;
+            }
+            int cellStart = scratchPosition;
+            for (int p = start; p < end; p++) {
+                char c = buf[p];
+                scratch[scratchPosition++] = c;
+                if (c == quote) {
+                    p++;
+                }
+            }
+            addCell(scratch, cellStart, scratchPosition);
+        }
+
+        private void addCell(char[] array, int start, int end) {
+            if (trim) {
+                while ((start < end) && (array[start] <= ' ')) {
+                    start++;
+                }
+                while ((start < end) && (array[end - 1] <= ' ')) {
+                    end--;
+                }
+            }
+            if (cellCount == cells.length) {
+                cells = Arrays.copyOf(cells, cells.length * 2);
+                for (int i = cellCount; i < cells.length; i++) {
+                    cells[i] = new CharSlice();
+                }
+            }
+            cells[cellCount++].set(array, start, end - start);
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package io.frictionlessdata.tableschema.datasourceformat;
+
+/**
+ * Bitmap index of the structural characters in a char buffer, built the way simdjson does for JSON:
+ * the first stage classifies blocks of 64 chars into a bitmask of quote positions and a bitmask of
+ * delimiter and line break positions, the second stage masks out the delimiters and line breaks
+ * between quotes. Quoted regions are found with a prefix XOR over the quote mask, which toggles
+ * state on every quote. A doubled (escaped) quote toggles twice and leaves the region intact.
+ *
+ * The tokenizer then jumps from boundary to boundary with {@link Long#numberOfTrailingZeros(long)}
+ * instead of looking at every char.
+ *
+ * The index assumes the data is RFC 4180 style, ie. quotes only open at the start of a value. The
+ * tokenizer checks this for every value it extracts and falls back to char-by-char parsing
+ * otherwise. Instances are reused for consecutive buffer fills and are not thread-safe.
+ */
+final class StructuralIndex {
+    private long[] structural = new long[0];
+    private long[] quotes = new long[0];
+    // buffer index of bit 0 in word 0, the index covers [base, end)
+    private int base;
+    private int end;
+    private int words;
+    private boolean valid = false;
+
+    /**
+     * Index `buffer` from `from` to `to`. `from` has to be outside of quotes, eg. the start of a record.
+     */
+    void build(char[] buffer, int from, int to, char delimiter, int quote) {
+        words = (to - from + 63) >>> 6;
+        if (structural.length < words) {
+            structural = new long[words];
+            quotes = new long[words];
+        }
+        // all bits set while inside of quotes at the end of the previous word
+        long inQuotes = 0;
+        for (int w = 0; w < words; w++) {
+            int start = from + (w << 6);
+            int count = Math.min(64, to - start);
+            long quoteBits = 0;
+            long structuralBits = 0;
+            for (int k = 0; k < count; k++) {
+                char c = buffer[start + k];
+                if (c == quote) {
+                    quoteBits |= 1L << k;
+                } else if ((c == delimiter) || (c == '\n') || (c == '\r')) {
+                    structuralBits |= 1L << k;
+                }
+            }
+            long quoted = prefixXor(quoteBits) ^ inQuotes;
+            structural[w] = structuralBits & ~quoted;
+            quotes[w] = quoteBits;
+            // replicate the state of the last char of the word into all bits
+            inQuotes = (quoted << (63 - (count - 1))) >> 63;
+        }
+        base = from;
+        end = to;
+        valid = true;
+    }
+
+    void invalidate() {
+        valid = false;
+    }
+
+    /**
+     * Signals whether the index can be used for a record starting at `from` in a buffer with
+     * data up to `limit`.
+     */
+    boolean covers(int from, int limit) {
+        return valid && (from >= base) && (end == limit);
+    }
+
+    /**
+     * @return buffer index of the first delimiter or line break outside quotes at or after `from`,
+     *      -1 if there is none in the indexed range
+     */
+    int nextStructural(int from) {
+        return next(structural, from, end);
+    }
+
+    /**
+     * @return buffer index of the first quote in [from, to), -1 if there is none
+     */
+    int nextQuote(int from, int to) {
+        return next(quotes, from, to);
+    }
+
+    private int next(long[] bitmap, int from, int to) {
+        if (from >= to) {
+            return -1;
+        }
+        int offset = from - base;
+        int w = offset >>> 6;
+        long bits = bitmap[w] & (-1L << (offset & 63));
+        int lastWord = (to - 1 - base) >>> 6;
+        while (bits == 0) {
+            if (++w > lastWord) {
+                return -1;
+            }
+            bits = bitmap[w];
+        }
+        int index = base + (w << 6) + Long.numberOfTrailingZeros(bits);
+        return (index < to) ? index : -1;
+    }
+
+    // bit i of the result is the XOR of the bits 0 to i of x
+    private static long prefixXor(long x) {
+        x ^= x << 1;
+        x ^= x << 2;
+        x ^= x << 4;
+        x ^= x << 8;
+        x ^= x << 16;
+        x ^= x << 32;
+        return x;
+    }
+}
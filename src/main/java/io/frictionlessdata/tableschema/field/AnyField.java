@@ -22,8 +22,7 @@ public class AnyField extends Field<Object> {
     }
 
     @Override
-    public Object parseValue(String value, String format, Map<String, Object> options)
-            throws InvalidCastException, ConstraintsException {
+    public Object tryParseValue(String value, String format, Map<String, Object> options) {
         return value;
     }
 
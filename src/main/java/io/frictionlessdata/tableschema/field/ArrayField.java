@@ -24,9 +24,17 @@ public class ArrayField extends Field<Object[]> {
     }
 
     @Override
-    public Object[] parseValue(String value, String format, Map<String, Object> options)
-            throws InvalidCastException, ConstraintsException {
-        return JsonUtil.getInstance().deserialize(value, Object[].class);
+    public Object tryParseValue(String value, String format, Map<String, Object> options) {
+        // only a JSON array or `null` can be deserialized
+        char first = firstNonWhitespaceChar(value);
+        if ((first != '[') && (first != 'n')) {
+            return INVALID_VALUE;
+        }
+        try {
+            return JsonUtil.getInstance().deserialize(value, Object[].class);
+        } catch (Exception ex) {
+            return INVALID_VALUE;
+        }
     }
 
     @Override
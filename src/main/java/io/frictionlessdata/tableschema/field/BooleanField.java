@@ -36,16 +36,22 @@ public class BooleanField extends Field<Boolean> {
     }
 
     public void setTrueValues(List<String> newValues) {
+        checkNotFrozen();
         trueValues = newValues;
     }
 
     public void setFalseValues(List<String> newValues) {
+        checkNotFrozen();
         falseValues = newValues;
     }
 
     @Override
-    public Boolean parseValue(String value, String format, Map<String, Object> options)
-            throws InvalidCastException, ConstraintsException {
+    public Object tryParseValue(String value, String format, Map<String, Object> options) {
+        return tryParseValue((CharSequence)value, format, options);
+    }
+
+    @Override
+    public Object tryParseValue(CharSequence value, String format, Map<String, Object> options) {
         List<String> trueValuesToUse = trueValues;
         List<String> falseValuesToUse = falseValues;
         if (null != options) {
@@ -57,15 +63,37 @@ public class BooleanField extends Field<Boolean> {
             }
         }
 
-        if (trueValuesToUse.contains(value)){
+        if (containsValue(trueValuesToUse, value)){
             return true;
 
-        }else if (falseValuesToUse.contains(value)){
+        }else if (containsValue(falseValuesToUse, value)){
             return false;
 
         }else{
+            return INVALID_VALUE;
+        }
+    }
+
+    private static boolean containsValue(List<String> values, CharSequence value) {
+        if (value instanceof String) {
+            return values.contains(value);
+        }
+        for (String candidate : values) {
+            if ((null != candidate) && candidate.contentEquals(value)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public Boolean parseValue(String value, String format, Map<String, Object> options)
+            throws InvalidCastException, ConstraintsException {
+        Object parsed = tryParseValue(value, format, options);
+        if (parsed == INVALID_VALUE) {
             throw new InvalidCastException("Value "+value+" not in '"+BOOLEAN_OPTION_TRUE_VALUES+"' or '"+BOOLEAN_OPTION_FALSE_VALUES+"'");
         }
+        return (Boolean)parsed;
     }
 
     @Override
@@ -90,6 +118,11 @@ public class BooleanField extends Field<Boolean> {
         return (value) ? trueValue : falseValue;
     }
 
+    @Override
+    boolean hasImmutableValues() {
+        return true;
+    }
+
     @Override
     public String parseFormat(String value, Map<String, Object> options) {
         return "default";
@@ -123,12 +156,14 @@ public class BooleanField extends Field<Boolean> {
 
     @Override
     public Map<String, Object> getOptions() {
-        if (options == null) {
-            options = new HashMap<>();
-            options.put(BOOLEAN_OPTION_FALSE_VALUES, falseValues);
-            options.put(BOOLEAN_OPTION_TRUE_VALUES, trueValues);
+        Map<String, Object> opts = options;
+        if (opts == null) {
+            opts = new HashMap<>();
+            opts.put(BOOLEAN_OPTION_FALSE_VALUES, falseValues);
+            opts.put(BOOLEAN_OPTION_TRUE_VALUES, trueValues);
+            options = opts;
         }
-        return options;
+        return opts;
     }
 
 }
@@ -0,0 +1,302 @@
+package io.frictionlessdata.tableschema.field;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.frictionlessdata.tableschema.validation.ValidationContext;
+
+import java.time.*;
+import java.util.*;
+import java.util.regex.Pattern;
+
+import static io.frictionlessdata.tableschema.field.Field.*;
+
+/**
+ * Compiled form of one Field constraint. A Field compiles its constraints Map once into an array of
+ * checkers, so that checking a value neither looks up the constraints Map nor allocates anything
+ * as long as the value is valid.
+ *
+ * Checkers are immutable and can be shared between threads.
+ */
+abstract class ConstraintChecker {
+    private static final ConstraintChecker[] NO_CHECKERS = new ConstraintChecker[0];
+
+    // Value types compared against `minimum`/`maximum`/`enum` via compareTo(). All of them are final classes
+    private static final Set<Class<?>> COMPARABLE_TYPES = new HashSet<>(Arrays.asList(
+            LocalTime.class, LocalDate.class, Year.class, YearMonth.class, Duration.class));
+
+    final String key;
+
+    ConstraintChecker(String key) {
+        this.key = key;
+    }
+
+    /**
+     * Check a value against the constraint.
+     * @param field the Field the value belongs to
+     * @param value the cast value, can be null
+     * @param context the iteration context, can be null
+     * @return null if the value is valid, the value to report for the violated constraint otherwise
+     */
+    abstract Object check(Field<?> field, Object value, ValidationContext context);
+
+    /**
+     * Compile the constraints of a Field. Called after {@link Field#validate()} has converted
+     * the constraint values into the Field type.
+     * @param field the Field to compile the constraints for
+     * @return the checkers, empty if the Field has no constraints
+     */
+    static ConstraintChecker[] compile(Field<?> field) {
+        Map<String, Object> constraints = field.getConstraints();
+        if ((null == constraints) || constraints.isEmpty()) {
+            return NO_CHECKERS;
+        }
+        List<ConstraintChecker> checkers = new ArrayList<>();
+        Object required = constraints.get(CONSTRAINT_KEY_REQUIRED);
+        if ((null != required) && Boolean.parseBoolean(required.toString())) {
+            checkers.add(new RequiredChecker());
+        }
+        if (constraints.containsKey(CONSTRAINT_KEY_MIN_LENGTH)) {
+            checkers.add(new LengthChecker(CONSTRAINT_KEY_MIN_LENGTH,
+                    ((Number)constraints.get(CONSTRAINT_KEY_MIN_LENGTH)).intValue(), false));
+        }
+        if (constraints.containsKey(CONSTRAINT_KEY_MAX_LENGTH)) {
+            checkers.add(new LengthChecker(CONSTRAINT_KEY_MAX_LENGTH,
+                    ((Number)constraints.get(CONSTRAINT_KEY_MAX_LENGTH)).intValue(), true));
+        }
+        if (constraints.containsKey(CONSTRAINT_KEY_MINIMUM)) {
+            checkers.add(new RangeChecker(CONSTRAINT_KEY_MINIMUM, field,
+                    constraints.get(CONSTRAINT_KEY_MINIMUM), false));
+        }
+        if (constraints.containsKey(CONSTRAINT_KEY_MAXIMUM)) {
+            checkers.add(new RangeChecker(CONSTRAINT_KEY_MAXIMUM, field,
+                    constraints.get(CONSTRAINT_KEY_MAXIMUM), true));
+        }
+        if (constraints.containsKey(CONSTRAINT_KEY_PATTERN)) {
+            checkers.add(new PatternChecker((String)constraints.get(CONSTRAINT_KEY_PATTERN)));
+        }
+        if (constraints.containsKey(CONSTRAINT_KEY_ENUM)) {
+            checkers.add(new EnumChecker(field, constraints.get(CONSTRAINT_KEY_ENUM)));
+        }
+        Object unique = constraints.get(CONSTRAINT_KEY_UNIQUE);
+        if ((null != unique) && Boolean.parseBoolean(unique.toString())) {
+            checkers.add(new UniqueChecker());
+        }
+        return checkers.toArray(NO_CHECKERS);
+    }
+
+    // Indicates whether this field is allowed to be null. If required is true, then null is disallowed.
+    private static final class RequiredChecker extends ConstraintChecker {
+        RequiredChecker() {
+            super(CONSTRAINT_KEY_REQUIRED);
+        }
+
+        @Override
+        Object check(Field<?> field, Object value, ValidationContext context) {
+            return (null == value) ? Boolean.TRUE : null;
+        }
+    }
+
+    // Minimum or maximum length of a string or the number of items of a JSON object/array.
+    private static final class LengthChecker extends ConstraintChecker {
+        private final int length;
+        private final Integer report;
+        private final boolean isMax;
+
+        LengthChecker(String key, int length, boolean isMax) {
+            super(key);
+            this.length = length;
+            this.report = length;
+            this.isMax = isMax;
+        }
+
+        @Override
+        Object check(Field<?> field, Object value, ValidationContext context) {
+            int valueLength;
+            if (value instanceof String) {
+                valueLength = ((String)value).length();
+            } else if (value instanceof JsonNode) {
+                valueLength = ((JsonNode)value).size();
+            } else {
+                return null;
+            }
+            boolean violated = isMax ? (valueLength > length) : (valueLength < length);
+            return violated ? report : null;
+        }
+    }
+
+    /*
+     * Minimum or maximum value. The range checking depends on the type of the value, numbers are
+     * compared as primitives, temporal values against the bounds pre-parsed in Field.validate().
+     */
+    private static final class RangeChecker extends ConstraintChecker {
+        private final Object bound;
+        private final boolean isMax;
+        private final boolean integerField;
+        private long longBound;
+        private double doubleBound;
+        private Object numberReport;
+
+        RangeChecker(String key, Field<?> field, Object bound, boolean isMax) {
+            super(key);
+            this.bound = bound;
+            this.isMax = isMax;
+            this.integerField = (field instanceof IntegerField);
+            if (field instanceof IntegerField) {
+                int intBound = Integer.parseInt(bound.toString());
+                longBound = intBound;
+                numberReport = intBound;
+            } else if (field instanceof NumberField) {
+                doubleBound = Double.parseDouble(bound.toString());
+                numberReport = doubleBound;
+            } else {
+                try {
+                    doubleBound = Double.parseDouble(bound.toString());
+                    numberReport = doubleBound;
+                } catch (NumberFormatException ex) {
+                    // not numeric, only temporal values can be checked against this bound
+                }
+            }
+        }
+
+        @Override
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        Object check(Field<?> field, Object value, ValidationContext context) {
+            if (null == value) {
+                return null;
+            }
+            if (value instanceof Number) {
+                if (null == numberReport) {
+                    throw new NumberFormatException("Not a numeric bound: " + bound);
+                }
+                boolean violated;
+                if (integerField) {
+                    long longValue = ((Number)value).longValue();
+                    violated = isMax ? (longValue > longBound) : (longValue < longBound);
+                } else {
+                    double doubleValue = ((Number)value).doubleValue();
+                    violated = isMax ? (doubleValue > doubleBound) : (doubleValue < doubleBound);
+                }
+                return violated ? numberReport : null;
+            } else if (value instanceof ZonedDateTime) {
+                ZonedDateTime zonedBound = (ZonedDateTime)bound;
+                boolean violated = isMax
+                        ? ((ZonedDateTime)value).isAfter(zonedBound)
+                        : ((ZonedDateTime)value).isBefore(zonedBound);
+                return violated ? bound : null;
+            } else if (COMPARABLE_TYPES.contains(value.getClass())) {
+                // cast to the value type to fail like a typed comparison would for mismatched bounds
+                int comparison = ((Comparable)value).compareTo(value.getClass().cast(bound));
+                return (isMax ? (comparison > 0) : (comparison < 0)) ? bound : null;
+            }
+            return null;
+        }
+    }
+
+    // A regular expression that can be used to test field values. If the regular expression matches then the value is valid.
+    private static final class PatternChecker extends ConstraintChecker {
+        private final String regex;
+        private final Pattern pattern;
+
+        PatternChecker(String regex) {
+            super(CONSTRAINT_KEY_PATTERN);
+            this.regex = regex;
+            this.pattern = Pattern.compile(regex);
+        }
+
+        @Override
+        Object check(Field<?> field, Object value, ValidationContext context) {
+            if (value instanceof String) {
+                return pattern.matcher((String)value).matches() ? null : regex;
+            }
+            // If the value is not a String, then just interpret as a constraint violation.
+            return (null != value) ? regex : null;
+        }
+    }
+
+    /*
+     * The value of the field must exactly match a value in the enum array. Strings are matched
+     * case-insensitively, with an exact hash lookup first, numbers via binary search on
+     * primitive arrays and all other values via hash lookup.
+     */
+    private static final class EnumChecker extends ConstraintChecker {
+        private final Object report;
+        private final boolean integerField;
+        private final Set<Object> values = new HashSet<>();
+        private final Set<String> caseInsensitiveValues = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+        private final int[] intValues;
+        private final double[] doubleValues;
+
+        EnumChecker(Field<?> field, Object enumValues) {
+            super(CONSTRAINT_KEY_ENUM);
+            this.report = enumValues;
+            this.integerField = (field instanceof IntegerField);
+            List<?> list = (List<?>)enumValues;
+            List<Number> numbers = new ArrayList<>();
+            for (Object item : list) {
+                if (null == item)
+                    continue;
+                values.add(item);
+                if (item instanceof String) {
+                    caseInsensitiveValues.add((String)item);
+                } else if (item instanceof Number) {
+                    numbers.add((Number)item);
+                }
+            }
+            intValues = new int[numbers.size()];
+            doubleValues = new double[numbers.size()];
+            for (int i = 0; i < numbers.size(); i++) {
+                intValues[i] = numbers.get(i).intValue();
+                doubleValues[i] = numbers.get(i).doubleValue();
+            }
+            Arrays.sort(intValues);
+            Arrays.sort(doubleValues);
+        }
+
+        @Override
+        Object check(Field<?> field, Object value, ValidationContext context) {
+            if (null == value) {
+                // A null value would never be checked against a set of enum values.
+                return null;
+            }
+            boolean found;
+            if (value instanceof String) {
+                found = values.contains(value) || caseInsensitiveValues.contains(value);
+            } else if (value instanceof Number) {
+                if (integerField) {
+                    found = Arrays.binarySearch(intValues, ((Number)value).intValue()) >= 0;
+                } else {
+                    double d = ((Number)value).doubleValue();
+                    // binarySearch uses Double.compare(), which differs from == for NaN and signed zeros
+                    if (Double.isNaN(d)) {
+                        found = false;
+                    } else if (d == 0) {
+                        found = (Arrays.binarySearch(doubleValues, 0.0d) >= 0)
+                                || (Arrays.binarySearch(doubleValues, -0.0d) >= 0);
+                    } else {
+                        found = Arrays.binarySearch(doubleValues, d) >= 0;
+                    }
+                }
+            } else if ((value instanceof JsonNode) || (value instanceof ZonedDateTime)
+                    || COMPARABLE_TYPES.contains(value.getClass())) {
+                found = values.contains(value);
+            } else {
+                found = false;
+            }
+            return found ? null : report;
+        }
+    }
+
+    // All values for that field MUST be unique within the data file in which it is found.
+    private static final class UniqueChecker extends ConstraintChecker {
+        UniqueChecker() {
+            super(CONSTRAINT_KEY_UNIQUE);
+        }
+
+        @Override
+        Object check(Field<?> field, Object value, ValidationContext context) {
+            if ((null != value) && !field.addUniqueValue(value, context)) {
+                return Boolean.TRUE;
+            }
+            return null;
+        }
+    }
+}
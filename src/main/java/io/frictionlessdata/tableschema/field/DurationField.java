@@ -2,13 +2,17 @@ package io.frictionlessdata.tableschema.field;
 
 import io.frictionlessdata.tableschema.exception.ConstraintsException;
 import io.frictionlessdata.tableschema.exception.InvalidCastException;
-import io.frictionlessdata.tableschema.exception.TypeInferringException;
 
 import java.net.URI;
 import java.time.Duration;
 import java.util.Map;
+import java.util.regex.Pattern;
 
 public class DurationField extends Field<Duration> {
+    // Same syntax as accepted by Duration.parse(), used to reject invalid values without an exception
+    private static final Pattern PATTERN_DURATION = Pattern.compile(
+            "[-+]?P(?:[-+]?[0-9]+D)?(T(?:[-+]?[0-9]+H)?(?:[-+]?[0-9]+M)?(?:[-+]?[0-9]+(?:[.,][0-9]{0,9})?S)?)?",
+            Pattern.CASE_INSENSITIVE);
 
     DurationField() {
         super();
@@ -24,12 +28,15 @@ public class DurationField extends Field<Duration> {
     }
 
     @Override
-    public Duration parseValue(String value, String format, Map<String, Object> options)
-            throws InvalidCastException, ConstraintsException {
+    public Object tryParseValue(String value, String format, Map<String, Object> options) {
+        if (!PATTERN_DURATION.matcher(value).matches()) {
+            return INVALID_VALUE;
+        }
         try{
             return Duration.parse(value);
         }catch(Exception e){
-            throw new TypeInferringException(e);
+            // numeric overflow or "P"/"PT" without any amount
+            return INVALID_VALUE;
         }
     }
 
@@ -39,6 +46,11 @@ public class DurationField extends Field<Duration> {
     }
 
 
+    @Override
+    boolean hasImmutableValues() {
+        return true;
+    }
+
     @Override
     public String parseFormat(String value, Map<String, Object> options) {
         return "default";
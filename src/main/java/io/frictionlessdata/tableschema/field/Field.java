@@ -2,18 +2,17 @@ package io.frictionlessdata.tableschema.field;
 
 import com.fasterxml.jackson.annotation.*;
 import com.fasterxml.jackson.annotation.JsonInclude.Include;
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.node.ArrayNode;
 import io.frictionlessdata.tableschema.exception.ConstraintsException;
 import io.frictionlessdata.tableschema.exception.InvalidCastException;
+import io.frictionlessdata.tableschema.exception.TypeInferringException;
 import io.frictionlessdata.tableschema.util.JsonUtil;
+import io.frictionlessdata.tableschema.validation.CastCache;
+import io.frictionlessdata.tableschema.validation.ValidationContext;
 import org.apache.commons.lang3.StringUtils;
 
 import java.net.URI;
 import java.time.*;
 import java.util.*;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 /**
  * Definition of a field in a data table. Doesn't hold values
@@ -149,11 +148,16 @@ public abstract class Field<T> {
 
     Map<String, Object> constraints = null;
 
-    Map<String, Object> options = null;
+    // volatile so that lazily created default options are safely published to other threads
+    volatile Map<String, Object> options = null;
 
+    // only used for `unique` checks without a ValidationContext, guarded by `this`
     private Set<Object> existingValues = null;
     private Set<String> missingValues = null;
+    private MissingValueMatcher missingValueMatcher = MissingValueMatcher.DEFAULT;
     private boolean javaBasedDateFormats = false;
+    private volatile boolean frozen = false;
+    private volatile ConstraintChecker[] constraintCheckers = null;
 
     /**
      * Constructor for our reflection-based instantiation only
@@ -189,8 +193,66 @@ public abstract class Field<T> {
     }
 
 
-    public abstract T parseValue(String value, String format, Map<String, Object> options)
-            throws InvalidCastException, ConstraintsException;
+    /**
+     * Returned by {@link #tryParseValue(String, String, Map)} if a value cannot be parsed into the
+     * Field type. Compare by identity.
+     */
+    public static final Object INVALID_VALUE = new Object() {
+        @Override
+        public String toString() {
+            return "INVALID_VALUE";
+        }
+    };
+
+    /**
+     * Parse a value into the Field type without throwing an exception if it is not parseable, which makes
+     * this method considerably cheaper than {@link #parseValue(String, String, Map)} for invalid input, eg. during
+     * type inferral or when collecting validation errors.
+     *
+     * Does not check constraints.
+     * @param value the value string to parse
+     * @param format the Field format to use
+     * @param options parsing options
+     * @return either the parsed value (which can be null) or {@link #INVALID_VALUE} if `value` cannot
+     *      be parsed
+     */
+    public abstract Object tryParseValue(String value, String format, Map<String, Object> options);
+
+    /**
+     * Parse a value held in a CharSequence, eg. a window into the read buffer of a
+     * {@link io.frictionlessdata.tableschema.datasourceformat.DataSourceFormat}, into the Field type.
+     * Field types that can parse their values straight from the characters override this method,
+     * all others convert `value` into a String first.
+     *
+     * `value` may be a reused view that changes once this method returns, implementations must not
+     * keep a reference to it.
+     * @param value the characters to parse
+     * @param format the Field format to use
+     * @param options parsing options
+     * @return either the parsed value (which can be null) or {@link #INVALID_VALUE} if `value` cannot
+     *      be parsed
+     */
+    public Object tryParseValue(CharSequence value, String format, Map<String, Object> options) {
+        return tryParseValue(value.toString(), format, options);
+    }
+
+    /**
+     * Parse a value into the Field type. Does not check constraints.
+     * @param value the value string to parse
+     * @param format the Field format to use
+     * @param options parsing options
+     * @return the parsed value
+     * @throws TypeInferringException if the content of `value` cannot be parsed
+     */
+    @SuppressWarnings("unchecked")
+    public T parseValue(String value, String format, Map<String, Object> options)
+            throws InvalidCastException, ConstraintsException {
+        Object parsed = tryParseValue(value, format, options);
+        if (parsed == INVALID_VALUE) {
+            throw new TypeInferringException("Value "+value+" cannot be parsed as "+type);
+        }
+        return (T)parsed;
+    }
 
     public abstract String formatValueAsString(T value, String format, Map<String, Object> options)
             throws InvalidCastException, ConstraintsException;
@@ -227,31 +289,83 @@ public abstract class Field<T> {
      * @throws ConstraintsException thrown if `enforceConstraints` was set to `true`and constraints were violated
      */
     public T castValue(String value, boolean enforceConstraints, Map<String, Object> options) throws InvalidCastException, ConstraintsException{
+        return castValue(value, enforceConstraints, options, null);
+    }
+
+    /**
+     * Use the Field definition to cast (=parse) a value into the Field type. Constraints enforcing
+     * can be switched on or off. State spanning multiple values (for the `unique` constraint) is kept
+     * in `context`, which makes this method safe to call concurrently on a shared Field as long as every
+     * thread uses its own context.
+     * @param value the value string to cast
+     * @param enforceConstraints whether to enforce Field constraints
+     * @param options casting options
+     * @param context the context of the current iteration, if null, unique values are tracked by the Field
+     * @return result of the cast operation
+     * @throws InvalidCastException if the content of `value` cannot be cast to the destination type
+     * @throws ConstraintsException thrown if `enforceConstraints` was set to `true`and constraints were violated
+     */
+    public T castValue(String value, boolean enforceConstraints, Map<String, Object> options,
+                       ValidationContext context) throws InvalidCastException, ConstraintsException{
+        return castValue((CharSequence)value, enforceConstraints, options, context);
+    }
+
+    /**
+     * Use the Field definition to cast (=parse) a value held in a CharSequence into the Field type,
+     * without the need to create a String for types that parse their values straight from the
+     * characters. `value` may be a reused view, the cast value never references it.
+     * @param value the characters to cast
+     * @param enforceConstraints whether to enforce Field constraints
+     * @param options casting options
+     * @param context the context of the current iteration, if null, unique values are tracked by the Field
+     * @return result of the cast operation
+     * @throws InvalidCastException if the content of `value` cannot be cast to the destination type
+     * @throws ConstraintsException thrown if `enforceConstraints` was set to `true`and constraints were violated
+     */
+    @SuppressWarnings("unchecked")
+    public T castValue(CharSequence value, boolean enforceConstraints, Map<String, Object> options,
+                       ValidationContext context) throws InvalidCastException, ConstraintsException{
         if(this.type.isEmpty()){
             throw new InvalidCastException("Property 'type' must not be empty");
-        } else if (missingValues.contains(value)) {
+        } else if (isMissingValue(value)) {
             return null;
         } else {
             try{
-                T castValue = parseValue(value, format, options);
-            
+                // cached values are only valid for the Field's own format and options
+                CastCache cache = ((null != context) && (options == this.options) && hasImmutableValues())
+                        ? context.getCastCache(this)
+                        : null;
+                Object parsed = (null != cache) ? cache.get(value) : null;
+                if (null == parsed) {
+                    parsed = (value instanceof String)
+                            ? tryParseValue((String)value, format, options)
+                            : tryParseValue(value, format, options);
+                    if (null != cache) {
+                        cache.put(value, parsed);
+                    }
+                }
+                if (parsed == INVALID_VALUE) {
+                    throw new InvalidCastException("Value "+value+" cannot be cast to type "+type);
+                }
+                T castValue = (T)parsed;
+
                 // Check for constraint violations
                 if(enforceConstraints && this.constraints != null){
-                    Map<String, Object> violatedConstraints = checkConstraintViolations(castValue);
+                    Map<String, Object> violatedConstraints = checkConstraintViolations(castValue, context);
                     if(!violatedConstraints.isEmpty()){
                         throw new ConstraintsException("Violated "+ violatedConstraints.size()+" constraints");
                     }
                 }
-                
+
                 return castValue;
-                
-            }catch(ConstraintsException ce){
+
+            }catch(ConstraintsException | InvalidCastException ce){
                 throw ce;
-                
+
             }catch(Exception e){
                 throw new InvalidCastException(e);
             }
-        } 
+        }
     }
 
     /**
@@ -268,340 +382,120 @@ public abstract class Field<T> {
 
     
     /**
-     * Returns a Map with all the constraints that have been violated.
+     * Returns a Map with all the constraints that have been violated, or an empty, immutable Map if
+     * the value is valid. Values for the `unique` constraint are tracked by the Field instance.
      * @param value either a JSONArray/JSONObject or a string containing JSON
      * @return Map containing all the contraints violations
      */
     public Map<String, Object> checkConstraintViolations(Object value){
-       
-        Map<String, Object> violatedConstraints = new HashMap<>();
-        
-        // Indicates whether this field is allowed to be null. If required is true, then null is disallowed. 
-        if(this.constraints.containsKey(CONSTRAINT_KEY_REQUIRED)){
-            if((boolean) this.constraints.get(CONSTRAINT_KEY_REQUIRED) && value == null){
-                violatedConstraints.put(CONSTRAINT_KEY_REQUIRED, true);
-            }
-        }
-        
-        // All values for that field MUST be unique within the data file in which it is found.
-        // Can't check UNIQUE constraint when operating with only one value.
-        // TODO: Implement a method that takes List<Object> value as argument.
-        /*
-        if(this.constraints.containsKey(CONSTRAINT_KEY_UNIQUE)){
-    
-        }*/
-        
-        // An integer that specifies the minimum length of a value.
-        if(this.constraints.containsKey(CONSTRAINT_KEY_MIN_LENGTH)){
-            int minLength = (int)this.constraints.get(CONSTRAINT_KEY_MIN_LENGTH);
- 
-            if(value instanceof String){
-                if(((String)value).length() < minLength){
-                    violatedConstraints.put(CONSTRAINT_KEY_MIN_LENGTH, minLength);
-                }
-                
-            }else if (value instanceof JsonNode){
-                if(((JsonNode)value).size() < minLength){
-                    violatedConstraints.put(CONSTRAINT_KEY_MIN_LENGTH, minLength);
+        return checkConstraintViolations(value, null);
+    }
+
+    /**
+     * Returns a Map with all the constraints that have been violated, or an empty, immutable Map if
+     * the value is valid.
+     * @param value either a JSONArray/JSONObject or a string containing JSON
+     * @param context the context of the current iteration holding the values seen so far for the
+     *                `unique` constraint. If null, they are tracked by the Field instance.
+     * @return Map containing all the contraints violations
+     */
+    public Map<String, Object> checkConstraintViolations(Object value, ValidationContext context){
+        Map<String, Object> violatedConstraints = null;
+        for (ConstraintChecker checker : getConstraintCheckers()) {
+            Object violation = checker.check(this, value, context);
+            if (null != violation) {
+                if (null == violatedConstraints) {
+                    violatedConstraints = new HashMap<>();
                 }
-                 
+                violatedConstraints.put(checker.key, violation);
             }
         }
-        
-        // An integer that specifies the maximum length of a value.
-        if(this.constraints.containsKey(CONSTRAINT_KEY_MAX_LENGTH)){
-            int maxLength = (int)this.constraints.get(CONSTRAINT_KEY_MAX_LENGTH);
-            
-            if(value instanceof String){
-                if(((String)value).length() > maxLength){
-                    violatedConstraints.put(CONSTRAINT_KEY_MAX_LENGTH, maxLength);
-                }
-                
-            }else if (value instanceof JsonNode){
-                if(((JsonNode)value).size() > maxLength){
-                    violatedConstraints.put(CONSTRAINT_KEY_MAX_LENGTH, maxLength);
-                }
-                 
-            }else if (value instanceof ArrayNode){
-                if(((ArrayNode)value).size() > maxLength){
-                    violatedConstraints.put(CONSTRAINT_KEY_MAX_LENGTH, maxLength);
-                }                
-            }  
-        }
-        
-        /*
-         * Specifies a minimum value for a field.
-         * This is different to minLength which checks the number of items in the value.
-         * A minimum value constraint checks whether a field value is greater than or equal to the specified value.
-         * The range checking depends on the type of the field.
-         * E.g. an integer field may have a minimum value of 100; a date field might have a minimum date.
-         * If a minimum value constraint is specified then the field descriptor MUST contain a type key.
-         **/
-        if(this.constraints.containsKey(CONSTRAINT_KEY_MINIMUM)){
-            if (value instanceof Number) {
-                if (this instanceof IntegerField) {
-                    int minInt = Integer.parseInt(this.constraints.get(CONSTRAINT_KEY_MINIMUM).toString());
-                    if(((Number)value).longValue() < minInt){
-                        violatedConstraints.put(CONSTRAINT_KEY_MINIMUM, minInt);
-                    }
-                } else {
-                    double minDouble = Double.parseDouble(this.constraints.get(CONSTRAINT_KEY_MINIMUM).toString());
-                    if(((Number)value).doubleValue() < minDouble){
-                        violatedConstraints.put(CONSTRAINT_KEY_MINIMUM, minDouble);
-                    }
-                }
-            } else if(value instanceof LocalTime){
-                LocalTime minTime = (LocalTime)this.constraints.get(CONSTRAINT_KEY_MINIMUM);
-                if(((LocalTime)value).isBefore(minTime)){
-                    violatedConstraints.put(CONSTRAINT_KEY_MINIMUM, minTime);
-                }
-
-            }else if(value instanceof ZonedDateTime){
-                ZonedDateTime minTime = (ZonedDateTime)this.constraints.get(CONSTRAINT_KEY_MINIMUM);
-                if(((ZonedDateTime)value).isBefore(minTime)){
-                    violatedConstraints.put(CONSTRAINT_KEY_MINIMUM, minTime);
-                }
-
-            }else if(value instanceof LocalDate){
-                LocalDate minDate = (LocalDate)this.constraints.get(CONSTRAINT_KEY_MINIMUM);
-                if(((LocalDate)value).isBefore(minDate)){
-                    violatedConstraints.put(CONSTRAINT_KEY_MINIMUM, minDate);
-                }
-
-            }else if(value instanceof Year){
-                Year minDate = (Year)this.constraints.get(CONSTRAINT_KEY_MINIMUM);
-                if(((Year)value).isBefore(minDate)){
-                    violatedConstraints.put(CONSTRAINT_KEY_MINIMUM, minDate);
-                }
-
-            }else if(value instanceof YearMonth){
-                YearMonth minDate = (YearMonth)this.constraints.get(CONSTRAINT_KEY_MINIMUM);
-                if(((YearMonth)value).isBefore(minDate)){
-                    violatedConstraints.put(CONSTRAINT_KEY_MINIMUM, minDate);
-                }
+        return (null == violatedConstraints) ? Collections.emptyMap() : violatedConstraints;
+    }
 
-            }else if(value instanceof Duration){
-                Duration minDuration = (Duration)this.constraints.get(CONSTRAINT_KEY_MINIMUM);
-                if(((Duration)value).compareTo(minDuration) < 0){
-                    violatedConstraints.put(CONSTRAINT_KEY_MINIMUM, minDuration);
-                }
-            } 
+    /**
+     * The constraints compiled into checkers. They get compiled on first use after
+     * {@link #validate()} has converted the constraint values into the Field type, and again after
+     * {@link #setConstraints(Map)} or the next {@link #validate()}.
+     * @return the compiled constraints
+     */
+    ConstraintChecker[] getConstraintCheckers() {
+        ConstraintChecker[] checkers = constraintCheckers;
+        if (null == checkers) {
+            checkers = ConstraintChecker.compile(this);
+            constraintCheckers = checkers;
         }
-        
-        // As for minimum, but specifies a maximum value for a field.
-        if(this.constraints.containsKey(CONSTRAINT_KEY_MAXIMUM)){
-            if (value instanceof Number) {
-                if (this instanceof IntegerField) {
-                    int maxInt = Integer.parseInt(this.constraints.get(CONSTRAINT_KEY_MAXIMUM).toString());
-                    if(((Number)value).longValue() > maxInt){
-                        violatedConstraints.put(CONSTRAINT_KEY_MAXIMUM, maxInt);
-                    }
-                } else {
-                    double maxDouble = Double.parseDouble(this.constraints.get(CONSTRAINT_KEY_MAXIMUM).toString());
-                    if(((Number)value).doubleValue() > maxDouble){
-                        violatedConstraints.put(CONSTRAINT_KEY_MAXIMUM, maxDouble);
-                    }
-                }
-            } else if(value instanceof LocalTime){
-                LocalTime maxTime = (LocalTime)this.constraints.get(CONSTRAINT_KEY_MAXIMUM);
-
-                if(((LocalTime)value).isAfter(maxTime)){
-                    violatedConstraints.put(CONSTRAINT_KEY_MAXIMUM, maxTime);
-                }
-
-            }else if(value instanceof ZonedDateTime){
-                ZonedDateTime maxTime = (ZonedDateTime)this.constraints.get(CONSTRAINT_KEY_MAXIMUM);
-
-                if(((ZonedDateTime)value).isAfter(maxTime)){
-                    violatedConstraints.put(CONSTRAINT_KEY_MAXIMUM, maxTime);
-                }
-
-            }else if(value instanceof LocalDate){
-                LocalDate maxDate = (LocalDate)this.constraints.get(CONSTRAINT_KEY_MAXIMUM);
-
-                if(((LocalDate)value).isAfter(maxDate)){
-                    violatedConstraints.put(CONSTRAINT_KEY_MAXIMUM, maxDate);
-                }
-
-            }else if(value instanceof Year){
-                Year maxDate = (Year)this.constraints.get(CONSTRAINT_KEY_MAXIMUM);
-
-                if(((Year)value).isAfter(maxDate)){
-                    violatedConstraints.put(CONSTRAINT_KEY_MAXIMUM, maxDate);
-                }
-
-            }else if(value instanceof YearMonth){
-                YearMonth maxDate = (YearMonth)this.constraints.get(CONSTRAINT_KEY_MAXIMUM);
+        return checkers;
+    }
 
-                if(((YearMonth)value).isAfter(maxDate)){
-                    violatedConstraints.put(CONSTRAINT_KEY_MAXIMUM, maxDate);
-                }
+    /**
+     * Signals whether the values of this Field type are immutable, so that one parsed instance can be
+     * shared for equal raw values, see {@link CastCache}.
+     * @return true if parsed values can be shared
+     */
+    boolean hasImmutableValues() {
+        return false;
+    }
 
-            }else if(value instanceof Duration){
-                Duration maxDuration = (Duration)this.constraints.get(CONSTRAINT_KEY_MAXIMUM);
-                if(((Duration)value).compareTo(maxDuration) > 0){
-                    violatedConstraints.put(CONSTRAINT_KEY_MAXIMUM, maxDuration);
-                }
-            } 
+    boolean addUniqueValue(Object value, ValidationContext context) {
+        if (null != context) {
+            return context.addUniqueValue(this, value);
         }
-        
-        // A regular expression that can be used to test field values. If the regular expression matches then the value is valid.
-        if(this.constraints.containsKey(CONSTRAINT_KEY_PATTERN)){
-            String regexPatternString = (String)this.constraints.get(CONSTRAINT_KEY_PATTERN);
-            
-            // Constraint only applies to a String value.
-            if(value instanceof String){       
-                Pattern pattern = Pattern.compile(regexPatternString);
-                Matcher matcher = pattern.matcher((String)value);
-                
-                if(!matcher.matches()){
-                    violatedConstraints.put(CONSTRAINT_KEY_PATTERN, regexPatternString);
-                }
-            
-            }else if (value != null) {
-                // If the value is not a String, then just interpret as a constraint violation.
-                violatedConstraints.put(CONSTRAINT_KEY_PATTERN, regexPatternString);
+        synchronized (this) {
+            if (existingValues == null) {
+                existingValues = new HashSet<>();
             }
+            return existingValues.add(value);
         }
-        
-        // The value of the field must exactly match a value in the enum array.
-        if(this.constraints.containsKey(CONSTRAINT_KEY_ENUM)){
-            if (value != null) {
-                // A null value would never be checked against a set of enum values.
-
-                boolean violatesEnumConstraint = true;
-
-                if(value instanceof String){
-                    List<String> stringList = (List<String>)this.constraints.get(CONSTRAINT_KEY_ENUM);
-
-                    Iterator<String> iter = stringList.iterator();
-                    while(iter.hasNext()){
-                        if(iter.next().equalsIgnoreCase((String)value)){
-                            violatesEnumConstraint = false;
-                            break;
-                        }
-                    }
-
-                }else if(value instanceof JsonNode){
-                    List<JsonNode> jsonObjList = (List<JsonNode>)this.constraints.get(CONSTRAINT_KEY_ENUM);
-
-                    Iterator<JsonNode> iter = jsonObjList.iterator();
-                    while(iter.hasNext()){
-                        if(iter.next().equals((JsonNode)value)){
-                            violatesEnumConstraint = false;
-                            break;
-                        }
-                    }
-
-                }else if(value instanceof Number){
-                    if (this instanceof IntegerField) {
-                        List<Integer> intList = (List<Integer>)this.constraints.get(CONSTRAINT_KEY_ENUM);
-                        Iterator<Integer> iter = intList.iterator();
-                        while (iter.hasNext()){
-                            if(iter.next() == ((Number)value).intValue()){
-                                violatesEnumConstraint = false;
-                                break;
-                            }
-                        }
-                    } else {
-                        List<Double> intList = (List<Double>)this.constraints.get(CONSTRAINT_KEY_ENUM);
-                        Iterator<Double> iter = intList.iterator();
-                        while (iter.hasNext()){
-                            if(iter.next() == ((Number)value).doubleValue()){
-                                violatesEnumConstraint = false;
-                                break;
-                            }
-                        }
-                    }
-
-                }else if(value instanceof LocalTime){
-                    List<LocalTime> timeList = (List<LocalTime>)this.constraints.get(CONSTRAINT_KEY_ENUM);
-
-                    Iterator<LocalTime> iter = timeList.iterator();
-                    while(iter.hasNext()){
-                        if(iter.next().compareTo((LocalTime)value) == 0){
-                            violatesEnumConstraint = false;
-                            break;
-                        }
-                    }
-                }else if(value instanceof ZonedDateTime){
-                    List<ZonedDateTime> timeList = (List<ZonedDateTime>)this.constraints.get(CONSTRAINT_KEY_ENUM);
-
-                    Iterator<ZonedDateTime> iter = timeList.iterator();
-                    while(iter.hasNext()){
-                        if(iter.next().compareTo((ZonedDateTime)value) == 0){
-                            violatesEnumConstraint = false;
-                            break;
-                        }
-                    }
-
-                }else if(value instanceof LocalDate){
-                    List<LocalDate> dateList = (List<LocalDate>)this.constraints.get(CONSTRAINT_KEY_ENUM);
-
-                    Iterator<LocalDate> iter = dateList.iterator();
-                    while(iter.hasNext()){
-                        if(iter.next().compareTo((LocalDate)value) == 0){
-                            violatesEnumConstraint = false;
-                            break;
-                        }
-                    }
-
-                }else if(value instanceof Year){
-                    List<Year> yearList = (List<Year>)this.constraints.get(CONSTRAINT_KEY_ENUM);
-
-                    Iterator<Year> iter = yearList.iterator();
-                    while(iter.hasNext()){
-                        if(iter.next().compareTo((Year)value) == 0){
-                            violatesEnumConstraint = false;
-                            break;
-                        }
-                    }
-
-                }else if(value instanceof YearMonth){
-                    List<YearMonth> yearMonthList = (List<YearMonth>)this.constraints.get(CONSTRAINT_KEY_ENUM);
-
-                    Iterator<YearMonth> iter = yearMonthList.iterator();
-                    while(iter.hasNext()){
-                        if(iter.next().compareTo((YearMonth)value) == 0){
-                            violatesEnumConstraint = false;
-                            break;
-                        }
-                    }
-
-                }else if(value instanceof Duration){
-                    List<Duration> durationList = (List<Duration>)this.constraints.get(CONSTRAINT_KEY_ENUM);
+    }
 
-                    Iterator<Duration> iter = durationList.iterator();
-                    while(iter.hasNext()){
-                        if(iter.next().compareTo((Duration)value) == 0){
-                            violatesEnumConstraint = false;
-                            break;
-                        }
-                    }
+    /**
+     * Make the Field immutable so it can be shared between threads: lazily created defaults get
+     * initialized, constraints and missing values become unmodifiable and all setters throw an
+     * {@link IllegalStateException} from now on. Freezing is a one-way street.
+     *
+     * Called by {@link io.frictionlessdata.tableschema.schema.Schema#freeze()} after the Field has been
+     * validated, there should be rarely a need to call it directly.
+     */
+    public void freeze() {
+        if (frozen)
+            return;
+        getOptions();
+        if (null != constraints) {
+            constraints = Collections.unmodifiableMap(new HashMap<>(constraints));
+        }
+        if (null != missingValues) {
+            missingValues = Collections.unmodifiableSet(new HashSet<>(missingValues));
+        }
+        constraintCheckers = ConstraintChecker.compile(this);
+        frozen = true;
+    }
 
-                }
+    @JsonIgnore
+    public boolean isFrozen() {
+        return frozen;
+    }
 
-                if(violatesEnumConstraint){
-                    violatedConstraints.put(CONSTRAINT_KEY_ENUM, this.constraints.get(CONSTRAINT_KEY_ENUM));
-                }
-            }
+    void checkNotFrozen() {
+        if (frozen) {
+            throw new IllegalStateException("Field '"+name+"' is frozen and cannot be modified");
         }
+    }
 
-        if (this.constraints.containsKey(CONSTRAINT_KEY_UNIQUE) && value != null) {
-            boolean unique = Boolean.parseBoolean(this.constraints.get(CONSTRAINT_KEY_UNIQUE).toString());
-            if (unique) {
-                if (existingValues == null) {
-                    existingValues = new HashSet<>();
-                }
-                if (existingValues.contains(value)) {
-                    violatedConstraints.put(CONSTRAINT_KEY_UNIQUE, unique);
-                } else {
-                    existingValues.add(value);
-                }
+    /**
+     * Returns the first non-whitespace character of a value, used by the JSON-backed Fields to
+     * reject values that can't possibly be parsed before handing them to Jackson.
+     * @param value the value string
+     * @return the first non-whitespace character or 0 if there is none
+     */
+    static char firstNonWhitespaceChar(CharSequence value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (!Character.isWhitespace(c)) {
+                return c;
             }
         }
-        
-        return violatedConstraints;
+        return 0;
     }
 
     public static Field forType(String type, String name) {
@@ -641,6 +535,7 @@ public abstract class Field<T> {
     }
 
     public void setFormat(String format) {
+        checkNotFrozen();
         this.format = format;
         setDefinedFormat(format);
     }
@@ -650,6 +545,7 @@ public abstract class Field<T> {
     }
 
     public void setDefinedFormat(String definedFormat) {
+        checkNotFrozen();
         this.definedFormat = definedFormat;
     }
 
@@ -661,15 +557,27 @@ public abstract class Field<T> {
         return this.description;
     }
     
+    /**
+     * The constraints are compiled into checkers on first use. Changes made to the returned Map only
+     * take effect after the next {@link #validate()}, use {@link #setConstraints(Map)} to replace them.
+     * @return the constraints
+     */
     public Map<String, Object> getConstraints(){
         return this.constraints;
     }
 
+    public void setConstraints(Map<String, Object> constraints) {
+        checkNotFrozen();
+        this.constraints = constraints;
+        this.constraintCheckers = null;
+    }
+
     public URI getRdfType() {
         return rdfType;
     }
 
     public void setRdfType(URI rdfType) {
+        checkNotFrozen();
         this.rdfType = rdfType;
     }
 
@@ -678,6 +586,7 @@ public abstract class Field<T> {
     }
 
     public void setOptions(Map<String, Object> options) {
+        checkNotFrozen();
         this.options = options;
     }
 
@@ -740,8 +649,35 @@ public abstract class Field<T> {
         return missingValues;
     }
 
+    /**
+     * Set the values signalling a missing value. A null Set means the default of treating only
+     * the empty string as missing value, an empty Set that no value is missing.
+     * @param missingValues the values signalling a missing value
+     */
     public void setMissingValues(Set<String> missingValues) {
+        checkNotFrozen();
         this.missingValues = missingValues;
+        this.missingValueMatcher = MissingValueMatcher.compile(missingValues);
+    }
+
+    /**
+     * Check whether a raw value is one of the values signalling a missing (null) value. A `null`
+     * value is always considered missing.
+     * @param value the raw value
+     * @return true if `value` is declared as a missing value
+     */
+    public boolean isMissingValue(String value) {
+        return missingValueMatcher.matches(value);
+    }
+
+    /**
+     * Check whether the characters of a raw value are one of the values signalling a missing (null)
+     * value. A `null` value is always considered missing.
+     * @param value the raw value
+     * @return true if `value` is declared as a missing value
+     */
+    public boolean isMissingValue(CharSequence value) {
+        return missingValueMatcher.matches(value);
     }
 
     public boolean isJavaBasedDateFormats() {
@@ -749,11 +685,16 @@ public abstract class Field<T> {
     }
 
     public void setJavaBasedDateFormats(boolean javaBasedDateFormats) {
+        checkNotFrozen();
         this.javaBasedDateFormats = javaBasedDateFormats;
     }
 
+    /**
+     * Validate the Field definition. Subclasses convert the constraint values into the Field type here
+     * and must call `super.validate()` first. The constraints get (re-)compiled on their next use.
+     */
     public void validate() {
-        // Do nothing by default
+        constraintCheckers = null;
     }
 
     public boolean valueHasValidFormat(String value) {
@@ -1,23 +1,34 @@
 package io.frictionlessdata.tableschema.field;
 
-import com.fasterxml.jackson.annotation.JsonUnwrapped;
 import io.frictionlessdata.tableschema.exception.ConstraintsException;
 import io.frictionlessdata.tableschema.exception.InvalidCastException;
 import io.frictionlessdata.tableschema.schema.JsonSchema;
 import io.frictionlessdata.tableschema.schema.TypeInferrer;
 import io.frictionlessdata.tableschema.util.JsonUtil;
-import io.frictionlessdata.tableschema.exception.TypeInferringException;
-import io.frictionlessdata.tableschema.exception.ValidationException;
 
 import com.fasterxml.jackson.databind.JsonNode;
 
 import java.io.InputStream;
 import java.net.URI;
-import java.util.Map;
+import java.util.*;
 
 public class GeojsonField extends Field<JsonNode> {
-    private JsonSchema geoJsonSchema = null;
-    private JsonSchema topoJsonSchema = null;
+    // The bundled schemas declare remote ids, we resolve their `$ref`s from the classpath instead
+    private static final String SCHEMA_BASE_URI
+            = "https://raw.githubusercontent.com/frictionlessdata/tableschema-java/master/src/main/resources/schemas/geojson/";
+    private static final String SCHEMA_BASE_PATH = "/schemas/geojson/";
+    private static final String[] SCHEMA_FILES = {
+            "geojson.json", "topojson.json", "geometry.json", "topology.json", "bbox.json", "crs.json"};
+
+    private static final Set<String> GEOMETRY_TYPES = new HashSet<>(Arrays.asList(
+            "Point", "MultiPoint", "LineString", "MultiLineString", "Polygon", "MultiPolygon", "GeometryCollection"));
+    private static final Set<String> GEOJSON_TYPES = new HashSet<>(GEOMETRY_TYPES);
+    private static final Set<String> TOPOJSON_TYPES = new HashSet<>(GEOMETRY_TYPES);
+    static {
+        GEOJSON_TYPES.add("Feature");
+        GEOJSON_TYPES.add("FeatureCollection");
+        TOPOJSON_TYPES.add("Topology");
+    }
 
     GeojsonField(){
         super();
@@ -33,23 +44,23 @@ public class GeojsonField extends Field<JsonNode> {
     }
 
     @Override
-    public JsonNode parseValue(String value, String format, Map<String, Object> options) {
-        try{
-            if(format.equalsIgnoreCase(FIELD_FORMAT_DEFAULT)){
-                validateGeoJsonSchema(value);
-
-            }else if(format.equalsIgnoreCase(FIELD_FORMAT_TOPOJSON)){
-                validateTopoJsonSchema(value);
+    public Object tryParseValue(String value, String format, Map<String, Object> options) {
+        // parse only once, the tree is used both for validation and as the cast value
+        JsonNode node = readObject(value);
+        if (null == node) {
+            // Not a valid JSON object.
+            return INVALID_VALUE;
+        }
+        if(format.equalsIgnoreCase(FIELD_FORMAT_DEFAULT)){
+            return isValidGeoJson(node) ? node : INVALID_VALUE;
 
-            }else{
-                throw new TypeInferringException("Unknown format type");
-            }
+        }else if(format.equalsIgnoreCase(FIELD_FORMAT_TOPOJSON)){
+            return isValidTopoJson(node) ? node : INVALID_VALUE;
 
-        }catch(ValidationException ve){
-            // Not a valid GeoJSON or TopoJSON or Not a valid JSON.
-            throw new TypeInferringException(ve);
+        }else{
+            // Unknown format type
+            return INVALID_VALUE;
         }
-        return JsonUtil.getInstance().readValue(value);
     }
 
     @Override
@@ -59,59 +70,93 @@ public class GeojsonField extends Field<JsonNode> {
         return JsonUtil.getInstance().serialize(value);
     }
 
-
     /**
-     * We only want to go through this initialization if we have to because it's a
-     * performance issue the first time it is executed.
-     * Because of this, so we don't include this logic in the constructor and only
-     * call it when it is actually required after trying all other type inferral.
-     * @param json String-encoded JSON object
-     * @throws ValidationException if validation fails
+     * Both GeoJSON and TopoJSON objects are JSON objects, so anything not starting with a brace is
+     * rejected without running the JSON parser.
+     * @param json the value string
+     * @return the parsed JSON or null if `json` is not a valid JSON object
      */
-    private void validateGeoJsonSchema(String json) throws ValidationException {
-        if(this.geoJsonSchema == null){
-            // FIXME: Maybe this infering against geojson scheme is too much.
-            // Grabbed geojson schema from here: https://github.com/fge/sample-json-schemas/tree/master/geojson
-            InputStream geoJsonSchemaInputStream = TypeInferrer.class.getResourceAsStream("/schemas/geojson/geojson.json");
-            geoJsonSchema = JsonSchema.fromJson(geoJsonSchemaInputStream, true);
+    private static JsonNode readObject(String json) {
+        if (firstNonWhitespaceChar(json) != '{') {
+            return null;
+        }
+        try {
+            return JsonUtil.getInstance().readValue(json);
+        } catch (Exception ex) {
+            return null;
         }
-        geoJsonSchema.validate(json);
     }
 
+    /**
+     * Cheap structural pre-check before running the full JSON-schema validation: both GeoJSON and
+     * TopoJSON objects must be JSON objects with a `type` member naming one of the known object types.
+     * @param node the parsed JSON
+     * @param allowedTypes the values accepted for the `type` member
+     * @return false if the node can't possibly be valid, true if full validation is needed
+     */
+    private static boolean hasKnownType(JsonNode node, Set<String> allowedTypes) {
+        if ((null == node) || (!node.isObject()))
+            return false;
+        JsonNode type = node.get("type");
+        return (null != type) && type.isTextual() && allowedTypes.contains(type.textValue());
+    }
 
     /**
-     * We only want to go through this initialization if we have to because it's a
-     * performance issue the first time it is executed.
-     * Because of this, so we don't include this logic in the constructor and only
-     * call it when it is actually required after trying all other type inferral.
-     * @param json String-encoded JSON object
+     * The JSON schemas are compiled once and shared between all GeojsonField instances. We only want
+     * to go through this initialization if we have to because it's a performance issue the
+     * first time it is executed, the holder classes therefore get loaded on first use only.
+     * @param json parsed JSON object
+     * @return true if `json` validates against the GeoJSON schema
      */
-    private void validateTopoJsonSchema(String json) throws ValidationException {
-        if(topoJsonSchema == null){
-            // FIXME: Maybe this infering against topojson scheme is too much.
-            // Grabbed topojson schema from here: https://github.com/nhuebel/TopoJSON_schema
-            InputStream topoJsonSchemaInputStream = TypeInferrer.class.getResourceAsStream("/schemas/geojson/topojson.json");
-            topoJsonSchema = JsonSchema.fromJson(topoJsonSchemaInputStream, true);
+    private static boolean isValidGeoJson(JsonNode json) {
+        return hasKnownType(json, GEOJSON_TYPES) && GeoJsonSchemaHolder.SCHEMA.isValid(json);
+    }
+
+    /**
+     * See {@link #isValidGeoJson(JsonNode)}
+     * @param json parsed JSON object
+     * @return true if `json` validates against the TopoJSON schema
+     */
+    private static boolean isValidTopoJson(JsonNode json) {
+        return hasKnownType(json, TOPOJSON_TYPES) && TopoJsonSchemaHolder.SCHEMA.isValid(json);
+    }
+
+    private static JsonSchema loadSchema(String fileName) {
+        Map<String, String> uriMappings = new HashMap<>();
+        for (String file : SCHEMA_FILES) {
+            uriMappings.put(SCHEMA_BASE_URI + file, "classpath:" + SCHEMA_BASE_PATH + file);
         }
-        topoJsonSchema.validate(json);
+        InputStream schemaInputStream = TypeInferrer.class.getResourceAsStream(SCHEMA_BASE_PATH + fileName);
+        return JsonSchema.fromJson(schemaInputStream, true, uriMappings);
+    }
+
+    // FIXME: Maybe this infering against geojson scheme is too much.
+    // Grabbed geojson schema from here: https://github.com/fge/sample-json-schemas/tree/master/geojson
+    private static final class GeoJsonSchemaHolder {
+        static final JsonSchema SCHEMA = loadSchema("geojson.json");
+    }
+
+    // FIXME: Maybe this infering against topojson scheme is too much.
+    // Grabbed topojson schema from here: https://github.com/nhuebel/TopoJSON_schema
+    private static final class TopoJsonSchemaHolder {
+        static final JsonSchema SCHEMA = loadSchema("topojson.json");
     }
 
     /*
-     try to parse both formats, suppress exceptions
+     try to parse both formats
      */
     @Override
     public String parseFormat(String json, Map<String, Object> options) {
-        try {
-            validateGeoJsonSchema(json);
+        JsonNode node = readObject(json);
+        if (null == node) {
+            return "default";
+        }
+        if (isValidGeoJson(node)) {
             return FIELD_TYPE_GEOJSON;
-        } catch (ValidationException ex) {
-            try {
-                validateTopoJsonSchema(json);
-                return FIELD_FORMAT_TOPOJSON;
-            } catch (ValidationException ex1) {
-                return "default";
-            }
+        } else if (isValidTopoJson(node)) {
+            return FIELD_FORMAT_TOPOJSON;
         }
+        return "default";
     }
 
 }
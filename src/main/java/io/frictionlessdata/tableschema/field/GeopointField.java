@@ -2,19 +2,17 @@ package io.frictionlessdata.tableschema.field;
 
 import io.frictionlessdata.tableschema.exception.ConstraintsException;
 import io.frictionlessdata.tableschema.exception.InvalidCastException;
-import io.frictionlessdata.tableschema.exception.TypeInferringException;
 import io.frictionlessdata.tableschema.util.JsonUtil;
 
 import java.net.URI;
-import java.time.Year;
 import java.util.LinkedHashMap;
-import java.util.LinkedHashSet;
 import java.util.Map;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 
 public class GeopointField extends Field<double[]> {
+    private static final String JSON_START_CHARS = "{[\"'-0123456789tfn";
 
     GeopointField(){
         super();
@@ -30,64 +28,72 @@ public class GeopointField extends Field<double[]> {
     }
 
     @Override
-    public double[] parseValue(String value, String format, Map<String, Object> options)
-            throws InvalidCastException, ConstraintsException {
+    public Object tryParseValue(String value, String format, Map<String, Object> options) {
+        if(format.equalsIgnoreCase(Field.FIELD_FORMAT_DEFAULT)){
+            return parseCoordinates(value);
+        }
         try{
-            if(format.equalsIgnoreCase(Field.FIELD_FORMAT_DEFAULT)){
-                String[] geopoint = value.split(", *");
-
-                if(geopoint.length == 2){
-                    double lon = Double.parseDouble(geopoint[0]);
-                    double lat = Double.parseDouble(geopoint[1]);
-
-                    // No exception? It's a valid geopoint object.
-                    return new double[]{lon, lat};
-
-                }else{
-                    throw new TypeInferringException("Geo points must have two coordinates");
+            if(format.equalsIgnoreCase(Field.FIELD_FORMAT_ARRAY)){
+                if (firstNonWhitespaceChar(value) != '[') {
+                    return INVALID_VALUE;
                 }
-
-            }else if(format.equalsIgnoreCase(Field.FIELD_FORMAT_ARRAY)){
-
-                // This will throw an exception if the value is not an array.
                 ArrayNode jsonArray = JsonUtil.getInstance().createArrayNode(value);
 
                 if (jsonArray.size() == 2){
                     double lon = jsonArray.get(0).asDouble();
                     double lat = jsonArray.get(1).asDouble();
-
-                    // No exception? It's a valid geopoint object.
                     return new double[]{lon, lat};
 
                 }else{
-                    throw new TypeInferringException("Geo points must have two coordinates");
+                    // Geo points must have two coordinates
+                    return INVALID_VALUE;
                 }
 
             }else if(format.equalsIgnoreCase(Field.FIELD_FORMAT_OBJECT)){
-
-                // This will throw an exception if the value is not an object.
+                if (firstNonWhitespaceChar(value) != '{') {
+                    return INVALID_VALUE;
+                }
                 JsonNode jsonObj = JsonUtil.getInstance().createNode(value);
 
                 if (jsonObj.size() == 2 && jsonObj.has("lon") && jsonObj.has("lat")){
                     double lon = jsonObj.get("lon").asDouble();
                     double lat = jsonObj.get("lat").asDouble();
-
-                    // No exception? It's a valid geopoint object.
                     return new double[]{lon, lat};
 
                 }else{
-                    throw new TypeInferringException();
+                    return INVALID_VALUE;
                 }
 
             }else{
-                throw new TypeInferringException();
+                return INVALID_VALUE;
             }
 
         }catch(Exception e){
-            throw new TypeInferringException(e);
+            // invalid JSON
+            return INVALID_VALUE;
         }
     }
 
+    // "lon, lat", equivalent to splitting on ", *" into two numbers. Both are checked before parsing, so
+    // that values like "Smith, John" don't cost a NumberFormatException during type inference
+    private static Object parseCoordinates(String value) {
+        int comma = value.indexOf(',');
+        if (comma < 0) {
+            // Geo points must have two coordinates
+            return INVALID_VALUE;
+        }
+        int start = comma + 1;
+        while ((start < value.length()) && (value.charAt(start) == ' ')) {
+            start++;
+        }
+        String lon = value.substring(0, comma).trim();
+        String lat = value.substring(start).trim();
+        if (!NumberField.isDecimal(lon) || !NumberField.isDecimal(lat)) {
+            return INVALID_VALUE;
+        }
+        return new double[]{Double.parseDouble(lon), Double.parseDouble(lat)};
+    }
+
     @Override
     public String formatValueAsString(double[] value, String format, Map<String, Object> options) throws InvalidCastException, ConstraintsException {
         if ((null == format) || (format.equalsIgnoreCase(Field.FIELD_FORMAT_DEFAULT))){
@@ -119,6 +125,11 @@ public class GeopointField extends Field<double[]> {
 
     @Override
     public String parseFormat(String value, Map<String, Object> options) {
+        // a value that can't start a JSON document saves us the JsonParsingException
+        char first = firstNonWhitespaceChar(value);
+        if ((first != 0) && (JSON_START_CHARS.indexOf(first) < 0)) {
+            return FIELD_FORMAT_DEFAULT;
+        }
         try {
             JsonNode node = JsonUtil.getInstance().createNode(value);
             if(node.isArray()) {
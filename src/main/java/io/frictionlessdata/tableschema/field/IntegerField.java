@@ -36,12 +36,47 @@ public class IntegerField extends Field<BigInteger> {
     }
 
     public void setBareNumber(boolean bareNumber) {
+        checkNotFrozen();
         this.bareNumber = bareNumber;
     }
 
     @Override
-    public BigInteger parseValue(String value, String format, Map<String, Object> options) throws InvalidCastException, ConstraintsException {
-        return new BigInteger(value.trim());
+    public Object tryParseValue(String value, String format, Map<String, Object> options) {
+        return tryParseValue((CharSequence)value, format, options);
+    }
+
+    @Override
+    public Object tryParseValue(CharSequence value, String format, Map<String, Object> options) {
+        // same bounds as String.trim()
+        int start = 0;
+        int end = value.length();
+        while ((start < end) && (value.charAt(start) <= ' ')) {
+            start++;
+        }
+        while ((start < end) && (value.charAt(end - 1) <= ' ')) {
+            end--;
+        }
+        int signStart = start;
+        if ((start < end) && ((value.charAt(start) == '-') || (value.charAt(start) == '+'))) {
+            start++;
+        }
+        if (start == end) {
+            return INVALID_VALUE;
+        }
+        for (int i = start; i < end; i++) {
+            if (Character.digit(value.charAt(i), 10) < 0) {
+                return INVALID_VALUE;
+            }
+        }
+        // up to 18 digits always fit into a long
+        if (end - start <= 18) {
+            long result = 0;
+            for (int i = start; i < end; i++) {
+                result = result * 10 + Character.digit(value.charAt(i), 10);
+            }
+            return BigInteger.valueOf((value.charAt(signStart) == '-') ? -result : result);
+        }
+        return new BigInteger(value.subSequence(signStart, end).toString());
     }
 
     @Override
@@ -50,6 +85,11 @@ public class IntegerField extends Field<BigInteger> {
     }
 
 
+    @Override
+    boolean hasImmutableValues() {
+        return true;
+    }
+
     @Override
     public String parseFormat(String value, Map<String, Object> options) {
         return "default";
@@ -57,11 +97,13 @@ public class IntegerField extends Field<BigInteger> {
 
     @Override
     public Map<String, Object> getOptions() {
-        if (options == null) {
-            options = new HashMap<>();
-            options.put(NumberField.NUMBER_OPTION_BARE_NUMBER, bareNumber);
+        Map<String, Object> opts = options;
+        if (opts == null) {
+            opts = new HashMap<>();
+            opts.put(NumberField.NUMBER_OPTION_BARE_NUMBER, bareNumber);
+            options = opts;
         }
-        return options;
+        return opts;
     }
 
     @Override
@@ -0,0 +1,97 @@
+package io.frictionlessdata.tableschema.field;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Compiled form of a Field's missing values. Checking for missing values is the first thing done
+ * for every cell, so instead of hashing every value into a Set we specialize:
+ *
+ * - the default of only the empty string boils down to an `isEmpty()` check
+ * - other values are bucketed by length, so a value is only compared to the missing values of
+ *   exactly its length and values longer than the longest missing value are rejected right away.
+ *
+ * A `null` value is always treated as missing. Instances are immutable.
+ */
+final class MissingValueMatcher {
+    static final MissingValueMatcher DEFAULT = new MissingValueMatcher(true, new String[0][]);
+    // no value is missing, apart from `null`
+    static final MissingValueMatcher NONE = new MissingValueMatcher(false, new String[0][]);
+
+    private final boolean onlyEmpty;
+    private final String[][] valuesByLength;
+
+    private MissingValueMatcher(boolean onlyEmpty, String[][] valuesByLength) {
+        this.onlyEmpty = onlyEmpty;
+        this.valuesByLength = valuesByLength;
+    }
+
+    /**
+     * Compile a set of missing values. Null results in the default of treating the empty string as
+     * missing value, an empty collection in no value being missing.
+     * @param missingValues the values signalling a missing value
+     * @return the matcher for `missingValues`
+     */
+    static MissingValueMatcher compile(Collection<String> missingValues) {
+        if (null == missingValues) {
+            return DEFAULT;
+        }
+        int maxLength = -1;
+        for (String value : missingValues) {
+            if ((null != value) && (value.length() > maxLength)) {
+                maxLength = value.length();
+            }
+        }
+        if (maxLength == 0) {
+            // only the empty string (and nulls, which are always missing)
+            return DEFAULT;
+        }
+        if (maxLength < 0) {
+            // empty, or only nulls
+            return NONE;
+        }
+        List<List<String>> buckets = new ArrayList<>(maxLength + 1);
+        for (int i = 0; i <= maxLength; i++) {
+            buckets.add(null);
+        }
+        for (String value : missingValues) {
+            if (null == value)
+                continue;
+            List<String> bucket = buckets.get(value.length());
+            if (null == bucket) {
+                bucket = new ArrayList<>(1);
+                buckets.set(value.length(), bucket);
+            }
+            if (!bucket.contains(value)) {
+                bucket.add(value);
+            }
+        }
+        String[][] valuesByLength = new String[maxLength + 1][];
+        for (int i = 0; i <= maxLength; i++) {
+            List<String> bucket = buckets.get(i);
+            if (null != bucket) {
+                valuesByLength[i] = bucket.toArray(new String[0]);
+            }
+        }
+        return new MissingValueMatcher(false, valuesByLength);
+    }
+
+    boolean matches(CharSequence value) {
+        if (null == value)
+            return true;
+        int length = value.length();
+        if (onlyEmpty)
+            return length == 0;
+        if (length >= valuesByLength.length)
+            return false;
+        String[] candidates = valuesByLength[length];
+        if (null == candidates)
+            return false;
+        for (String candidate : candidates) {
+            if (candidate.contentEquals(value))
+                return true;
+        }
+        return false;
+    }
+}
@@ -2,7 +2,6 @@ package io.frictionlessdata.tableschema.field;
 
 import io.frictionlessdata.tableschema.exception.ConstraintsException;
 import io.frictionlessdata.tableschema.exception.InvalidCastException;
-import io.frictionlessdata.tableschema.exception.TypeInferringException;
 
 import java.math.BigDecimal;
 import java.math.BigInteger;
@@ -12,7 +11,6 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 
@@ -28,8 +26,8 @@ public class NumberField extends Field<Number> {
     private static final String NUMBER_DEFAULT_DECIMAL_CHAR = ".";
     private static final String NUMBER_DEFAULT_GROUP_CHAR = "";
 
-    private static final String REGEX_INTEGER = "[+-]?\\d+";
     private static final String REGEX_BARE_NUMBER = "((^\\D*)|(\\D*$))";
+    private static final Pattern PATTERN_BARE_NUMBER = Pattern.compile(REGEX_BARE_NUMBER);
 
     private static final NumberFormat numberFormat = NumberFormat.getInstance();
     static {
@@ -59,6 +57,7 @@ public class NumberField extends Field<Number> {
     }
 
     public void setBareNumber(boolean bareNumber) {
+        checkNotFrozen();
         this.bareNumber = bareNumber;
     }
 
@@ -67,6 +66,7 @@ public class NumberField extends Field<Number> {
     }
 
     public void setDecimalChar(String decimalChar) {
+        checkNotFrozen();
         this.decimalChar = decimalChar;
     }
 
@@ -75,54 +75,115 @@ public class NumberField extends Field<Number> {
     }
 
     public void setGroupChar(String groupChar) {
+        checkNotFrozen();
         this.groupChar = groupChar;
     }
 
     @Override
-    public Number parseValue(String value, String format, Map<String, Object> options) throws InvalidCastException, ConstraintsException {
-        String locValue = value.trim();
-        try{
-            if (value.equalsIgnoreCase("null"))
-                return null;
-            if (value.length() == 0)
-                return null;
-            if(options != null){
-                if(options.containsKey(NUMBER_OPTION_DECIMAL_CHAR)){
-                    locValue = locValue.replace((String)options.get(NUMBER_OPTION_DECIMAL_CHAR), NUMBER_DEFAULT_DECIMAL_CHAR);
-                }
+    public Object tryParseValue(String value, String format, Map<String, Object> options) {
+        int length = value.length();
+        if (length == 0)
+            return null;
+        if ((length == 4) && value.equalsIgnoreCase("null"))
+            return null;
+        // only pay for trimming and replacing if there's something to trim or replace
+        String locValue = value;
+        if ((value.charAt(0) <= ' ') || (value.charAt(length - 1) <= ' ')) {
+            locValue = value.trim();
+        }
+        if(options != null){
+            String decimalChar = (String)options.get(NUMBER_OPTION_DECIMAL_CHAR);
+            if ((null != decimalChar) && !decimalChar.isEmpty() && !decimalChar.equals(NUMBER_DEFAULT_DECIMAL_CHAR)
+                    && locValue.contains(decimalChar)){
+                locValue = locValue.replace(decimalChar, NUMBER_DEFAULT_DECIMAL_CHAR);
+            }
 
-                if(options.containsKey(NUMBER_OPTION_GROUP_CHAR)){
-                    locValue = locValue.replace((String)options.get(NUMBER_OPTION_GROUP_CHAR), NUMBER_DEFAULT_GROUP_CHAR);
-                }
+            String groupChar = (String)options.get(NUMBER_OPTION_GROUP_CHAR);
+            if ((null != groupChar) && !groupChar.isEmpty() && locValue.contains(groupChar)){
+                locValue = locValue.replace(groupChar, NUMBER_DEFAULT_GROUP_CHAR);
+            }
 
-                if(options.containsKey(NUMBER_OPTION_BARE_NUMBER) && !(boolean)options.get(NUMBER_OPTION_BARE_NUMBER)){
-                    if (!(locValue.equalsIgnoreCase("NaN") || locValue.equalsIgnoreCase("INF") || locValue.equalsIgnoreCase("-INF"))) {
-                        locValue = locValue.replaceAll(REGEX_BARE_NUMBER, "");
-                    }
+            if(options.containsKey(NUMBER_OPTION_BARE_NUMBER) && !(boolean)options.get(NUMBER_OPTION_BARE_NUMBER)){
+                if (!(locValue.equalsIgnoreCase("NaN") || locValue.equalsIgnoreCase("INF") || locValue.equalsIgnoreCase("-INF"))) {
+                    locValue = PATTERN_BARE_NUMBER.matcher(locValue).replaceAll("");
                 }
             }
+        }
 
-            // Try to match integer pattern
-            Pattern intPattern = Pattern.compile(REGEX_INTEGER);
-            Matcher integerMatcher = intPattern.matcher(locValue);
+        // Try to match integer pattern
+        if(isInteger(locValue)){
+            return new BigInteger(locValue);
+        }
 
-            if(integerMatcher.matches()){
-                return new BigInteger(locValue);
-            }
+        // BigDecimal doesn't have NAN, INF...
+        if (locValue.equalsIgnoreCase("NaN")) {
+            return Double.NaN;
+        } else if (locValue.equalsIgnoreCase("INF")) {
+            return Double.POSITIVE_INFINITY;
+        } else if (locValue.equalsIgnoreCase("-INF")) {
+            return Double.NEGATIVE_INFINITY;
+        }
+        if (!isDecimal(locValue)) {
+            return INVALID_VALUE;
+        }
+        try {
+            return new BigDecimal(locValue);
+        } catch (NumberFormatException ex) {
+            // exponent out of range
+            return INVALID_VALUE;
+        }
+    }
 
-            // BigDecimal doesn't have NAN, INF...
-            if (locValue.equalsIgnoreCase("NaN")) {
-                return Double.NaN;
-            } else if (locValue.equalsIgnoreCase("INF")) {
-                return Double.POSITIVE_INFINITY;
-            } else if (locValue.equalsIgnoreCase("-INF")) {
-                return Double.NEGATIVE_INFINITY;
+    // Equivalent to matching the pattern [+-]?[0-9]+
+    private static boolean isInteger(String value) {
+        int length = value.length();
+        int start = ((length > 0) && ((value.charAt(0) == '-') || (value.charAt(0) == '+'))) ? 1 : 0;
+        if (start == length)
+            return false;
+        for (int i = start; i < length; i++) {
+            char c = value.charAt(i);
+            if ((c < '0') || (c > '9'))
+                return false;
+        }
+        return true;
+    }
+
+    // Checks the syntax accepted by `new BigDecimal(String)`: [+-]?(digits[.digits?]|.digits)([eE][+-]?digits)?
+    static boolean isDecimal(String value) {
+        int length = value.length();
+        int pos = 0;
+        if ((pos < length) && ((value.charAt(pos) == '-') || (value.charAt(pos) == '+')))
+            pos++;
+        int intDigits = 0;
+        while ((pos < length) && Character.isDigit(value.charAt(pos))) {
+            pos++;
+            intDigits++;
+        }
+        int fractionDigits = 0;
+        if ((pos < length) && (value.charAt(pos) == '.')) {
+            pos++;
+            while ((pos < length) && Character.isDigit(value.charAt(pos))) {
+                pos++;
+                fractionDigits++;
             }
-            return new BigDecimal(locValue);
-        }catch(Exception e){
-            throw new TypeInferringException();
         }
+        if (intDigits + fractionDigits == 0)
+            return false;
+        if ((pos < length) && ((value.charAt(pos) == 'e') || (value.charAt(pos) == 'E'))) {
+            pos++;
+            if ((pos < length) && ((value.charAt(pos) == '-') || (value.charAt(pos) == '+')))
+                pos++;
+            int expDigits = 0;
+            while ((pos < length) && Character.isDigit(value.charAt(pos))) {
+                pos++;
+                expDigits++;
+            }
+            if (expDigits == 0)
+                return false;
+        }
+        return pos == length;
     }
+
     public Object formatValueForJson(Number value) throws InvalidCastException, ConstraintsException {
         return formatValueAsString(value, null, options);
     }
@@ -196,6 +257,11 @@ public class NumberField extends Field<Number> {
         return insertThousandsGroupSeparator(locString, groupSeparator)+groupSeparator+remainder;
     }
 
+    @Override
+    boolean hasImmutableValues() {
+        return true;
+    }
+
     @Override
     public String parseFormat(String value, Map<String, Object> options) {
         return "default";
@@ -203,13 +269,16 @@ public class NumberField extends Field<Number> {
 
     @Override
     public Map<String, Object> getOptions() {
-        if (options == null) {
-            options = new HashMap<>();
-            options.put(NUMBER_OPTION_DECIMAL_CHAR, decimalChar);
-            options.put(NUMBER_OPTION_GROUP_CHAR, groupChar);
-            options.put(NUMBER_OPTION_BARE_NUMBER, bareNumber);
+        // build the defaults completely before publishing them, other threads may read `options` concurrently
+        Map<String, Object> opts = options;
+        if (opts == null) {
+            opts = new HashMap<>();
+            opts.put(NUMBER_OPTION_DECIMAL_CHAR, decimalChar);
+            opts.put(NUMBER_OPTION_GROUP_CHAR, groupChar);
+            opts.put(NUMBER_OPTION_BARE_NUMBER, bareNumber);
+            options = opts;
         }
-        return options;
+        return opts;
     }
 
     @Override
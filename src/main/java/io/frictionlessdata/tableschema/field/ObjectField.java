@@ -8,7 +8,6 @@ import java.net.URI;
 import java.util.Map;
 
 import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.JsonNode;
 
 public class ObjectField extends Field<Map<String, Object>> {
 
@@ -26,9 +25,17 @@ public class ObjectField extends Field<Map<String, Object>> {
     }
 
     @Override
-    public Map<String, Object> parseValue(String value, String format, Map<String, Object> options)
-            throws InvalidCastException, ConstraintsException {
-        return JsonUtil.getInstance().deserialize(value, new TypeReference<Map<String, Object>>(){});
+    public Object tryParseValue(String value, String format, Map<String, Object> options) {
+        // only a JSON object or `null` can be deserialized
+        char first = firstNonWhitespaceChar(value);
+        if ((first != '{') && (first != 'n')) {
+            return INVALID_VALUE;
+        }
+        try {
+            return JsonUtil.getInstance().deserialize(value, new TypeReference<Map<String, Object>>(){});
+        } catch (Exception ex) {
+            return INVALID_VALUE;
+        }
     }
 
 
@@ -4,8 +4,10 @@ import com.fasterxml.jackson.databind.BeanDescription;
 import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.introspect.AnnotatedField;
+import com.fasterxml.jackson.databind.introspect.AnnotatedMember;
 import com.fasterxml.jackson.databind.introspect.BeanPropertyDefinition;
 
+import java.lang.reflect.Member;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -26,4 +28,25 @@ public class ReflectionUtils {
         }
         return fieldNames;
     }
+
+    /**
+     * Find out how Jackson would set the properties of a bean when deserializing it.
+     * @param mapper the ObjectMapper whose configuration to use
+     * @param type the bean class
+     * @return for every declared property name, the setter {@link java.lang.reflect.Method} or, if there
+     *      is none, the {@link java.lang.reflect.Field} of the property
+     */
+    public static Map<String, Member> getMutatorMapping(ObjectMapper mapper, Class type) {
+        Map<String, Member> mutators = new HashMap<>();
+        JavaType jType = mapper.constructType(type);
+        BeanDescription desc = mapper.getDeserializationConfig()
+                .introspect(jType);
+        for (BeanPropertyDefinition def : desc.findProperties()) {
+            AnnotatedMember mutator = def.getNonConstructorMutator();
+            if (null != mutator) {
+                mutators.put(def.getName(), mutator.getMember());
+            }
+        }
+        return mutators;
+    }
 }
@@ -0,0 +1,154 @@
+package io.frictionlessdata.tableschema.field;
+
+import io.frictionlessdata.tableschema.exception.ConstraintsException;
+import io.frictionlessdata.tableschema.exception.InvalidCastException;
+import io.frictionlessdata.tableschema.validation.CastCache;
+import io.frictionlessdata.tableschema.validation.ValidationContext;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Casts whole rows for the Fields of a Schema. It works like calling
+ * {@link Field#castValue(CharSequence, boolean, java.util.Map, ValidationContext)} for every value with
+ * the Fields' own options, but everything that is the same for all rows gets decided once when compiling
+ * the caster instead of for every cell: whether the Field has a type, whether its values get cached and
+ * the cache to use, and which constraints there are to check. Fields without constraints don't check any.
+ *
+ * A caster is compiled for one iteration over a Table, as it is bound to the {@link ValidationContext}
+ * of the iteration. Like the context, it is not thread-safe.
+ */
+public final class RowCaster {
+    private final ColumnCaster[] columns;
+
+    private RowCaster(ColumnCaster[] columns) {
+        this.columns = columns;
+    }
+
+    /**
+     * Compile a caster for the Fields of a Schema.
+     * @param fields the Fields in Schema order
+     * @param enforceConstraints whether to check the constraints of the Fields
+     * @param context the context of the iteration, holding the state of `unique` constraints and the
+     *                cast caches
+     * @return the caster
+     */
+    public static RowCaster compile(List<Field> fields, boolean enforceConstraints, ValidationContext context) {
+        ColumnCaster[] columns = new ColumnCaster[fields.size()];
+        for (int i = 0; i < columns.length; i++) {
+            columns[i] = new ColumnCaster(fields.get(i), enforceConstraints, context);
+        }
+        return new RowCaster(columns);
+    }
+
+    /**
+     * Cast the values of a row into the order of the Fields.
+     * @param row the raw values in the order of the data
+     * @param mapping for every Field, the position of its value in `row`, or -1 if the data doesn't
+     *                have the column
+     * @param castRow the array to put the cast values in, at least as long as the list of Fields
+     * @return `castRow`
+     * @throws InvalidCastException if a value cannot be cast to the type of its Field
+     * @throws ConstraintsException if a value violates the constraints of its Field
+     */
+    public Object[] cast(CharSequence[] row, int[] mapping, Object[] castRow) {
+        for (int i = 0; i < columns.length; i++) {
+            int key = mapping[i];
+            // missing keys can happen for JSON arrays of JSON objects because
+            // null values will lead to missing entries
+            castRow[i] = (key >= 0) ? columns[i].cast(row[key]) : null;
+        }
+        return castRow;
+    }
+
+    /**
+     * Cast a single value, eg. when casting column by column.
+     * @param column the index of the Field
+     * @param value the raw value
+     * @return the cast value
+     * @throws InvalidCastException if the value cannot be cast to the type of the Field
+     * @throws ConstraintsException if the value violates the constraints of the Field
+     */
+    public Object cast(int column, CharSequence value) {
+        return columns[column].cast(value);
+    }
+
+    private static final class ColumnCaster {
+        private final Field<?> field;
+        private final boolean typed;
+        private final String format;
+        private final Map<String, Object> options;
+        // null if there are no constraints to check
+        private final ConstraintChecker[] checkers;
+        private final ValidationContext context;
+        private CastCache cache;
+
+        private ColumnCaster(Field<?> field, boolean enforceConstraints, ValidationContext context) {
+            this.field = field;
+            this.typed = !field.getType().isEmpty();
+            this.format = field.getFormat();
+            this.options = field.getOptions();
+            ConstraintChecker[] fieldCheckers = field.getConstraintCheckers();
+            this.checkers = (enforceConstraints && (null != field.getConstraints()) && (fieldCheckers.length > 0))
+                    ? fieldCheckers
+                    : null;
+            this.context = context;
+            this.cache = (field.hasImmutableValues() && (null != context)) ? context.getCastCache(field) : null;
+        }
+
+        private Object cast(CharSequence value) {
+            if (!typed) {
+                throw new InvalidCastException("Property 'type' must not be empty");
+            }
+            if (field.isMissingValue(value)) {
+                return null;
+            }
+            Object parsed;
+            CastCache c = cache;
+            if (null != c) {
+                parsed = c.get(value);
+                if (null == parsed) {
+                    parsed = parse(value);
+                    c.put(value, parsed);
+                }
+                if (c.isDisabled()) {
+                    cache = null;
+                }
+            } else {
+                parsed = parse(value);
+            }
+            if (parsed == Field.INVALID_VALUE) {
+                throw new InvalidCastException("Value "+value+" cannot be cast to type "+field.getType());
+            }
+            if (null != checkers) {
+                check(parsed);
+            }
+            return parsed;
+        }
+
+        private Object parse(CharSequence value) {
+            try {
+                return (value instanceof String)
+                        ? field.tryParseValue((String)value, format, options)
+                        : field.tryParseValue(value, format, options);
+            } catch (InvalidCastException ex) {
+                throw ex;
+            } catch (Exception ex) {
+                throw new InvalidCastException(ex);
+            }
+        }
+
+        // all checkers have to run, the `unique` checker records the value
+        private void check(Object value) {
+            int violations = 0;
+            for (ConstraintChecker checker : checkers) {
+                if (null != checker.check(field, value, context)) {
+                    violations++;
+                }
+            }
+            if (violations > 0) {
+                throw new ConstraintsException("Violated "+ violations+" constraints");
+            }
+        }
+    }
+}
@@ -41,7 +41,7 @@ public class StringField extends Field<String> {
     }
 
     @Override
-    public String parseValue(String value, String format, Map<String, Object> options) throws InvalidCastException, ConstraintsException {
+    public Object tryParseValue(String value, String format, Map<String, Object> options) {
         return value;
     }
 
@@ -90,6 +90,11 @@ public class StringField extends Field<String> {
         return FIELD_FORMAT_DEFAULT;
     }
 
+    @Override
+    boolean hasImmutableValues() {
+        return true;
+    }
+
     private boolean validUuid(String value) {
         Matcher uuidMatcher = PATTERN_UUID.matcher(value);
         return uuidMatcher.matches();
@@ -100,6 +105,10 @@ public class StringField extends Field<String> {
     }
 
     private boolean validUri(String value) {
+        // an URI with an authority part needs "scheme://", don't pay for a URISyntaxException otherwise
+        if (value.indexOf("://") < 1) {
+            return false;
+        }
         try {
             URI uri = new URI(value);
             return uri.getAuthority() != null &&
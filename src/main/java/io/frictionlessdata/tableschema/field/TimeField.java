@@ -2,12 +2,10 @@ package io.frictionlessdata.tableschema.field;
 
 import io.frictionlessdata.tableschema.exception.ConstraintsException;
 import io.frictionlessdata.tableschema.exception.InvalidCastException;
-import io.frictionlessdata.tableschema.exception.TypeInferringException;
 import io.frictionlessdata.tableschema.util.TableSchemaUtil;
 
 import java.net.URI;
 import java.time.LocalTime;
-import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
@@ -36,13 +34,18 @@ public class TimeField extends Field<LocalTime> {
     }
 
     @Override
-    public LocalTime parseValue(String value, String format, Map<String, Object> options) throws InvalidCastException, ConstraintsException {
+    public Object tryParseValue(String value, String format, Map<String, Object> options) {
+        return tryParseValue((CharSequence)value, format, options);
+    }
+
+    @Override
+    public Object tryParseValue(CharSequence value, String format, Map<String, Object> options) {
         if (format == null || "any".equals(format) || "default".equals(format)) {
             format = DEFAULT_FORMAT;
         }
         LocalTime parsedValue = TableSchemaUtil.parseTime(value, format);
         if (parsedValue == null) {
-            throw new TypeInferringException();
+            return INVALID_VALUE;
         }
         return parsedValue;
     }
@@ -50,12 +53,17 @@ public class TimeField extends Field<LocalTime> {
     @Override
     public String formatValueAsString(LocalTime value, String format, Map<String, Object> options) throws InvalidCastException, ConstraintsException {
         if (format == null || "any".equals(format) || "default".equals(format)) {
-            return value.format(DateTimeFormatter.ofPattern(DEFAULT_FORMAT));
+            return value.format(TableSchemaUtil.getFormatter(DEFAULT_FORMAT));
         } else {
-            return value.format(DateTimeFormatter.ofPattern(format));
+            return value.format(TableSchemaUtil.getFormatter(format));
         }
     }
 
+    @Override
+    boolean hasImmutableValues() {
+        return true;
+    }
+
     @Override
     public String parseFormat(String value, Map<String, Object> options) {
         return "default";
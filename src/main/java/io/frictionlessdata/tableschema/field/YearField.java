@@ -2,7 +2,6 @@ package io.frictionlessdata.tableschema.field;
 
 import io.frictionlessdata.tableschema.exception.ConstraintsException;
 import io.frictionlessdata.tableschema.exception.InvalidCastException;
-import io.frictionlessdata.tableschema.exception.TypeInferringException;
 
 import java.net.URI;
 import java.time.Year;
@@ -10,13 +9,8 @@ import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 public class YearField extends Field<Year> {
-    // yyyy
-    private static final String REGEX_YEAR = "([0-9]{4})";
-
     YearField() {
         super();
     }
@@ -31,16 +25,25 @@ public class YearField extends Field<Year> {
     }
 
     @Override
-    public Year parseValue(String value, String format, Map<String, Object> options) throws InvalidCastException, ConstraintsException {
-        Pattern pattern = Pattern.compile(REGEX_YEAR);
-        Matcher matcher = pattern.matcher(value);
-
-        if(matcher.matches()){
-            return Year.parse(value);
+    public Object tryParseValue(String value, String format, Map<String, Object> options) {
+        return tryParseValue((CharSequence)value, format, options);
+    }
 
-        }else{
-            throw new TypeInferringException();
+    @Override
+    public Object tryParseValue(CharSequence value, String format, Map<String, Object> options) {
+        // Equivalent to matching the pattern [0-9]{4}
+        if (value.length() != 4) {
+            return INVALID_VALUE;
         }
+        int year = 0;
+        for (int i = 0; i < 4; i++) {
+            char c = value.charAt(i);
+            if ((c < '0') || (c > '9')) {
+                return INVALID_VALUE;
+            }
+            year = year * 10 + (c - '0');
+        }
+        return Year.of(year);
     }
 
     @Override
@@ -54,6 +57,11 @@ public class YearField extends Field<Year> {
         return value.toString();
     }
 
+    @Override
+    boolean hasImmutableValues() {
+        return true;
+    }
+
     @Override
     public String parseFormat(String value, Map<String, Object> options) {
         return "default";
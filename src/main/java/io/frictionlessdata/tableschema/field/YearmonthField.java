@@ -2,22 +2,15 @@ package io.frictionlessdata.tableschema.field;
 
 import io.frictionlessdata.tableschema.exception.ConstraintsException;
 import io.frictionlessdata.tableschema.exception.InvalidCastException;
-import io.frictionlessdata.tableschema.exception.TypeInferringException;
 
 import java.net.URI;
 import java.time.YearMonth;
 import java.time.format.DateTimeFormatter;
-import java.time.temporal.TemporalAccessor;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 public class YearmonthField extends Field<YearMonth> {
-    // yyyy-MM
-    private static final String REGEX_YEARMONTH = "([0-9]{4})-(1[0-2]|0[1-9])";
-
     YearmonthField() {
         super();
     }
@@ -32,19 +25,30 @@ public class YearmonthField extends Field<YearMonth> {
     }
 
     @Override
-    public YearMonth parseValue(String value, String format, Map<String, Object> options)
-            throws InvalidCastException, ConstraintsException {
-        Pattern pattern = Pattern.compile(REGEX_YEARMONTH);
-        Matcher matcher = pattern.matcher(value);
-
-        if(matcher.matches()){
-            DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM");
-            TemporalAccessor dt = formatter.parse(value);
-
-            return YearMonth.from(dt);
-        }else{
-            throw new TypeInferringException();
+    public Object tryParseValue(String value, String format, Map<String, Object> options) {
+        // Equivalent to matching the pattern ([0-9]{4})-(1[0-2]|0[1-9])
+        if ((value.length() != 7) || (value.charAt(4) != '-')) {
+            return INVALID_VALUE;
+        }
+        int year = 0;
+        for (int i = 0; i < 4; i++) {
+            char c = value.charAt(i);
+            if ((c < '0') || (c > '9')) {
+                return INVALID_VALUE;
+            }
+            year = year * 10 + (c - '0');
         }
+        char m1 = value.charAt(5);
+        char m2 = value.charAt(6);
+        if ((m1 < '0') || (m1 > '1') || (m2 < '0') || (m2 > '9')) {
+            return INVALID_VALUE;
+        }
+        int month = (m1 - '0') * 10 + (m2 - '0');
+        // the `yyyy` year-of-era pattern used before doesn't know about year 0
+        if ((year == 0) || (month < 1) || (month > 12)) {
+            return INVALID_VALUE;
+        }
+        return YearMonth.of(year, month);
     }
 
     @Override
@@ -53,6 +57,11 @@ public class YearmonthField extends Field<YearMonth> {
         return value.toString();
     }
 
+    @Override
+    boolean hasImmutableValues() {
+        return true;
+    }
+
     @Override
     public String parseFormat(String value, Map<String, Object> options) {
         return "default";
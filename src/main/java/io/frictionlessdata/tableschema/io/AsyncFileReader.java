@@ -0,0 +1,125 @@
+package io.frictionlessdata.tableschema.io;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.channels.AsynchronousFileChannel;
+import java.nio.channels.CompletionHandler;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+
+/**
+ * Reads the whole content of files and URLs without blocking the calling thread, so many resources can
+ * be loaded at the same time. Local files are read through an {@link AsynchronousFileChannel}, other
+ * URLs are read on the given Executor, as `URL` streams can only be read blocking.
+ */
+public final class AsyncFileReader {
+
+    private AsyncFileReader() {}
+
+    /**
+     * Read a local file.
+     * @param path the file to read
+     * @return future completing with the content of the file, or exceptionally with the IOException
+     */
+    public static CompletableFuture<byte[]> read(Path path) {
+        CompletableFuture<byte[]> result = new CompletableFuture<>();
+        AsynchronousFileChannel channel = null;
+        ByteBuffer buffer;
+        try {
+            channel = AsynchronousFileChannel.open(path, StandardOpenOption.READ);
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE - 8) {
+                throw new IOException("File too large to read into memory: " + path);
+            }
+            buffer = ByteBuffer.allocate((int) size);
+        } catch (IOException ex) {
+            if (null != channel) {
+                closeQuietly(channel);
+            }
+            result.completeExceptionally(ex);
+            return result;
+        }
+        readFrom(channel, buffer, result);
+        return result;
+    }
+
+    /**
+     * Read a URL. `file:` URLs are read like local files, others on the Executor.
+     * @param url the URL to read
+     * @param executor the Executor to read non-file URLs on
+     * @return future completing with the content, or exceptionally with the IOException
+     */
+    public static CompletableFuture<byte[]> read(URL url, Executor executor) {
+        if ("file".equalsIgnoreCase(url.getProtocol())) {
+            try {
+                return read(Paths.get(url.toURI()));
+            } catch (URISyntaxException | IllegalArgumentException ex) {
+                // not a plain file path, eg. with a host part, read it like other URLs
+            }
+        }
+        return CompletableFuture.supplyAsync(() -> {
+            try (InputStream in = url.openStream()) {
+                ByteArrayOutputStream out = new ByteArrayOutputStream();
+                byte[] chunk = new byte[8192];
+                int read;
+                while ((read = in.read(chunk)) != -1) {
+                    out.write(chunk, 0, read);
+                }
+                return out.toByteArray();
+            } catch (IOException ex) {
+                throw new CompletionException(ex);
+            }
+        }, executor);
+    }
+
+    // keeps reading until the buffer is full or the file ends, the file may have changed size
+    private static void readFrom(AsynchronousFileChannel channel, ByteBuffer buffer, CompletableFuture<byte[]> result) {
+        if (!buffer.hasRemaining()) {
+            complete(channel, buffer, result);
+            return;
+        }
+        channel.read(buffer, buffer.position(), null, new CompletionHandler<Integer, Void>() {
+            @Override
+            public void completed(Integer read, Void attachment) {
+                if (read < 0) {
+                    complete(channel, buffer, result);
+                } else {
+                    readFrom(channel, buffer, result);
+                }
+            }
+
+            @Override
+            public void failed(Throwable t, Void attachment) {
+                closeQuietly(channel);
+                result.completeExceptionally(t);
+            }
+        });
+    }
+
+    private static void complete(AsynchronousFileChannel channel, ByteBuffer buffer, CompletableFuture<byte[]> result) {
+        closeQuietly(channel);
+        byte[] content = buffer.array();
+        if (buffer.position() < content.length) {
+            byte[] truncated = new byte[buffer.position()];
+            System.arraycopy(content, 0, truncated, 0, truncated.length);
+            content = truncated;
+        }
+        result.complete(content);
+    }
+
+    private static void closeQuietly(AsynchronousFileChannel channel) {
+        try {
+            channel.close();
+        } catch (IOException ex) {
+            // the content has been read or the read failed already
+        }
+    }
+}
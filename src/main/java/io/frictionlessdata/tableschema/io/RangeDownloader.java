@@ -0,0 +1,295 @@
+package io.frictionlessdata.tableschema.io;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.net.URLConnection;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Downloads large HTTP(S) resources over several connections at the same time. The first request asks
+ * for the first chunk of the resource. If the server answers with a partial response, the remaining
+ * chunks are requested as byte ranges in parallel and written to their position in a local file,
+ * else the full response is read over the one connection. Ranges are requested with `If-Range`, so a
+ * resource that changes during the download isn't pieced together from different versions.
+ *
+ * A failed chunk is requested again from where it broke off, up to `maxRetries` times. Other URLs,
+ * eg. `file:` URLs, are copied directly.
+ */
+public class RangeDownloader {
+    public static final int DEFAULT_PARALLELISM = 4;
+    public static final int DEFAULT_CHUNK_SIZE = 4 * 1024 * 1024;
+    public static final int DEFAULT_MAX_RETRIES = 3;
+
+    private static final Pattern CONTENT_RANGE = Pattern.compile("bytes\\s+(\\d+)-(\\d+)/(\\d+|\\*)");
+    private static final AtomicInteger poolCount = new AtomicInteger();
+
+    private final int parallelism;
+    private final int chunkSize;
+    private final int maxRetries;
+
+    public RangeDownloader() {
+        this(DEFAULT_PARALLELISM, DEFAULT_CHUNK_SIZE, DEFAULT_MAX_RETRIES);
+    }
+
+    /**
+     * @param parallelism the maximum number of connections per download
+     * @param chunkSize the size of the byte ranges to request
+     * @param maxRetries how often a failed range gets requested again
+     */
+    public RangeDownloader(int parallelism, int chunkSize, int maxRetries) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Parallelism must be positive");
+        }
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("Chunk size must be positive");
+        }
+        if (maxRetries < 0) {
+            throw new IllegalArgumentException("Retries must not be negative");
+        }
+        this.parallelism = parallelism;
+        this.chunkSize = chunkSize;
+        this.maxRetries = maxRetries;
+    }
+
+    /**
+     * Download a URL into a temporary file and open it. The file is deleted when the stream is closed.
+     * @param url the URL to download
+     * @return stream over the downloaded data
+     * @throws IOException if the download fails
+     */
+    public InputStream open(URL url) throws IOException {
+        Path file = Files.createTempFile("tableschema-download-", ".data");
+        try {
+            download(url, file);
+            return new DeletingFileInputStream(file.toFile());
+        } catch (IOException | RuntimeException ex) {
+            Files.deleteIfExists(file);
+            throw ex;
+        }
+    }
+
+    /**
+     * Download a URL into a file.
+     * @param url the URL to download
+     * @param target the file to write, replaced if it exists
+     * @throws IOException if the download fails
+     */
+    public void download(URL url, Path target) throws IOException {
+        URLConnection connection = url.openConnection();
+        if (!(connection instanceof HttpURLConnection)) {
+            try (InputStream in = connection.getInputStream()) {
+                Files.copy(in, target, StandardCopyOption.REPLACE_EXISTING);
+            }
+            return;
+        }
+        try (FileChannel channel = FileChannel.open(target, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            int attempts = 0;
+            while (true) {
+                try {
+                    downloadInto(url, (HttpURLConnection) connection, channel);
+                    return;
+                } catch (FatalDownloadException ex) {
+                    throw ex;
+                } catch (IOException ex) {
+                    // the first request or the download over one connection failed, start over
+                    if (++attempts > maxRetries) {
+                        throw ex;
+                    }
+                    channel.truncate(0);
+                    connection = url.openConnection();
+                }
+            }
+        }
+    }
+
+    private void downloadInto(URL url, HttpURLConnection first, FileChannel channel) throws IOException {
+        first.setRequestProperty("Range", "bytes=0-" + (chunkSize - 1));
+        int status = first.getResponseCode();
+        if ((status >= 400) && (status < 500) && (status != 416)) {
+            first.disconnect();
+            throw new FatalDownloadException("Server returned HTTP response code " + status + " for " + url, null);
+        }
+        Matcher range = (status == HttpURLConnection.HTTP_PARTIAL)
+                ? CONTENT_RANGE.matcher(String.valueOf(first.getHeaderField("Content-Range")))
+                : null;
+        if ((null == range) || !range.matches() || range.group(3).equals("*") || !range.group(1).equals("0")) {
+            // no ranges, or ranges we can't piece together: read the whole resource over one connection.
+            // Only a 200 response has the whole resource as its body, anything else, eg. a 416 for an
+            // empty resource, is requested again without a range
+            if (status != HttpURLConnection.HTTP_OK) {
+                first.disconnect();
+                first = (HttpURLConnection) url.openConnection();
+            }
+            channel.truncate(0);
+            copy(first, channel, 0, new long[1]);
+            return;
+        }
+        long length = Long.parseLong(range.group(3));
+        long firstEnd = Long.parseLong(range.group(2));
+        String validator = first.getHeaderField("ETag");
+        if (null == validator) {
+            validator = first.getHeaderField("Last-Modified");
+        }
+
+        List<long[]> chunks = new ArrayList<>();
+        for (long start = firstEnd + 1; start < length; start += chunkSize) {
+            chunks.add(new long[]{start, Math.min(start + chunkSize, length) - 1});
+        }
+        ExecutorService executor = chunks.isEmpty()
+                ? null
+                : Executors.newFixedThreadPool(Math.min(parallelism, chunks.size()), downloadThreads());
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (long[] chunk : chunks) {
+                String chunkValidator = validator;
+                futures.add(executor.submit(() -> {
+                    downloadRange(url, chunk[0], chunk[1], chunkValidator, channel);
+                    return null;
+                }));
+            }
+            long[] read = new long[1];
+            try {
+                copy(first, channel, 0, read);
+            } catch (IOException ex) {
+                // requested again below
+            }
+            if (read[0] <= firstEnd) {
+                downloadRange(url, read[0], firstEnd, validator, channel);
+            }
+            for (Future<?> future : futures) {
+                try {
+                    future.get();
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                    throw new IOException(ex);
+                } catch (ExecutionException ex) {
+                    if (ex.getCause() instanceof FatalDownloadException) {
+                        throw (FatalDownloadException) ex.getCause();
+                    }
+                    throw new FatalDownloadException("Download of " + url + " failed", ex.getCause());
+                }
+            }
+        } finally {
+            if (null != executor) {
+                executor.shutdownNow();
+            }
+        }
+        if (channel.size() != length) {
+            throw new FatalDownloadException("Downloaded " + channel.size() + " of " + length + " bytes from " + url, null);
+        }
+    }
+
+    private void downloadRange(URL url, long start, long end, String validator, FileChannel channel)
+            throws IOException {
+        long position = start;
+        int attempts = 0;
+        long[] read = new long[1];
+        while (position <= end) {
+            read[0] = 0;
+            HttpURLConnection connection = (HttpURLConnection) url.openConnection();
+            connection.setRequestProperty("Range", "bytes=" + position + "-" + end);
+            if (null != validator) {
+                connection.setRequestProperty("If-Range", validator);
+            }
+            try {
+                int status = connection.getResponseCode();
+                if (status == HttpURLConnection.HTTP_OK) {
+                    // If-Range answers with the whole resource if it doesn't match anymore
+                    connection.disconnect();
+                    throw new FatalDownloadException("Expected a partial response for bytes " + position
+                            + "-" + end + " of " + url + ", the resource has changed", null);
+                }
+                if (status != HttpURLConnection.HTTP_PARTIAL) {
+                    // eg. a 503 of an overloaded server, worth another attempt
+                    connection.disconnect();
+                    throw new IOException("Server returned HTTP response code " + status + " for bytes "
+                            + position + "-" + end + " of " + url);
+                }
+                copy(connection, channel, position, read);
+                if (position + read[0] <= end) {
+                    throw new IOException("Range response for " + url + " ended early");
+                }
+            } catch (FatalDownloadException ex) {
+                throw ex;
+            } catch (IOException ex) {
+                if (++attempts > maxRetries) {
+                    throw new FatalDownloadException("Download of bytes " + position + "-" + end + " of " + url
+                            + " failed", ex);
+                }
+            } finally {
+                position += read[0];
+            }
+        }
+    }
+
+    // writes the body from `position` on, `written` holds the number of bytes written even if reading breaks off
+    private static void copy(HttpURLConnection connection, FileChannel channel, long position, long[] written)
+            throws IOException {
+        byte[] chunk = new byte[64 * 1024];
+        try (InputStream in = connection.getInputStream()) {
+            int read;
+            while ((read = in.read(chunk)) != -1) {
+                ByteBuffer buffer = ByteBuffer.wrap(chunk, 0, read);
+                while (buffer.hasRemaining()) {
+                    written[0] += channel.write(buffer, position + written[0]);
+                }
+            }
+        }
+    }
+
+    private static ThreadFactory downloadThreads() {
+        int pool = poolCount.incrementAndGet();
+        AtomicInteger threadCount = new AtomicInteger();
+        return (runnable) -> {
+            Thread thread = new Thread(runnable, "table-download-" + pool + "-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    // retrying the whole download wouldn't help, eg. because the resource has changed or a range failed
+    // after its retries
+    private static final class FatalDownloadException extends IOException {
+        private FatalDownloadException(String message, Throwable cause) {
+            super(message, cause);
+        }
+    }
+
+    private static final class DeletingFileInputStream extends FileInputStream {
+        private final File file;
+
+        private DeletingFileInputStream(File file) throws IOException {
+            super(file);
+            this.file = file;
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                super.close();
+            } finally {
+                Files.deleteIfExists(file.toPath());
+            }
+        }
+    }
+}
@@ -0,0 +1,212 @@
+package io.frictionlessdata.tableschema.io;
+
+import java.io.Closeable;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.net.URLConnection;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Keeps local copies of remote data, so reading a URL-backed data source more than once, eg. for
+ * validating and then reading a Table, downloads the data only once. The body of an HTTP(S) URL is
+ * spooled to a file in the cache directory on the first read. Later reads send a conditional request
+ * with the `ETag` and `Last-Modified` validators of the copy and only download the data again if it
+ * has changed. Copies of responses without validators are used as they are.
+ *
+ * The cache is bounded by the total size of the copies: once it is exceeded, the least recently used
+ * copies are deleted, but never the one just downloaded. One cache can be shared by many Tables and
+ * threads. Other URLs, eg. `file:` or `jar:` URLs, are read directly.
+ */
+public class RemoteCache implements Closeable {
+    private static final String HEADER_ETAG = "ETag";
+    private static final String HEADER_LAST_MODIFIED = "Last-Modified";
+
+    private final Path directory;
+    private final long maxBytes;
+    // in access order, for LRU eviction
+    private final Map<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long totalBytes = 0;
+
+    /**
+     * Create a cache in a new temporary directory.
+     * @param maxBytes the maximum total size of the cached copies
+     * @throws IOException if the directory can't be created
+     */
+    public RemoteCache(long maxBytes) throws IOException {
+        this(Files.createTempDirectory("tableschema-cache"), maxBytes);
+    }
+
+    /**
+     * Create a cache in a directory.
+     * @param directory the directory to store the copies in, created if it doesn't exist
+     * @param maxBytes the maximum total size of the cached copies
+     * @throws IOException if the directory can't be created
+     */
+    public RemoteCache(Path directory, long maxBytes) throws IOException {
+        if (maxBytes < 1) {
+            throw new IllegalArgumentException("Cache size must be positive");
+        }
+        this.directory = Files.createDirectories(directory);
+        this.maxBytes = maxBytes;
+    }
+
+    /**
+     * Open the data of a URL, from the local copy if it is still valid.
+     * @param url the URL to read
+     * @return stream over the data, to be closed by the caller
+     * @throws IOException if the data can't be downloaded or read
+     */
+    public InputStream open(URL url) throws IOException {
+        URLConnection connection = url.openConnection();
+        if (!(connection instanceof HttpURLConnection)) {
+            return connection.getInputStream();
+        }
+        HttpURLConnection http = (HttpURLConnection) connection;
+        String key = url.toExternalForm();
+        Entry cached;
+        synchronized (this) {
+            cached = entries.get(key);
+        }
+        if (null != cached) {
+            if ((null == cached.etag) && (null == cached.lastModified)) {
+                InputStream in = openCopy(cached);
+                if (null != in) {
+                    return in;
+                }
+            } else {
+                if (null != cached.etag) {
+                    http.setRequestProperty("If-None-Match", cached.etag);
+                }
+                if (null != cached.lastModified) {
+                    http.setRequestProperty("If-Modified-Since", cached.lastModified);
+                }
+            }
+        }
+        int status = http.getResponseCode();
+        if ((status == HttpURLConnection.HTTP_NOT_MODIFIED) && (null != cached)) {
+            http.disconnect();
+            InputStream in = openCopy(cached);
+            if (null != in) {
+                return in;
+            }
+            // evicted in the meantime, download again without validators
+            http = (HttpURLConnection) url.openConnection();
+        }
+        return download(key, http);
+    }
+
+    /**
+     * @return the total size of the cached copies in bytes
+     */
+    public synchronized long getSizeInBytes() {
+        return totalBytes;
+    }
+
+    /**
+     * @param url the URL to look up
+     * @return true if there is a local copy of the URL's data
+     */
+    public synchronized boolean contains(URL url) {
+        return entries.containsKey(url.toExternalForm());
+    }
+
+    /**
+     * Delete all copies.
+     */
+    public synchronized void clear() {
+        for (Entry entry : entries.values()) {
+            delete(entry);
+        }
+        entries.clear();
+        totalBytes = 0;
+    }
+
+    /**
+     * Delete all copies, the cache can still be used afterwards.
+     */
+    @Override
+    public void close() {
+        clear();
+    }
+
+    // returns a stream over the new copy
+    private InputStream download(String key, HttpURLConnection http) throws IOException {
+        Path file = Files.createTempFile(directory, "remote-", ".data");
+        try (InputStream in = http.getInputStream()) {
+            Files.copy(in, file, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException ex) {
+            Files.deleteIfExists(file);
+            throw ex;
+        }
+        // opened before the copy is published: another thread downloading the same URL may replace
+        // and delete it right afterwards
+        InputStream copy = new FileInputStream(file.toFile());
+        Entry entry = new Entry(file, Files.size(file),
+                http.getHeaderField(HEADER_ETAG), http.getHeaderField(HEADER_LAST_MODIFIED));
+        List<Entry> evicted = new ArrayList<>();
+        synchronized (this) {
+            Entry previous = entries.put(key, entry);
+            if (null != previous) {
+                totalBytes -= previous.size;
+                evicted.add(previous);
+            }
+            totalBytes += entry.size;
+            Iterator<Map.Entry<String, Entry>> iter = entries.entrySet().iterator();
+            while ((totalBytes > maxBytes) && iter.hasNext()) {
+                Entry eldest = iter.next().getValue();
+                if (eldest == entry) {
+                    continue;
+                }
+                iter.remove();
+                totalBytes -= eldest.size;
+                evicted.add(eldest);
+            }
+        }
+        for (Entry e : evicted) {
+            delete(e);
+        }
+        return copy;
+    }
+
+    // null if the copy has been evicted in the meantime
+    private static InputStream openCopy(Entry entry) {
+        try {
+            return new FileInputStream(entry.file.toFile());
+        } catch (IOException ex) {
+            return null;
+        }
+    }
+
+    // open streams keep reading an evicted copy where the file system allows deleting open files
+    private static void delete(Entry entry) {
+        try {
+            Files.deleteIfExists(entry.file);
+        } catch (IOException ex) {
+            entry.file.toFile().deleteOnExit();
+        }
+    }
+
+    private static final class Entry {
+        private final Path file;
+        private final long size;
+        private final String etag;
+        private final String lastModified;
+
+        private Entry(Path file, long size, String etag, String lastModified) {
+            this.file = file;
+            this.size = size;
+            this.etag = etag;
+            this.lastModified = lastModified;
+        }
+    }
+}
@@ -7,15 +7,26 @@ import java.net.URL;
 public class URLFileReference implements FileReference<URL> {
     URL inputFile;
     InputStream is;
+    RangeDownloader downloader;
 
     public URLFileReference(URL source) {
         inputFile = source;
     }
 
+    /**
+     * Reference a URL that gets downloaded as parallel byte ranges when it is opened.
+     * @param source the URL
+     * @param downloader the downloader to fetch the URL with
+     */
+    public URLFileReference(URL source, RangeDownloader downloader) {
+        inputFile = source;
+        this.downloader = downloader;
+    }
+
     @Override
     public InputStream getInputStream() throws Exception {
         if (null == is)
-            is = inputFile.openStream();
+            is = (null != downloader) ? downloader.open(inputFile) : inputFile.openStream();
         return is;
     }
 
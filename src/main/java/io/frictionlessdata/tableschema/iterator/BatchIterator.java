@@ -0,0 +1,200 @@
+package io.frictionlessdata.tableschema.iterator;
+
+import io.frictionlessdata.tableschema.Table;
+import io.frictionlessdata.tableschema.datasourceformat.DataSourceFormat;
+import io.frictionlessdata.tableschema.exception.TableSchemaException;
+import io.frictionlessdata.tableschema.field.*;
+
+import java.math.BigInteger;
+import java.time.LocalDate;
+import java.util.BitSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * Iterates over a Table in batches of rows, returned column by column as {@link ColumnBatch}es. The
+ * raw values of a batch are collected per column first, then each column is cast in one loop into a
+ * typed vector, so the calls into the Field of the column stay monomorphic and the vectors don't
+ * box primitive values.
+ *
+ * Constraints are checked like by the other iterators. A value that can't be cast fails the whole batch.
+ */
+public class BatchIterator extends TableIterator<ColumnBatch> {
+    private final int batchSize;
+    private final String[] names;
+    private final ColumnBatch.VectorType[] types;
+
+    public BatchIterator(Table table, int batchSize) throws Exception {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("Batch size must be positive");
+        }
+        if (null == table.getSchema()) {
+            throw new TableSchemaException("Cannot cast without a schema");
+        }
+        this.batchSize = batchSize;
+        this.init(table);
+        List<Field> fields = schema.getFields();
+        this.names = new String[fields.size()];
+        this.types = new ColumnBatch.VectorType[fields.size()];
+        for (int i = 0; i < names.length; i++) {
+            names[i] = fields.get(i).getName();
+            types[i] = vectorType(fields.get(i));
+        }
+    }
+
+    /**
+     * The raw values are collected over a whole batch, so they have to be Strings and not views
+     * that are only valid for the current row.
+     */
+    @Override
+    Iterator<String[]> openRows(DataSourceFormat dataSourceFormat) throws Exception {
+        return dataSourceFormat.iterator();
+    }
+
+    @Override
+    public ColumnBatch next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        String[][] raw = new String[names.length][batchSize];
+        int rows = 0;
+        while ((rows < batchSize) && this.wrappedIterator.hasNext()) {
+            CharSequence[] row = this.wrappedIterator.next();
+            for (int i = 0; i < names.length; i++) {
+                int key = mapping[i];
+                raw[i][rows] = (key >= 0) ? (String) row[key] : null;
+            }
+            rows++;
+        }
+        index += rows;
+
+        ColumnBatch.VectorType[] batchTypes = types.clone();
+        Object[] vectors = new Object[names.length];
+        BitSet[] nulls = new BitSet[names.length];
+        for (int i = 0; i < names.length; i++) {
+            nulls[i] = new BitSet(rows);
+            switch (types[i]) {
+                case LONG:
+                    vectors[i] = castLongs(i, raw[i], rows, nulls[i]);
+                    if (vectors[i] instanceof Object[]) {
+                        batchTypes[i] = ColumnBatch.VectorType.OBJECT;
+                    }
+                    break;
+                case DOUBLE:
+                    vectors[i] = castDoubles(i, raw[i], rows, nulls[i]);
+                    break;
+                case EPOCH_DAY:
+                    vectors[i] = castEpochDays(i, raw[i], rows, nulls[i]);
+                    break;
+                case BOOLEAN:
+                    vectors[i] = castBooleans(i, raw[i], rows, nulls[i]);
+                    break;
+                case STRING:
+                    vectors[i] = castObjects(i, raw[i], rows, nulls[i], new String[rows]);
+                    break;
+                default:
+                    vectors[i] = castObjects(i, raw[i], rows, nulls[i], new Object[rows]);
+            }
+        }
+        return new ColumnBatch(names, batchTypes, vectors, nulls, rows);
+    }
+
+    // long[], or Object[] holding BigIntegers if a value in the batch doesn't fit into a long
+    private Object castLongs(int column, String[] raw, int rows, BitSet nulls) {
+        RowCaster caster = rowCaster();
+        long[] vector = new long[rows];
+        for (int r = 0; r < rows; r++) {
+            Number value = (Number) caster.cast(column, raw[r]);
+            if (null == value) {
+                nulls.set(r);
+            } else if ((value instanceof BigInteger) && (((BigInteger) value).bitLength() > 63)) {
+                Object[] objects = new Object[rows];
+                for (int i = 0; i < r; i++) {
+                    objects[i] = nulls.get(i) ? null : BigInteger.valueOf(vector[i]);
+                }
+                objects[r] = value;
+                for (int i = r + 1; i < rows; i++) {
+                    objects[i] = caster.cast(column, raw[i]);
+                    if (null == objects[i]) {
+                        nulls.set(i);
+                    }
+                }
+                return objects;
+            } else {
+                vector[r] = value.longValue();
+            }
+        }
+        return vector;
+    }
+
+    private double[] castDoubles(int column, String[] raw, int rows, BitSet nulls) {
+        RowCaster caster = rowCaster();
+        double[] vector = new double[rows];
+        for (int r = 0; r < rows; r++) {
+            Number value = (Number) caster.cast(column, raw[r]);
+            if (null == value) {
+                nulls.set(r);
+            } else {
+                vector[r] = value.doubleValue();
+            }
+        }
+        return vector;
+    }
+
+    private int[] castEpochDays(int column, String[] raw, int rows, BitSet nulls) {
+        RowCaster caster = rowCaster();
+        int[] vector = new int[rows];
+        for (int r = 0; r < rows; r++) {
+            LocalDate value = (LocalDate) caster.cast(column, raw[r]);
+            if (null == value) {
+                nulls.set(r);
+            } else {
+                vector[r] = (int) value.toEpochDay();
+            }
+        }
+        return vector;
+    }
+
+    private boolean[] castBooleans(int column, String[] raw, int rows, BitSet nulls) {
+        RowCaster caster = rowCaster();
+        boolean[] vector = new boolean[rows];
+        for (int r = 0; r < rows; r++) {
+            Boolean value = (Boolean) caster.cast(column, raw[r]);
+            if (null == value) {
+                nulls.set(r);
+            } else {
+                vector[r] = value;
+            }
+        }
+        return vector;
+    }
+
+    private Object[] castObjects(int column, String[] raw, int rows, BitSet nulls, Object[] vector) {
+        RowCaster caster = rowCaster();
+        for (int r = 0; r < rows; r++) {
+            Object value = caster.cast(column, raw[r]);
+            if (null == value) {
+                nulls.set(r);
+            } else {
+                vector[r] = value;
+            }
+        }
+        return vector;
+    }
+
+    private static ColumnBatch.VectorType vectorType(Field<?> field) {
+        if (field instanceof IntegerField) {
+            return ColumnBatch.VectorType.LONG;
+        } else if (field instanceof NumberField) {
+            return ColumnBatch.VectorType.DOUBLE;
+        } else if (field instanceof DateField) {
+            return ColumnBatch.VectorType.EPOCH_DAY;
+        } else if (field instanceof BooleanField) {
+            return ColumnBatch.VectorType.BOOLEAN;
+        } else if (field instanceof StringField) {
+            return ColumnBatch.VectorType.STRING;
+        }
+        return ColumnBatch.VectorType.OBJECT;
+    }
+}
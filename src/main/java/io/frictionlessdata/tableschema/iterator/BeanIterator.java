@@ -0,0 +1,228 @@
+package io.frictionlessdata.tableschema.iterator;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.frictionlessdata.tableschema.Table;
+import io.frictionlessdata.tableschema.exception.InvalidCastException;
+import io.frictionlessdata.tableschema.exception.TableSchemaException;
+import io.frictionlessdata.tableschema.field.Field;
+import io.frictionlessdata.tableschema.field.ReflectionUtils;
+import io.frictionlessdata.tableschema.util.JsonUtil;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Member;
+import java.lang.reflect.Method;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Iterates over the rows of a Table as instances of a bean class. Columns are bound to bean properties
+ * by the names Jackson would use, eg. from {@link com.fasterxml.jackson.annotation.JsonProperty}
+ * annotations. The bindings are resolved once per iterator into MethodHandles for the setters or fields,
+ * so the cast values get assigned directly, without a Map per row or a Jackson conversion.
+ *
+ * Numeric values are converted to the numeric type of the property, eg. `int`, `Long` or `AtomicLong`,
+ * other Number classes are created through a public constructor taking a double or long. String
+ * properties get the formatted value. Values of other types that can't be assigned to the property
+ * are converted by Jackson. Columns without a property are ignored, as are null values for
+ * primitive properties.
+ *
+ * The class needs a no-argument constructor, it doesn't have to be public.
+ */
+public class BeanIterator<T> extends TableIterator<T> {
+    private static final ObjectMapper mapper = new ObjectMapper();
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+    private final MethodHandle constructor;
+    private final Binding[] bindings;
+
+    public BeanIterator(Table table, Class<T> type) throws Exception {
+        if (null == table.getSchema()) {
+            throw new TableSchemaException("Cannot create beans without a schema");
+        }
+        this.init(table);
+        this.constructor = findConstructor(type);
+        this.bindings = bind(type);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T next() {
+        CharSequence[] row = this.wrappedIterator.next();
+        // cast all values, not only the bound ones, so constraints are checked like for other iterators
+        Object[] values = rowCaster().cast(row, mapping, new Object[this.schema.getFields().size()]);
+        try {
+            Object bean = (Object) constructor.invokeExact();
+            for (Binding binding : bindings) {
+                Object value = values[binding.column];
+                if (null != value) {
+                    binding.setter.invokeExact(bean, binding.converter.apply(value));
+                } else if (!binding.primitive) {
+                    binding.setter.invokeExact(bean, (Object) null);
+                }
+            }
+            return (T) bean;
+        } catch (ArithmeticException ex) {
+            throw new InvalidCastException(ex);
+        } catch (RuntimeException | Error ex) {
+            throw ex;
+        } catch (Throwable t) {
+            throw new TableSchemaException(t);
+        }
+    }
+
+    private static MethodHandle findConstructor(Class<?> type) {
+        try {
+            java.lang.reflect.Constructor<?> constructor = type.getDeclaredConstructor();
+            constructor.setAccessible(true);
+            return MethodHandles.lookup()
+                    .unreflectConstructor(constructor)
+                    .asType(MethodType.methodType(Object.class));
+        } catch (NoSuchMethodException | IllegalAccessException ex) {
+            throw new TableSchemaException("Class " + type.getName() + " needs a no-argument constructor");
+        }
+    }
+
+    private Binding[] bind(Class<?> type) throws IllegalAccessException {
+        Map<String, Member> mutators = ReflectionUtils.getMutatorMapping(mapper, type);
+        List<Binding> bindings = new ArrayList<>();
+        List<Field> fields = schema.getFields();
+        for (int i = 0; i < fields.size(); i++) {
+            Member mutator = mutators.get(fields.get(i).getName());
+            if (null == mutator) {
+                continue;
+            }
+            MethodHandle setter;
+            Class<?> propertyType;
+            if (mutator instanceof Method) {
+                Method method = (Method) mutator;
+                method.setAccessible(true);
+                setter = MethodHandles.lookup().unreflect(method);
+                propertyType = method.getParameterTypes()[0];
+            } else {
+                java.lang.reflect.Field field = (java.lang.reflect.Field) mutator;
+                field.setAccessible(true);
+                setter = MethodHandles.lookup().unreflectSetter(field);
+                propertyType = field.getType();
+            }
+            bindings.add(new Binding(i, setter.asType(SETTER_TYPE), propertyType.isPrimitive(),
+                    converterFor(propertyType, fields.get(i))));
+        }
+        return bindings.toArray(new Binding[0]);
+    }
+
+    /*
+     * Conversion of a cast value to the type of a property. Most of the time, the value already has
+     * the right type and is passed through.
+     */
+    private static Function<Object, Object> converterFor(Class<?> propertyType, Field field) {
+        Class<?> type = boxed(propertyType);
+        if (type == String.class) {
+            return (v) -> (v instanceof String) ? v : field.formatValueAsString(v);
+        } else if (type == Integer.class) {
+            return numeric(type, (n) -> (n instanceof BigInteger) ? ((BigInteger) n).intValueExact() : n.intValue());
+        } else if (type == Long.class) {
+            return numeric(type, (n) -> (n instanceof BigInteger) ? ((BigInteger) n).longValueExact() : n.longValue());
+        } else if (type == Short.class) {
+            return numeric(type, (n) -> (n instanceof BigInteger) ? ((BigInteger) n).shortValueExact() : n.shortValue());
+        } else if (type == Byte.class) {
+            return numeric(type, (n) -> (n instanceof BigInteger) ? ((BigInteger) n).byteValueExact() : n.byteValue());
+        } else if (type == Float.class) {
+            return numeric(type, Number::floatValue);
+        } else if (type == Double.class) {
+            return numeric(type, Number::doubleValue);
+        } else if (type == BigInteger.class) {
+            return numeric(type, (n) -> (n instanceof BigDecimal)
+                    ? ((BigDecimal) n).toBigInteger()
+                    : new BigDecimal(n.toString()).toBigInteger());
+        } else if (type == BigDecimal.class) {
+            return numeric(type, (n) -> (n instanceof BigInteger)
+                    ? new BigDecimal((BigInteger) n)
+                    : new BigDecimal(n.toString()));
+        } else if (type == AtomicInteger.class) {
+            return numeric(type, (n) -> new AtomicInteger(n.intValue()));
+        } else if (type == AtomicLong.class) {
+            return numeric(type, (n) -> new AtomicLong(n.longValue()));
+        }
+        Function<Number, Object> constructor = numberConstructor(type);
+        if (null != constructor) {
+            return numeric(type, constructor);
+        }
+        return (v) -> type.isInstance(v) ? v : JsonUtil.getInstance().convertValue(v, type);
+    }
+
+    // other number classes, eg. Guava's AtomicDouble, through a public constructor taking a double or long
+    private static Function<Number, Object> numberConstructor(Class<?> type) {
+        if (!Number.class.isAssignableFrom(type)) {
+            return null;
+        }
+        MethodHandle fromDouble = findNumberConstructor(type, double.class);
+        if (null != fromDouble) {
+            return (n) -> construct(fromDouble, n.doubleValue());
+        }
+        MethodHandle fromLong = findNumberConstructor(type, long.class);
+        if (null != fromLong) {
+            return (n) -> construct(fromLong, n.longValue());
+        }
+        return null;
+    }
+
+    private static MethodHandle findNumberConstructor(Class<?> type, Class<?> parameter) {
+        try {
+            return MethodHandles.publicLookup()
+                    .findConstructor(type, MethodType.methodType(void.class, parameter))
+                    .asType(MethodType.methodType(Object.class, Object.class));
+        } catch (NoSuchMethodException | IllegalAccessException ex) {
+            return null;
+        }
+    }
+
+    private static Object construct(MethodHandle constructor, Object argument) {
+        try {
+            return (Object) constructor.invokeExact(argument);
+        } catch (RuntimeException | Error ex) {
+            throw ex;
+        } catch (Throwable t) {
+            throw new TableSchemaException(t);
+        }
+    }
+
+    private static Function<Object, Object> numeric(Class<?> type, Function<Number, Object> fromNumber) {
+        return (v) -> {
+            if (type.isInstance(v)) {
+                return v;
+            }
+            return (v instanceof Number)
+                    ? fromNumber.apply((Number) v)
+                    : JsonUtil.getInstance().convertValue(v, type);
+        };
+    }
+
+    private static Class<?> boxed(Class<?> type) {
+        if (!type.isPrimitive()) {
+            return type;
+        }
+        return MethodType.methodType(type).wrap().returnType();
+    }
+
+    private static final class Binding {
+        private final int column;
+        private final MethodHandle setter;
+        private final boolean primitive;
+        private final Function<Object, Object> converter;
+
+        private Binding(int column, MethodHandle setter, boolean primitive, Function<Object, Object> converter) {
+            this.column = column;
+            this.setter = setter;
+            this.primitive = primitive;
+            this.converter = converter;
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package io.frictionlessdata.tableschema.iterator;
+
+import java.util.BitSet;
+
+/**
+ * A batch of consecutive rows of a Table, stored column by column. Each column is a typed vector
+ * depending on the Field type:
+ *
+ * - `integer` columns are `long[]`, unless a value in the batch doesn't fit into a long,
+ * - `number` columns are `double[]`,
+ * - `date` columns are `int[]` holding the days since 1970-01-01, see {@link java.time.LocalDate#toEpochDay()},
+ * - `boolean` columns are `boolean[]`,
+ * - `string` columns are `String[]`,
+ * - all other columns are `Object[]` holding the cast values.
+ *
+ * The vectors are exactly {@link #getRowCount()} long. Null values are flagged in a bitmap per column,
+ * primitive vectors hold 0 or false for them.
+ */
+public final class ColumnBatch {
+
+    /**
+     * Type of the vector holding the values of a column.
+     */
+    public enum VectorType {
+        LONG, DOUBLE, EPOCH_DAY, BOOLEAN, STRING, OBJECT
+    }
+
+    private final String[] names;
+    private final VectorType[] types;
+    private final Object[] vectors;
+    private final BitSet[] nulls;
+    private final int rowCount;
+
+    ColumnBatch(String[] names, VectorType[] types, Object[] vectors, BitSet[] nulls, int rowCount) {
+        this.names = names;
+        this.types = types;
+        this.vectors = vectors;
+        this.nulls = nulls;
+        this.rowCount = rowCount;
+    }
+
+    public int getRowCount() {
+        return rowCount;
+    }
+
+    public int getColumnCount() {
+        return names.length;
+    }
+
+    public String getName(int column) {
+        return names[column];
+    }
+
+    public VectorType getType(int column) {
+        return types[column];
+    }
+
+    /**
+     * @param column the column index
+     * @return the rows of the batch holding null in this column, the bitmap must not be modified
+     */
+    public BitSet getNulls(int column) {
+        return nulls[column];
+    }
+
+    public boolean isNull(int column, int row) {
+        return nulls[column].get(row);
+    }
+
+    public long[] getLongs(int column) {
+        return (long[]) vector(column, VectorType.LONG);
+    }
+
+    public double[] getDoubles(int column) {
+        return (double[]) vector(column, VectorType.DOUBLE);
+    }
+
+    public int[] getEpochDays(int column) {
+        return (int[]) vector(column, VectorType.EPOCH_DAY);
+    }
+
+    public boolean[] getBooleans(int column) {
+        return (boolean[]) vector(column, VectorType.BOOLEAN);
+    }
+
+    public String[] getStrings(int column) {
+        return (String[]) vector(column, VectorType.STRING);
+    }
+
+    public Object[] getObjects(int column) {
+        return (Object[]) vector(column, VectorType.OBJECT);
+    }
+
+    private Object vector(int column, VectorType type) {
+        if (types[column] != type) {
+            throw new IllegalStateException("Column " + names[column] + " holds " + types[column]
+                    + " values, not " + type);
+        }
+        return vectors[column];
+    }
+}
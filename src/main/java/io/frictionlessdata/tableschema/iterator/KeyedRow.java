@@ -0,0 +1,170 @@
+package io.frictionlessdata.tableschema.iterator;
+
+import java.io.Serializable;
+import java.util.*;
+
+/**
+ * Map view on one row of a Table, returned by keyed iteration. Instead of a HashMap per row, the values
+ * stay in the row array and the header names are looked up in a {@link Keys} table shared by all rows
+ * of an iteration.
+ *
+ * The view can be modified: the first modification copies the row into a private LinkedHashMap,
+ * later calls operate on that copy. Entries iterate in column order.
+ */
+public class KeyedRow extends AbstractMap<String, Object> implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    private final transient Keys keys;
+    private final transient Object[] values;
+    private Map<String, Object> copy = null;
+
+    KeyedRow(Keys keys, Object[] values) {
+        this.keys = keys;
+        this.values = values;
+    }
+
+    @Override
+    public Object get(Object key) {
+        if (null != copy) {
+            return copy.get(key);
+        }
+        int column = keys.columnOf(key);
+        return (column < values.length) ? values[column] : null;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        if (null != copy) {
+            return copy.containsKey(key);
+        }
+        return keys.columnOf(key) < values.length;
+    }
+
+    @Override
+    public int size() {
+        if (null != copy) {
+            return copy.size();
+        }
+        return keys.countBelow(values.length);
+    }
+
+    @Override
+    public Object put(String key, Object value) {
+        return mutable().put(key, value);
+    }
+
+    @Override
+    public Object remove(Object key) {
+        return mutable().remove(key);
+    }
+
+    @Override
+    public void clear() {
+        mutable().clear();
+    }
+
+    @Override
+    public Set<Entry<String, Object>> entrySet() {
+        if (null != copy) {
+            return copy.entrySet();
+        }
+        return new AbstractSet<Entry<String, Object>>() {
+            @Override
+            public Iterator<Entry<String, Object>> iterator() {
+                return new Iterator<Entry<String, Object>>() {
+                    private int i = skipMissing(0);
+
+                    @Override
+                    public boolean hasNext() {
+                        return i < keys.names.length;
+                    }
+
+                    @Override
+                    public Entry<String, Object> next() {
+                        if (!hasNext()) {
+                            throw new NoSuchElementException();
+                        }
+                        Entry<String, Object> entry
+                                = new SimpleImmutableEntry<>(keys.names[i], values[keys.columns[i]]);
+                        i = skipMissing(i + 1);
+                        return entry;
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return KeyedRow.this.size();
+            }
+        };
+    }
+
+    // the first name from `i` on whose column the row has a value for
+    private int skipMissing(int i) {
+        while ((i < keys.names.length) && (keys.columns[i] >= values.length)) {
+            i++;
+        }
+        return i;
+    }
+
+    private Map<String, Object> mutable() {
+        if (null == copy) {
+            copy = new LinkedHashMap<>(this);
+        }
+        return copy;
+    }
+
+    // serialize as a plain map, the shared Keys aren't part of the row
+    private Object writeReplace() {
+        return new LinkedHashMap<>(this);
+    }
+
+    /**
+     * Header name to column lookup shared by the rows of one iteration. Like puts into a HashMap, a
+     * header name that appears more than once maps to its last column.
+     */
+    static final class Keys {
+        // distinct names in order of their first appearance, and the column each one maps to
+        private final String[] names;
+        private final int[] columns;
+        private final Map<String, Integer> index;
+        private final int maxColumn;
+
+        Keys(String[] headers) {
+            Map<String, Integer> lastColumns = new LinkedHashMap<>();
+            for (int i = 0; i < headers.length; i++) {
+                lastColumns.put(headers[i], i);
+            }
+            names = new String[lastColumns.size()];
+            columns = new int[lastColumns.size()];
+            index = new HashMap<>(lastColumns);
+            int i = 0;
+            for (Map.Entry<String, Integer> entry : lastColumns.entrySet()) {
+                names[i] = entry.getKey();
+                columns[i] = entry.getValue();
+                i++;
+            }
+            maxColumn = headers.length - 1;
+        }
+
+        // column of `key`, Integer.MAX_VALUE if it isn't a header
+        int columnOf(Object key) {
+            Integer column = index.get(key);
+            return (null != column) ? column : Integer.MAX_VALUE;
+        }
+
+        // the number of names that map to a column below `length`
+        int countBelow(int length) {
+            if (length > maxColumn) {
+                return names.length;
+            }
+            int count = 0;
+            for (int column : columns) {
+                if (column < length) {
+                    count++;
+                }
+            }
+            return count;
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package io.frictionlessdata.tableschema.iterator;
+
+import io.frictionlessdata.tableschema.exception.TableSchemaException;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+
+/**
+ * Reads rows on a producer thread ahead of the consumer, so reading and tokenizing the data overlaps
+ * with casting and checking the rows. The rows are handed over in batches through a bounded queue:
+ * once `depth` batches are waiting, the producer blocks until the consumer catches up.
+ *
+ * The source is opened on the producer thread as well. An exception while opening or reading the source
+ * is thrown to the consumer after the rows read before it, RuntimeExceptions as they are, others
+ * wrapped in a {@link TableSchemaException}. The producer ends after the last row, on an error or on
+ * {@link #close()}, which has to be called if the rows aren't read to the end, and closes the source
+ * iterator if it is {@link AutoCloseable}.
+ */
+final class PrefetchIterator implements Iterator<String[]>, AutoCloseable {
+    static final int BATCH_SIZE = 256;
+    // marks the end of the rows in the queue
+    private static final String[][] END = new String[0][];
+
+    private final BlockingQueue<Object> queue;
+    private final Thread producer;
+    private volatile boolean closed = false;
+    private String[][] batch = null;
+    private int position = 0;
+    private boolean done = false;
+
+    PrefetchIterator(Callable<Iterator<String[]>> source, int depth) {
+        this(source, depth, BATCH_SIZE);
+    }
+
+    PrefetchIterator(Callable<Iterator<String[]>> source, int depth, int batchSize) {
+        if (depth < 1) {
+            throw new IllegalArgumentException("Prefetch depth must be positive");
+        }
+        this.queue = new ArrayBlockingQueue<>(depth);
+        this.producer = new Thread(() -> produce(source, batchSize), "table-prefetch");
+        this.producer.setDaemon(true);
+        this.producer.start();
+    }
+
+    private void produce(Callable<Iterator<String[]>> source, int batchSize) {
+        Iterator<String[]> rows = null;
+        try {
+            rows = source.call();
+            String[][] rowBatch = new String[batchSize][];
+            int size = 0;
+            while (!closed && rows.hasNext()) {
+                rowBatch[size++] = rows.next();
+                if (size == batchSize) {
+                    queue.put(rowBatch);
+                    rowBatch = new String[batchSize][];
+                    size = 0;
+                }
+            }
+            if (size > 0) {
+                queue.put(Arrays.copyOf(rowBatch, size));
+            }
+            queue.put(END);
+        } catch (InterruptedException ex) {
+            // closed while waiting for the consumer
+        } catch (Throwable t) {
+            if (!closed) {
+                try {
+                    queue.put(t);
+                } catch (InterruptedException ex) {
+                    // closed while waiting for the consumer
+                }
+            }
+        } finally {
+            // release the stream of a tokenizing source, also if the rows weren't read to the end
+            if (rows instanceof AutoCloseable) {
+                try {
+                    ((AutoCloseable) rows).close();
+                } catch (Exception ex) {
+                    // nothing left to read from it anyway
+                }
+            }
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        if ((null != batch) && (position < batch.length)) {
+            return true;
+        }
+        if (done) {
+            return false;
+        }
+        Object item;
+        try {
+            item = queue.take();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new TableSchemaException(ex);
+        }
+        if (item == END) {
+            done = true;
+            batch = null;
+            return false;
+        }
+        if (item instanceof Throwable) {
+            done = true;
+            batch = null;
+            if (item instanceof RuntimeException) {
+                throw (RuntimeException) item;
+            } else if (item instanceof Error) {
+                throw (Error) item;
+            }
+            throw new TableSchemaException((Throwable) item);
+        }
+        batch = (String[][]) item;
+        position = 0;
+        return true;
+    }
+
+    @Override
+    public String[] next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        String[] row = batch[position];
+        batch[position++] = null;
+        return row;
+    }
+
+    /**
+     * Stop the producer and drop the rows read ahead. Calling it more than once has no effect.
+     */
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        producer.interrupt();
+        queue.clear();
+        batch = null;
+        done = true;
+    }
+}
@@ -1,8 +1,9 @@
 package io.frictionlessdata.tableschema.iterator;
 
 import io.frictionlessdata.tableschema.Table;
-import io.frictionlessdata.tableschema.util.TableSchemaUtil;
+import io.frictionlessdata.tableschema.datasourceformat.DataSourceFormat;
 
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 
@@ -17,13 +18,18 @@ public class SimpleTableIterator extends TableIterator<String[]> {
         this.relations = relations;
     }
 
+    @Override
+    Iterator<String[]> openRows(DataSourceFormat dataSourceFormat) throws Exception {
+        return dataSourceFormat.iterator();
+    }
+
     @Override
     public String[] next() {
-        String[] row = this.wrappedIterator.next();
+        String[] row = (String[])this.wrappedIterator.next();
         if (null != schema) {
             String[] newRow = new String[row.length];
             for (int i = 0; i < row.length; i++) {
-                newRow[mapping.get(i)] = row[i];
+                newRow[mapping[i]] = row[i];
             }
             return newRow;
         } else {
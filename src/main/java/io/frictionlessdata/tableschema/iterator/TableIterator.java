@@ -2,26 +2,36 @@ package io.frictionlessdata.tableschema.iterator;
 
 import io.frictionlessdata.tableschema.schema.Schema;
 import io.frictionlessdata.tableschema.Table;
+import io.frictionlessdata.tableschema.datasourceformat.DataSourceFormat;
+import io.frictionlessdata.tableschema.exception.TableSchemaException;
 import io.frictionlessdata.tableschema.field.Field;
+import io.frictionlessdata.tableschema.field.RowCaster;
+import io.frictionlessdata.tableschema.validation.ValidationContext;
 
-import java.util.HashMap;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 
 /**
  *
  *
  */
-public class TableIterator<T> implements Iterator<T> {
+public class TableIterator<T> implements Iterator<T>, AutoCloseable {
     String[] headers = null;
     Schema schema = null;
-    Iterator<String[]> wrappedIterator = null;
+    Iterator<? extends CharSequence[]> wrappedIterator = null;
     boolean keyed = false;
     boolean extended = false;
     boolean cast = true;
     boolean relations = false;
-    Map<Integer, Integer> mapping = null;
+    int[] mapping = null;
     int index = 0;
+    // header name lookup shared by the keyed rows, built on the first keyed row
+    KeyedRow.Keys keys = null;
+    // casts the rows if there's a Schema, compiled on the first row
+    RowCaster rowCaster = null;
+    // cross-row state like the values seen for `unique` Fields, so the Schema can be shared
+    ValidationContext context = new ValidationContext();
 
 
     TableIterator() {}
@@ -45,11 +55,29 @@ public class TableIterator<T> implements Iterator<T> {
     }
 
     void init(Table table) throws Exception{
-        this.mapping = table.getSchemaHeaderMapping();
+        this.mapping = table.getSchemaHeaderIndices();
         this.headers = table.getHeaders();
         this.schema = table.getSchema();
+        this.context.setCastCacheSize(table.getCastCacheSize());
         table.validate();
-        this.wrappedIterator = table.getDataSourceFormat().iterator();
+        DataSourceFormat dataSourceFormat = table.getDataSourceFormat();
+        // the rows cross threads, so they must not be views into a reused buffer
+        this.wrappedIterator = (table.getPrefetchDepth() > 0)
+                ? new PrefetchIterator(dataSourceFormat::iterator, table.getPrefetchDepth())
+                : openRows(dataSourceFormat);
+    }
+
+    /**
+     * Open the rows to iterate over. If there's a Schema, the values get cast and never need to be
+     * Strings, so the cells can be views into the buffer of the DataSourceFormat.
+     * @param dataSourceFormat the data to iterate over
+     * @return Iterator over the raw rows
+     * @throws Exception if reading the data fails
+     */
+    Iterator<? extends CharSequence[]> openRows(DataSourceFormat dataSourceFormat) throws Exception {
+        return (null != schema)
+                ? dataSourceFormat.charSequenceIterator()
+                : dataSourceFormat.iterator();
     }
 
 
@@ -65,65 +93,81 @@ public class TableIterator<T> implements Iterator<T> {
 
     @Override
     public T next() {
-        String[] row = this.wrappedIterator.next();
+        CharSequence[] row = this.wrappedIterator.next();
         int rowLength = row.length;
         if (null != this.schema) {
             rowLength = Math.max(row.length, this.schema.getFields().size());
         }
-        Map<String, Object> keyedRow = new HashMap<>();
         Object[] extendedRow;
-        Object[] castRow = new Object[rowLength];
-        Object[] plainRow = new Object[rowLength];
 
         // If there's a schema, attempt to cast the row.
         if(this.schema != null){
-            for(int i = 0; i < rowLength; i++){
-                Field field = this.schema.getFields().get(i);
-                Integer key = mapping.get(i);
-                Object val = null;
-                // null keys can happen for JSON arrays of JSON objects because
-                // null values will lead to missing entries
-                if (null != key) {
-                    String rawVal = row[mapping.get(i)];
-                    val = field.castValue(rawVal);
-                }
-                if (!extended && keyed) {
-                    keyedRow.put(this.headers[i], val);
-                } else if (cast || extended){
-                    castRow[i] = val;
-                } else {
-                    plainRow[i] = field.formatValueAsString(val);
-                }
-            }
+            Object[] castRow = rowCaster().cast(row, mapping, new Object[rowLength]);
 
             if (extended){
                 extendedRow = new Object[]{index, this.headers, castRow};
                 index++;
                 return (T)extendedRow;
             } else if(keyed){
-                return (T)keyedRow;
+                return (T)keyedRow(castRow);
             } else if(cast){
                 return (T)castRow;
             } else{
-                return (T)plainRow;
+                List<Field> fields = this.schema.getFields();
+                for (int i = 0; i < fields.size(); i++) {
+                    castRow[i] = fields.get(i).formatValueAsString(castRow[i]);
+                }
+                return (T)castRow;
             }
         }else{
-            // Enter here if no Schema has been defined.
+            // Enter here if no Schema has been defined, the rows are Strings, see openRows()
             if(extended){
                 extendedRow = new Object[]{index, this.headers, row};
                 index++;
                 return (T)extendedRow;
 
             }else if(keyed){
-                keyedRow = new HashMap();
-                for(int i=0; i<row.length; i++){
-                    keyedRow.put(this.headers[i], row[i]);
-                }
-                return (T)keyedRow;
+                return (T)keyedRow(row);
 
             }else{
                 return (T)row;
             }
         }
     }
+
+    /**
+     * Release the resources of the iteration, eg. close the data stream if the rows come from a tokenizer
+     * or stop reading ahead if the Table has a prefetch depth. Only needed if the rows are not read to
+     * the end.
+     */
+    @Override
+    public void close() {
+        if (this.wrappedIterator instanceof AutoCloseable) {
+            try {
+                ((AutoCloseable) this.wrappedIterator).close();
+            } catch (RuntimeException ex) {
+                throw ex;
+            } catch (Exception ex) {
+                throw new TableSchemaException(ex);
+            }
+        }
+    }
+
+    RowCaster rowCaster() {
+        if (null == rowCaster) {
+            rowCaster = RowCaster.compile(this.schema.getFields(), true, context);
+        }
+        return rowCaster;
+    }
+
+    /**
+     * Wrap a row in a Map view keyed by the headers. The view reads through to `row`, so the array must
+     * not be reused for the next row.
+     */
+    Map<String, Object> keyedRow(Object[] row) {
+        if (null == keys) {
+            keys = new KeyedRow.Keys(this.headers);
+        }
+        return new KeyedRow(keys, row);
+    }
 }
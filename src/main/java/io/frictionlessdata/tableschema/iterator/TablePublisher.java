@@ -0,0 +1,240 @@
+package io.frictionlessdata.tableschema.iterator;
+
+import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Publishes the rows of a Table to subscribers as they request them, without a thread per stream:
+ * rows are only read and cast on the Executor while there is outstanding demand, and the Executor
+ * thread is given back as soon as the demand is met. A subscription emits at most
+ * {@value #MAX_ROWS_PER_RUN} rows per task before it yields the thread to other subscriptions.
+ *
+ * The {@link Subscriber} and {@link Subscription} interfaces have the same methods and contract as
+ * the ones of Reactive Streams and `java.util.concurrent.Flow`, so adapting them is a matter of
+ * delegating the calls. Each subscriber gets its own iteration over the Table, which is opened on the
+ * first request and closed on completion, error or cancellation.
+ *
+ * @param <T> the type of the items, eg. rows or {@link ColumnBatch}es
+ */
+public final class TablePublisher<T> {
+    static final int MAX_ROWS_PER_RUN = 256;
+
+    private final Callable<? extends TableIterator<T>> source;
+    private final Executor executor;
+
+    /**
+     * @param source opens a new iteration over the Table for each subscriber
+     * @param executor the Executor to read, cast and emit the rows on
+     */
+    public TablePublisher(Callable<? extends TableIterator<T>> source, Executor executor) {
+        this.source = Objects.requireNonNull(source);
+        this.executor = Objects.requireNonNull(executor);
+    }
+
+    /**
+     * Subscribe to the rows. Nothing gets read before the subscriber requests rows.
+     * @param subscriber the subscriber
+     */
+    public void subscribe(Subscriber<? super T> subscriber) {
+        Objects.requireNonNull(subscriber);
+        RowSubscription<T> subscription = new RowSubscription<>(subscriber, source, executor);
+        try {
+            subscriber.onSubscribe(subscription);
+        } catch (Throwable t) {
+            subscription.cancel();
+        }
+    }
+
+    /**
+     * Receives the items of a {@link TablePublisher}, same contract as `java.util.concurrent.Flow.Subscriber`.
+     */
+    public interface Subscriber<T> {
+        void onSubscribe(Subscription subscription);
+
+        void onNext(T item);
+
+        void onError(Throwable throwable);
+
+        void onComplete();
+    }
+
+    /**
+     * Demand and cancellation of a subscriber, same contract as `java.util.concurrent.Flow.Subscription`.
+     */
+    public interface Subscription {
+        /**
+         * Request more items. Demand adds up, Long.MAX_VALUE means unbounded.
+         * @param n the number of items to add to the demand, a value below 1 fails the subscription
+         */
+        void request(long n);
+
+        /**
+         * Stop receiving items and release the data source. Items already being emitted may still arrive.
+         */
+        void cancel();
+    }
+
+    /*
+     * Emission runs in a drain loop guarded by `wip`, so only one task at a time touches the iterator
+     * and the subscriber, no matter from which threads request() and cancel() get called.
+     */
+    private static final class RowSubscription<T> implements Subscription, Runnable {
+        private final Subscriber<? super T> subscriber;
+        private final Callable<? extends TableIterator<T>> source;
+        private final Executor executor;
+        private final AtomicLong requested = new AtomicLong();
+        private final AtomicInteger wip = new AtomicInteger();
+        private volatile boolean cancelled = false;
+        private volatile Throwable invalidRequest = null;
+        // only accessed by the draining task
+        private TableIterator<T> iterator = null;
+        private boolean terminated = false;
+
+        private RowSubscription(Subscriber<? super T> subscriber,
+                                Callable<? extends TableIterator<T>> source,
+                                Executor executor) {
+            this.subscriber = subscriber;
+            this.source = source;
+            this.executor = executor;
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                invalidRequest = new IllegalArgumentException("Requested " + n + " items, must be positive");
+            } else {
+                long current;
+                long next;
+                do {
+                    current = requested.get();
+                    next = current + n;
+                    if (next < 0) {
+                        next = Long.MAX_VALUE;
+                    }
+                } while (!requested.compareAndSet(current, next));
+            }
+            schedule();
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+            schedule();
+        }
+
+        private void schedule() {
+            if (wip.getAndIncrement() == 0) {
+                executor.execute(this);
+            }
+        }
+
+        @Override
+        public void run() {
+            int missed = 1;
+            while (!terminated) {
+                if (cancelled) {
+                    terminate();
+                    return;
+                }
+                if (null != invalidRequest) {
+                    fail(invalidRequest);
+                    return;
+                }
+                long demand = requested.get();
+                long emitted = 0;
+                try {
+                    if ((demand > 0) && (null == iterator)) {
+                        iterator = source.call();
+                    }
+                    while ((emitted < demand) && (emitted < MAX_ROWS_PER_RUN)) {
+                        if (cancelled) {
+                            terminate();
+                            return;
+                        }
+                        if (!iterator.hasNext()) {
+                            complete();
+                            return;
+                        }
+                        subscriber.onNext(iterator.next());
+                        emitted++;
+                    }
+                    // complete without waiting for more demand if this was the last row
+                    if ((emitted > 0) && !cancelled && !iterator.hasNext()) {
+                        complete();
+                        return;
+                    }
+                } catch (Throwable t) {
+                    fail(t);
+                    return;
+                }
+                if ((emitted > 0) && (demand != Long.MAX_VALUE)) {
+                    requested.addAndGet(-emitted);
+                }
+                if (emitted == MAX_ROWS_PER_RUN) {
+                    // give the thread to other subscriptions, `wip` stays taken until the next run
+                    if (!yieldThread()) {
+                        return;
+                    }
+                    continue;
+                }
+                missed = wip.addAndGet(-missed);
+                if (missed == 0) {
+                    return;
+                }
+            }
+        }
+
+        /*
+         * Submits the next run, true if the Executor ran it right away on this thread, eg. a direct
+         * Executor. The next pass then continues in the drain loop instead of nesting a run per yield.
+         */
+        private boolean yieldThread() {
+            Resume resume = new Resume();
+            executor.execute(resume);
+            resume.submitting = false;
+            return resume.inline;
+        }
+
+        private void complete() {
+            terminate();
+            subscriber.onComplete();
+        }
+
+        private void fail(Throwable t) {
+            terminate();
+            subscriber.onError(t);
+        }
+
+        private void terminate() {
+            terminated = true;
+            cancelled = true;
+            if (null != iterator) {
+                try {
+                    iterator.close();
+                } catch (RuntimeException ex) {
+                    // the subscription ends anyway
+                }
+                iterator = null;
+            }
+        }
+
+        private final class Resume implements Runnable {
+            private final Thread caller = Thread.currentThread();
+            // only read and written on the caller thread
+            private boolean submitting = true;
+            private boolean inline = false;
+
+            @Override
+            public void run() {
+                if (submitting && (Thread.currentThread() == caller)) {
+                    inline = true;
+                    return;
+                }
+                RowSubscription.this.run();
+            }
+        }
+    }
+}
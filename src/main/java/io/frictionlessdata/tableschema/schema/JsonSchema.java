@@ -2,6 +2,7 @@ package io.frictionlessdata.tableschema.schema;
 
 import java.io.InputStream;
 import java.util.Collections;
+import java.util.Map;
 import java.util.Set;
 
 import org.slf4j.Logger;
@@ -24,7 +25,11 @@ public class JsonSchema {
 	private com.networknt.schema.JsonSchema jsonSchema;
 	
 	private JsonSchema(JsonNode schemaNode, boolean strictValidation) {
-		this.factory = JsonSchemaFactory.getInstance(VersionFlag.V4);
+		this(schemaNode, strictValidation, JsonSchemaFactory.getInstance(VersionFlag.V4));
+	}
+
+	private JsonSchema(JsonNode schemaNode, boolean strictValidation, JsonSchemaFactory factory) {
+		this.factory = factory;
 		this.jsonSchema = factory.getSchema(schemaNode);
 		this.strictValidation = strictValidation;
 	}
@@ -40,7 +45,33 @@ public class JsonSchema {
 	public static JsonSchema fromJson(InputStream jsonSchema, boolean strictValidation) {
 		return new JsonSchema(JsonUtil.getInstance().readValue(jsonSchema), strictValidation);
 	}
+
+	/**
+	 * Create a JsonSchema whose `$ref` URIs are redirected according to `uriMappings`, eg. to
+	 * resolve referenced sub-schemas from the classpath instead of fetching them over the network.
+	 * @param jsonSchema the InputStream to read the schema JSON from
+	 * @param strictValidation whether validation errors should throw
+	 * @param uriMappings Map of original URI to replacement URI (eg. `classpath:/schemas/...`)
+	 * @return the compiled JsonSchema
+	 */
+	public static JsonSchema fromJson(InputStream jsonSchema, boolean strictValidation, Map<String, String> uriMappings) {
+		JsonSchemaFactory factory = JsonSchemaFactory
+				.builder(JsonSchemaFactory.getInstance(VersionFlag.V4))
+				.addUriMappings(uriMappings)
+				.build();
+		return new JsonSchema(JsonUtil.getInstance().readValue(jsonSchema), strictValidation, factory);
+	}
 	
+	/**
+	 * Validate without logging or throwing, regardless of `strictValidation`. Meant for
+	 * callers probing many values, eg. during type inferral.
+	 * @param json the JSON to validate
+	 * @return true if `json` validates against the schema
+	 */
+	public boolean isValid(JsonNode json) {
+		return jsonSchema.validate(json).isEmpty();
+	}
+
 	public Set<ValidationMessage> validate(String json) {
 		return validate(JsonUtil.getInstance().readValue(json));
 	}
@@ -10,6 +10,7 @@ import com.fasterxml.jackson.databind.node.ArrayNode;
 import io.frictionlessdata.tableschema.exception.*;
 import io.frictionlessdata.tableschema.field.Field;
 import io.frictionlessdata.tableschema.fk.ForeignKey;
+import io.frictionlessdata.tableschema.io.AsyncFileReader;
 import io.frictionlessdata.tableschema.io.FileReference;
 import io.frictionlessdata.tableschema.io.LocalFileReference;
 import io.frictionlessdata.tableschema.io.URLFileReference;
@@ -19,6 +20,10 @@ import java.io.*;
 import java.net.URL;
 import java.nio.charset.StandardCharsets;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 /**
@@ -45,6 +50,9 @@ public class Schema {
 
     private boolean strictValidation = true;
     private List<Exception> errors = new ArrayList<>();
+    private volatile boolean frozen = false;
+    // name lookups, built on demand and rebuilt if the list of fields changes, see fieldIndex()
+    private transient FieldIndex fieldIndex = null;
 
     @JsonIgnore
     FileReference reference;
@@ -80,6 +88,25 @@ public class Schema {
         validate();
     }
 
+    /**
+     * Start building a Schema with strict validation. Unlike adding Fields to a Schema one by one,
+     * which validates the whole Schema after each Field, the builder validates once in
+     * {@link Builder#build()}.
+     * @return a new Builder
+     */
+    public static Builder builder() {
+        return new Builder(true);
+    }
+
+    /**
+     * Start building a Schema, see {@link #builder()}.
+     * @param strict whether to enforce strict validation
+     * @return a new Builder
+     */
+    public static Builder builder(boolean strict) {
+        return new Builder(strict);
+    }
+
     /**
      * Read, create, and validate a table schema from an {@link java.io.InputStream}.
      *
@@ -118,6 +145,44 @@ public class Schema {
         return schema;
     }
 
+    /**
+     * Read, create, and validate a table schema from a remote location without blocking the calling thread.
+     * `file:` URLs are read asynchronously, other URLs on the Executor, see {@link AsyncFileReader}.
+     *
+     * @param schemaUrl the URL to read the schema JSON data from
+     * @param strict whether to enforce strict validation
+     * @param executor the Executor to read and parse the schema on
+     * @return future completing with the Schema, or exceptionally if reading or parsing fails
+     */
+    public static CompletableFuture<Schema> fromJsonAsync(URL schemaUrl, boolean strict, Executor executor) {
+        return AsyncFileReader.read(schemaUrl, executor)
+                .thenApplyAsync((content) -> fromJsonContent(content, strict, new URLFileReference(schemaUrl)), executor);
+    }
+
+    /**
+     * Read, create, and validate a table schema from a local {@link java.io.File} without blocking the
+     * calling thread.
+     *
+     * @param schemaFile the File to read schema JSON data from
+     * @param strict whether to enforce strict validation
+     * @param executor the Executor to parse the schema on
+     * @return future completing with the Schema, or exceptionally if reading or parsing fails
+     */
+    public static CompletableFuture<Schema> fromJsonAsync(File schemaFile, boolean strict, Executor executor) {
+        return AsyncFileReader.read(schemaFile.toPath())
+                .thenApplyAsync((content) -> fromJsonContent(content, strict, new LocalFileReference(schemaFile)), executor);
+    }
+
+    private static Schema fromJsonContent(byte[] content, boolean strict, FileReference reference) {
+        try {
+            Schema schema = fromJson(new ByteArrayInputStream(content), strict);
+            schema.reference = reference;
+            return schema;
+        } catch (IOException ex) {
+            throw new CompletionException(ex);
+        }
+    }
+
     /**
      * Read, create, and validate a table schema from a FileReference.
      *
@@ -250,6 +315,10 @@ public class Schema {
      */
     @JsonIgnore
     public boolean isValid(){
+        if (frozen) {
+            // validated when freezing, and the Fields can't be validated again once frozen
+            return errors.isEmpty();
+        }
         try{
             validate();
             return ((null == errors) || (errors.isEmpty()));
@@ -260,12 +329,7 @@ public class Schema {
 
     @SuppressWarnings("rawtypes")
 	private void validate(String foundFieldName) throws ValidationException{
-        Field foundField = fields
-                .stream()
-                .filter((f) -> f.getName().equals(foundFieldName))
-                .findFirst()
-                .orElse(null);
-        if (null == foundField) {
+        if (!hasField(foundFieldName)) {
             throw new ValidationException (String.format("%s: Primary key field %s not found", tableJsonSchema, foundFieldName));
         }
     }
@@ -314,6 +378,46 @@ public class Schema {
     public List<Exception> getErrors(){
         return this.errors;
     }
+
+    /**
+     * Turn the Schema into its immutable, compiled form: the Schema is validated one last time, then
+     * the Schema and all its Fields are frozen. A frozen Schema can be shared between any number of
+     * threads casting or validating data concurrently, as all state spanning multiple rows lives in a
+     * per-iteration {@link io.frictionlessdata.tableschema.validation.ValidationContext}.
+     *
+     * All mutators of a frozen Schema or its Fields throw an {@link IllegalStateException}.
+     * @return this Schema
+     * @throws ValidationException if strict validation is on and the Schema is invalid
+     */
+    public Schema freeze() throws ValidationException {
+        if (frozen)
+            return this;
+        validate();
+        return freezeValidated();
+    }
+
+    private Schema freezeValidated() {
+        for (Field<?> f : fields) {
+            f.freeze();
+        }
+        fields = Collections.unmodifiableList(new ArrayList<>(fields));
+        foreignKeys = Collections.unmodifiableList(new ArrayList<>(foreignKeys));
+        missingValues = Collections.unmodifiableSet(new HashSet<>(missingValues));
+        errors = Collections.unmodifiableList(new ArrayList<>(errors));
+        frozen = true;
+        return this;
+    }
+
+    @JsonIgnore
+    public boolean isFrozen() {
+        return frozen;
+    }
+
+    private void checkNotFrozen() {
+        if (frozen) {
+            throw new IllegalStateException("Schema is frozen and cannot be modified");
+        }
+    }
     
     @JsonIgnore
     public String getJson(){
@@ -355,6 +459,7 @@ public class Schema {
     }
     
     public void addField(Field field){
+        checkNotFrozen();
         this.fields.add(field);
         this.validate();
     }
@@ -372,15 +477,39 @@ public class Schema {
         return this.fields;
     }
     
+    /**
+     * Get a Field by its name. Names are compared case-insensitively, if more than one Field
+     * matches, the first one is returned.
+     * @param name the name of the Field
+     * @return the Field or null if there is none of that name
+     */
     public Field getField(String name){
-        Iterator<Field> iter = this.fields.iterator();
-        while(iter.hasNext()){
-            Field field = iter.next();
-            if(field.getName().equalsIgnoreCase(name)){
-                return field;
-            }
+        if (null == name) {
+            return null;
         }
-        return null;
+        Integer position = fieldIndex().folded.get(FieldIndex.fold(name));
+        if ((null == position) || !name.equalsIgnoreCase(fields.get(position).getName())) {
+            position = verifyFieldIndex((f) -> name.equalsIgnoreCase(f.getName()));
+        }
+        return (null != position) ? fields.get(position) : null;
+    }
+
+    /**
+     * Get the position of a Field in the list of Fields. Unlike {@link #getField(String)}, names are
+     * compared case-sensitively.
+     * @param name the name of the Field
+     * @return the index of the first Field of that name or -1 if there is none
+     */
+    @JsonIgnore
+    public int getFieldIndex(String name){
+        if (null == name) {
+            return -1;
+        }
+        Integer position = fieldIndex().exact.get(name);
+        if ((null == position) || !name.equals(fields.get(position).getName())) {
+            position = verifyFieldIndex((f) -> name.equals(f.getName()));
+        }
+        return (null != position) ? position : -1;
     }
 
     @JsonIgnore
@@ -392,12 +521,45 @@ public class Schema {
     }
     
     public boolean hasField(String name){
-        Field field = fields
-            .stream()
-            .filter((f) -> f.getName().equals(name))
-            .findFirst()
-            .orElse(null);
-        return (null != field);
+        return getFieldIndex(name) >= 0;
+    }
+
+    /*
+     * The index is rebuilt if the list of fields got replaced or changed its size. Fields can't be
+     * renamed, but the list returned by getFields() can be changed in place without changing its size,
+     * eg. with set() or remove() followed by add(), so lookups check the name of the Field they found
+     * and don't trust misses, see verifyFieldIndex().
+     */
+    private FieldIndex fieldIndex() {
+        FieldIndex index = fieldIndex;
+        if ((null == index) || (index.fields != fields) || (index.size != fields.size())) {
+            index = rebuildFieldIndex();
+        }
+        return index;
+    }
+
+    /*
+     * Called when the index found no Field or the wrong one: scans the Fields like a lookup without
+     * index would, and rebuilds the index if the Field is there after all. The Fields of a frozen
+     * Schema can't change, so its index is always right.
+     */
+    private Integer verifyFieldIndex(Predicate<Field> matches) {
+        if (frozen) {
+            return null;
+        }
+        for (int i = 0; i < fields.size(); i++) {
+            if (matches.test(fields.get(i))) {
+                rebuildFieldIndex();
+                return i;
+            }
+        }
+        return null;
+    }
+
+    private FieldIndex rebuildFieldIndex() {
+        FieldIndex index = new FieldIndex(fields);
+        fieldIndex = index;
+        return index;
     }
     
     public boolean hasFields(){
@@ -414,6 +576,7 @@ public class Schema {
      * @throws PrimaryKeyException 
      */
     public void setPrimaryKey(String key) throws PrimaryKeyException{
+        checkNotFrozen();
         checkKey(key);
         this.primaryKey = key; 
     }
@@ -439,6 +602,7 @@ public class Schema {
      * @throws PrimaryKeyException 
      */
     public void setPrimaryKey(ArrayNode compositeKey) throws PrimaryKeyException{
+        checkNotFrozen();
         compositeKey.forEach(k->{
         	checkKey(k.asText());
         });
@@ -482,6 +646,7 @@ public class Schema {
     }
     
     public void addForeignKey(ForeignKey foreignKey){
+        checkNotFrozen();
         this.foreignKeys.add(foreignKey);
     }
 
@@ -490,6 +655,7 @@ public class Schema {
     }
 
     public void setMissingValues(Set<String> missingValues) {
+        checkNotFrozen();
         this.missingValues = missingValues;
     }
 
@@ -498,6 +664,7 @@ public class Schema {
     }
 
     public void setJavaBasedDateFormats(boolean javaBasedDateFormats) {
+        checkNotFrozen();
         this.javaBasedDateFormats = javaBasedDateFormats;
     }
 
@@ -537,4 +704,138 @@ public class Schema {
     public int hashCode() {
         return Objects.hash(fields, primaryKey, foreignKeys);
     }
-}
\ No newline at end of file
+
+    /**
+     * Collects the parts of a Schema and validates them once when building the Schema. Obtained
+     * from {@link Schema#builder()}.
+     */
+    public static final class Builder {
+        private final boolean strict;
+        private final List<Field> fields = new ArrayList<>();
+        private final List<ForeignKey> foreignKeys = new ArrayList<>();
+        private Object primaryKey = null;
+        private Set<String> missingValues = null;
+        private boolean javaBasedDateFormats = false;
+
+        private Builder(boolean strict) {
+            this.strict = strict;
+        }
+
+        public Builder addField(Field field) {
+            fields.add(field);
+            return this;
+        }
+
+        /**
+         * Add a field from a JSON string representation.
+         * @param json serialized JSON oject
+         * @return this Builder
+         */
+        public Builder addField(String json) {
+            return addField(Field.fromJson(json));
+        }
+
+        public Builder addFields(Collection<? extends Field> fields) {
+            this.fields.addAll(fields);
+            return this;
+        }
+
+        public Builder primaryKey(String key) {
+            this.primaryKey = key;
+            return this;
+        }
+
+        public Builder primaryKey(String... keys) {
+            this.primaryKey = keys.clone();
+            return this;
+        }
+
+        public Builder addForeignKey(ForeignKey foreignKey) {
+            foreignKeys.add(foreignKey);
+            return this;
+        }
+
+        public Builder missingValues(Collection<String> missingValues) {
+            this.missingValues = new HashSet<>(missingValues);
+            return this;
+        }
+
+        public Builder javaBasedDateFormats(boolean javaBasedDateFormats) {
+            this.javaBasedDateFormats = javaBasedDateFormats;
+            return this;
+        }
+
+        /**
+         * Create the Schema and validate it.
+         * @return the new Schema
+         * @throws ValidationException if strict validation is on and the Schema is invalid
+         * @throws PrimaryKeyException if strict validation is on and a primary key field doesn't exist
+         */
+        public Schema build() throws ValidationException, PrimaryKeyException {
+            Schema schema = new Schema(strict);
+            schema.fields.addAll(fields);
+            if (primaryKey instanceof String) {
+                schema.setPrimaryKey((String) primaryKey);
+            } else if (primaryKey instanceof String[]) {
+                schema.setPrimaryKey((String[]) primaryKey);
+            }
+            for (ForeignKey fk : foreignKeys) {
+                schema.addForeignKey(fk);
+                if (!strict) {
+                    schema.getErrors().addAll(fk.getErrors());
+                }
+            }
+            if (null != missingValues) {
+                schema.setMissingValues(new HashSet<>(missingValues));
+            }
+            schema.setJavaBasedDateFormats(javaBasedDateFormats);
+            schema.validate();
+            return schema;
+        }
+
+        /**
+         * Create the Schema, validate it and freeze it, see {@link Schema#freeze()}. The Schema is
+         * validated only once.
+         * @return the new, frozen Schema
+         * @throws ValidationException if strict validation is on and the Schema is invalid
+         * @throws PrimaryKeyException if strict validation is on and a primary key field doesn't exist
+         */
+        public Schema buildFrozen() throws ValidationException, PrimaryKeyException {
+            return build().freezeValidated();
+        }
+    }
+
+    /**
+     * Name to position lookup for the Fields of a Schema, both by the exact name and by the name
+     * with its case folded the way {@link String#equalsIgnoreCase(String)} compares chars.
+     * Immutable, so a frozen Schema can share it between threads.
+     */
+    private static final class FieldIndex {
+        private final List<Field> fields;
+        private final int size;
+        private final Map<String, Integer> exact;
+        private final Map<String, Integer> folded;
+
+        private FieldIndex(List<Field> fields) {
+            this.fields = fields;
+            this.size = fields.size();
+            this.exact = new HashMap<>(size * 2);
+            this.folded = new HashMap<>(size * 2);
+            for (int i = 0; i < size; i++) {
+                String name = fields.get(i).getName();
+                if (null != name) {
+                    exact.putIfAbsent(name, i);
+                    folded.putIfAbsent(fold(name), i);
+                }
+            }
+        }
+
+        private static String fold(String name) {
+            char[] chars = name.toCharArray();
+            for (int i = 0; i < chars.length; i++) {
+                chars[i] = Character.toLowerCase(Character.toUpperCase(chars[i]));
+            }
+            return new String(chars);
+        }
+    }
+}
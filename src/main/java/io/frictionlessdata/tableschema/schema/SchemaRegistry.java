@@ -0,0 +1,228 @@
+package io.frictionlessdata.tableschema.schema;
+
+import io.frictionlessdata.tableschema.io.URLFileReference;
+
+import java.io.File;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.net.URLConnection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Caches parsed and validated Schemas by their location, so services that use the same Schemas for
+ * many Tables only read, validate and deserialize each of them once. The Schemas are
+ * {@link Schema#freeze() frozen} and shared between all callers, so they can't be modified.
+ *
+ * A Schema is checked for changes once the revalidation interval has passed since it was last read
+ * or checked: Schemas from files are read again if the modification time or size of the file has
+ * changed, Schemas from HTTP(S) URLs are requested with the `ETag` and `Last-Modified` validators of
+ * the last response. Lookups in between don't touch the file system or network.
+ *
+ * If several threads ask for a Schema that isn't cached, it is loaded only once and the other threads
+ * wait for it. The registry holds at most `maxEntries` Schemas, evicting the least recently used ones.
+ */
+public class SchemaRegistry {
+    public static final int DEFAULT_MAX_ENTRIES = 1024;
+    public static final long DEFAULT_REVALIDATION_INTERVAL = 60_000;
+
+    private final Map<String, CompletableFuture<Entry>> entries;
+    private volatile long revalidationInterval = DEFAULT_REVALIDATION_INTERVAL;
+
+    public SchemaRegistry() {
+        this(DEFAULT_MAX_ENTRIES);
+    }
+
+    /**
+     * @param maxEntries the maximum number of cached Schemas
+     */
+    public SchemaRegistry(int maxEntries) {
+        if (maxEntries < 1) {
+            throw new IllegalArgumentException("Registry size must be positive");
+        }
+        // in access order, for LRU eviction
+        entries = new LinkedHashMap<String, CompletableFuture<Entry>>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CompletableFuture<Entry>> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    /**
+     * Get the Schema of a local {@link java.io.File}, reading it if it isn't cached or has changed.
+     *
+     * @param schemaFile the File to read schema JSON data from
+     * @param strict whether to enforce strict validation
+     * @return the frozen Schema
+     * @throws Exception thrown if reading from the file or parsing throws an exception
+     */
+    public Schema get(File schemaFile, boolean strict) throws Exception {
+        File file = schemaFile.getAbsoluteFile();
+        return lookup(key(file.getPath(), strict), (previous) -> loadFile(file, strict, previous));
+    }
+
+    /**
+     * Get the Schema of a URL, reading it if it isn't cached or has changed.
+     *
+     * @param schemaUrl the URL to read the schema JSON data from
+     * @param strict whether to enforce strict validation
+     * @return the frozen Schema
+     * @throws Exception thrown if reading from the URL or parsing throws an exception
+     */
+    public Schema get(URL schemaUrl, boolean strict) throws Exception {
+        return lookup(key(schemaUrl.toExternalForm(), strict), (previous) -> loadUrl(schemaUrl, strict, previous));
+    }
+
+    /**
+     * Set how long a cached Schema is used before it gets checked for changes. With 0, every lookup
+     * checks the source.
+     * @param revalidationInterval the interval in milliseconds
+     */
+    public void setRevalidationInterval(long revalidationInterval) {
+        if (revalidationInterval < 0) {
+            throw new IllegalArgumentException("Revalidation interval must not be negative");
+        }
+        this.revalidationInterval = revalidationInterval;
+    }
+
+    public long getRevalidationInterval() {
+        return revalidationInterval;
+    }
+
+    /**
+     * @return the number of cached Schemas, including those currently loading
+     */
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * Remove all cached Schemas.
+     */
+    public synchronized void clear() {
+        entries.clear();
+    }
+
+    private Schema lookup(String key, Loader loader) throws Exception {
+        CompletableFuture<Entry> future;
+        Entry previous = null;
+        boolean load = false;
+        synchronized (this) {
+            future = entries.get(key);
+            if ((null != future) && future.isDone()) {
+                Entry entry = future.join();
+                if (System.currentTimeMillis() - entry.checkedAt < revalidationInterval) {
+                    return entry.schema;
+                }
+                previous = entry;
+                future = null;
+            }
+            if (null == future) {
+                future = new CompletableFuture<>();
+                entries.put(key, future);
+                load = true;
+            }
+        }
+        if (load) {
+            try {
+                future.complete(loader.load(previous));
+            } catch (Throwable t) {
+                synchronized (this) {
+                    entries.remove(key, future);
+                }
+                future.completeExceptionally(t);
+            }
+        }
+        try {
+            return future.get().schema;
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof Exception) {
+                throw (Exception) ex.getCause();
+            }
+            throw (Error) ex.getCause();
+        }
+    }
+
+    private static Entry loadFile(File file, boolean strict, Entry previous) throws Exception {
+        // read before the content, so a change while reading is seen on the next check
+        long lastModified = file.lastModified();
+        long length = file.length();
+        if ((null != previous) && (lastModified != 0)
+                && (previous.lastModifiedTime == lastModified) && (previous.length == length)) {
+            return previous.checked();
+        }
+        Schema schema = Schema.fromJson(file, strict).freeze();
+        return new Entry(schema, lastModified, length, null, null);
+    }
+
+    private static Entry loadUrl(URL url, boolean strict, Entry previous) throws Exception {
+        URLConnection connection = url.openConnection();
+        if (!(connection instanceof HttpURLConnection)) {
+            try (InputStream in = connection.getInputStream()) {
+                long lastModified = connection.getLastModified();
+                if ((null != previous) && (lastModified != 0) && (previous.lastModifiedTime == lastModified)) {
+                    return previous.checked();
+                }
+                return new Entry(read(in, strict, url), lastModified, -1, null, null);
+            }
+        }
+        HttpURLConnection http = (HttpURLConnection) connection;
+        if (null != previous) {
+            if (null != previous.etag) {
+                http.setRequestProperty("If-None-Match", previous.etag);
+            }
+            if (null != previous.lastModified) {
+                http.setRequestProperty("If-Modified-Since", previous.lastModified);
+            }
+        }
+        if ((http.getResponseCode() == HttpURLConnection.HTTP_NOT_MODIFIED) && (null != previous)) {
+            http.disconnect();
+            return previous.checked();
+        }
+        try (InputStream in = http.getInputStream()) {
+            return new Entry(read(in, strict, url), 0, -1,
+                    http.getHeaderField("ETag"), http.getHeaderField("Last-Modified"));
+        }
+    }
+
+    private static Schema read(InputStream in, boolean strict, URL url) throws Exception {
+        Schema schema = Schema.fromJson(in, strict);
+        schema.reference = new URLFileReference(url);
+        return schema.freeze();
+    }
+
+    private static String key(String locator, boolean strict) {
+        return (strict ? "strict:" : "lenient:") + locator;
+    }
+
+    private interface Loader {
+        Entry load(Entry previous) throws Exception;
+    }
+
+    private static final class Entry {
+        private final Schema schema;
+        // validators of a file or non-HTTP URL
+        private final long lastModifiedTime;
+        private final long length;
+        // validators of an HTTP response
+        private final String etag;
+        private final String lastModified;
+        private final long checkedAt = System.currentTimeMillis();
+
+        private Entry(Schema schema, long lastModifiedTime, long length, String etag, String lastModified) {
+            this.schema = schema;
+            this.lastModifiedTime = lastModifiedTime;
+            this.length = length;
+            this.etag = etag;
+            this.lastModified = lastModified;
+        }
+
+        private Entry checked() {
+            return new Entry(schema, lastModifiedTime, length, etag, lastModified);
+        }
+    }
+}
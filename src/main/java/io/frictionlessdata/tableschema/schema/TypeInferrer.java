@@ -34,6 +34,7 @@ public class TypeInferrer {
 
     private Map<String, Map<String, Integer>> typeInferralMap = new HashMap<>();
     private Map<String, String> formatMap = new HashMap<>();
+    private Map<String, Field> inferralFields = new HashMap<>();
     
     // The order in which the types will be attempted to be inferred.
     // Once a type is successfully inferred, we do not bother with the remaining types.
@@ -159,20 +160,22 @@ public class TypeInferrer {
     
     private void findType(String header, String datum){
         // Go through all the field types and call their parsing method to find
-        // the first that won't throw
+        // the first that can parse the value
         for(String[] typeInferralDefinition: TYPE_INFERRAL_ORDER_LIST){
             try{
-                // Keep invoking the type casting methods until one doesn't throw an exception
                 String dataType = typeInferralDefinition[0];
 
-                Field field = Field.forType(dataType, dataType);
+                Field field = getInferralField(dataType);
                 String format = formatMap.get(header);
                 if (null == format) {
                     format = field.parseFormat(datum, null);
                 }
-                field.parseValue(datum, format, null);
+                if (field.tryParseValue(datum, format, null) == Field.INVALID_VALUE) {
+                    // Failed to infer with the current type, move on to the next type.
+                    continue;
+                }
                 this.formatMap.put(header, format);
-                // If no exception is thrown, in means that a type has been inferred.
+                // A type has been inferred.
                 // Let's keep track of it in the inferral map.
                 this.updateInferralScoreMap(header, field.getType());
                 
@@ -187,6 +190,21 @@ public class TypeInferrer {
             }
         }
     }
+
+    /**
+     * Creating a Field goes through Jackson, so we only create one per type and reuse it for
+     * all values. The inferral Fields have neither constraints nor options and are never modified.
+     * @param dataType the Field type
+     * @return the shared Field instance for `dataType`
+     */
+    private Field getInferralField(String dataType) {
+        Field field = inferralFields.get(dataType);
+        if (null == field) {
+            field = Field.forType(dataType, dataType);
+            inferralFields.put(dataType, field);
+        }
+        return field;
+    }
     
     /**
      * The type inferral map is where we keep track of the types inferred for values within the same field.
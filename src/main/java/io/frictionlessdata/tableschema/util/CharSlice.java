@@ -0,0 +1,78 @@
+package io.frictionlessdata.tableschema.util;
+
+/**
+ * A CharSequence view on a window of a char array, used to hand out cell values from a read buffer
+ * without copying them into a String. A slice can be re-pointed at another window with
+ * {@link #set(char[], int, int)}, so one instance per column can be reused for every row.
+ *
+ * As the underlying array may change, {@link #toString()} is the only way to keep the value.
+ * Instances are not thread-safe.
+ */
+public final class CharSlice implements CharSequence {
+    private static final char[] EMPTY = new char[0];
+
+    private char[] buffer = EMPTY;
+    private int offset;
+    private int length;
+
+    public CharSlice() { }
+
+    public CharSlice(char[] buffer, int offset, int length) {
+        set(buffer, offset, length);
+    }
+
+    /**
+     * Point the slice at a new window.
+     * @param buffer the characters
+     * @param offset start of the window in `buffer`
+     * @param length number of characters in the window
+     * @return this slice
+     */
+    public CharSlice set(char[] buffer, int offset, int length) {
+        if ((offset < 0) || (length < 0) || (offset + length > buffer.length)) {
+            throw new IndexOutOfBoundsException("Window "+offset+"+"+length+" exceeds buffer of length "+buffer.length);
+        }
+        this.buffer = buffer;
+        this.offset = offset;
+        this.length = length;
+        return this;
+    }
+
+    public char[] getBuffer() {
+        return buffer;
+    }
+
+    public int getOffset() {
+        return offset;
+    }
+
+    @Override
+    public int length() {
+        return length;
+    }
+
+    @Override
+    public char charAt(int index) {
+        if ((index < 0) || (index >= length)) {
+            throw new IndexOutOfBoundsException("Index "+index+" out of bounds for length "+length);
+        }
+        return buffer[offset + index];
+    }
+
+    /**
+     * Returns a copy of the characters, not a view, so the result stays valid after this slice is
+     * re-pointed.
+     */
+    @Override
+    public CharSequence subSequence(int start, int end) {
+        if ((start < 0) || (end > length) || (start > end)) {
+            throw new IndexOutOfBoundsException("Range "+start+"-"+end+" out of bounds for length "+length);
+        }
+        return new String(buffer, offset + start, end - start);
+    }
+
+    @Override
+    public String toString() {
+        return new String(buffer, offset, length);
+    }
+}
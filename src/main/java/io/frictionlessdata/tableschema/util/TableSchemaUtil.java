@@ -1,57 +1,182 @@
 package io.frictionlessdata.tableschema.util;
 
-import java.time.LocalDate;
-import java.time.LocalTime;
-import java.time.ZonedDateTime;
+import java.text.ParsePosition;
+import java.time.*;
 import java.time.format.DateTimeFormatter;
-import java.time.format.DateTimeParseException;
+import java.time.temporal.TemporalQuery;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class TableSchemaUtil {
+    // The default formats of the date, time and datetime Fields, these get parsed without DateTimeFormatter
+    private static final String ISO_DATE_PATTERN = "yyyy-MM-dd";
+    private static final String ISO_TIME_PATTERN = "HH:mm:ss";
+    private static final String ISO_DATETIME_PATTERN = "yyyy-MM-dd'T'HH:mm:ssX";
 
-    public static LocalDate parseDate(String value, String pattern) {
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern(pattern);
-        try {
-            LocalDate parsedValue = LocalDate.parse(value, formatter);
-            String formattedParsedValue = parsedValue.format(formatter);
-            if (formattedParsedValue.equals(value)) {
-                return parsedValue;
+    // DateTimeFormatters are immutable, so we can share them. The cap protects against unbounded
+    // growth should someone generate patterns on the fly
+    private static final int MAX_CACHED_FORMATTERS = 256;
+    private static final Map<String, DateTimeFormatter> formatterCache = new ConcurrentHashMap<>();
+
+    /**
+     * Returns a (possibly shared) DateTimeFormatter for a pattern.
+     * @param pattern the pattern as used by {@link DateTimeFormatter#ofPattern(String)}
+     * @return the formatter for the pattern
+     */
+    public static DateTimeFormatter getFormatter(String pattern) {
+        DateTimeFormatter formatter = formatterCache.get(pattern);
+        if (null == formatter) {
+            formatter = DateTimeFormatter.ofPattern(pattern);
+            if (formatterCache.size() < MAX_CACHED_FORMATTERS) {
+                formatterCache.put(pattern, formatter);
             }
-        } catch (DateTimeParseException e) {
-            // Ignore.
+        }
+        return formatter;
+    }
+
+    public static LocalDate parseDate(CharSequence value, String pattern) {
+        if (ISO_DATE_PATTERN.equals(pattern) && (value.length() == 10)) {
+            return parseIsoDate(value, 0);
+        }
+        String str = value.toString();
+        DateTimeFormatter formatter = getFormatter(pattern);
+        LocalDate parsedValue = parse(str, formatter, LocalDate::from);
+        if ((null != parsedValue) && parsedValue.format(formatter).equals(str)) {
+            return parsedValue;
         }
         return null;
     }
 
-    public static ZonedDateTime parseDateTime(String value, String pattern) {
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern(pattern);
-        try {
-            ZonedDateTime parsedValue = ZonedDateTime.parse(value, formatter);
-            String formattedParsedValue = parsedValue.format(formatter);
-            if (formattedParsedValue.equals(value)) {
-                return parsedValue;
+    public static ZonedDateTime parseDateTime(CharSequence value, String pattern) {
+        if (ISO_DATETIME_PATTERN.equals(pattern)) {
+            int length = value.length();
+            if ((length == 20) || (length == 22) || (length == 24)) {
+                return parseIsoDateTime(value);
             }
-        } catch (DateTimeParseException e) {
-            // Ignore.
+        }
+        String str = value.toString();
+        DateTimeFormatter formatter = getFormatter(pattern);
+        ZonedDateTime parsedValue = parse(str, formatter, ZonedDateTime::from);
+        if ((null != parsedValue) && parsedValue.format(formatter).equals(str)) {
+            return parsedValue;
         }
         return null;
     }
 
-    public static LocalTime parseTime(String value, String pattern) {
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern(pattern);
-        try {
-            LocalTime parsedValue = LocalTime.parse(value, formatter);
-            String formattedParsedValue = parsedValue.format(formatter);
-            if (formattedParsedValue.equals(value)) {
-                return parsedValue;
-            }
-        } catch (DateTimeParseException e) {
-            // Ignore.
+    public static LocalTime parseTime(CharSequence value, String pattern) {
+        if (ISO_TIME_PATTERN.equals(pattern) && (value.length() == 8)) {
+            return parseIsoTime(value, 0);
+        }
+        String str = value.toString();
+        DateTimeFormatter formatter = getFormatter(pattern);
+        LocalTime parsedValue = parse(str, formatter, LocalTime::from);
+        if ((null != parsedValue) && parsedValue.format(formatter).equals(str)) {
+            return parsedValue;
         }
         return null;
     }
 
+    /*
+     * Hand-written parsers for the default formats. They accept exactly the values that survive the
+     * formatter-based parse and re-format round trip above: ASCII digits only, zero-padded fields,
+     * years 1-9999 and no days beyond the end of the month.
+     */
+
+    // yyyy-MM-dd at `offset`
+    private static LocalDate parseIsoDate(CharSequence value, int offset) {
+        int year = parseDigits(value, offset, 4);
+        int month = parseDigits(value, offset + 5, 2);
+        int day = parseDigits(value, offset + 8, 2);
+        if ((year < 1) || (month < 1) || (month > 12) || (day < 1)
+                || (value.charAt(offset + 4) != '-') || (value.charAt(offset + 7) != '-')) {
+            return null;
+        }
+        if (day > 28) {
+            int monthLength = Month.of(month).length(Year.isLeap(year));
+            if (day > monthLength) {
+                return null;
+            }
+        }
+        return LocalDate.of(year, month, day);
+    }
+
+    // HH:mm:ss at `offset`
+    private static LocalTime parseIsoTime(CharSequence value, int offset) {
+        int hour = parseDigits(value, offset, 2);
+        int minute = parseDigits(value, offset + 3, 2);
+        int second = parseDigits(value, offset + 6, 2);
+        if ((hour < 0) || (hour > 23) || (minute < 0) || (minute > 59) || (second < 0) || (second > 59)
+                || (value.charAt(offset + 2) != ':') || (value.charAt(offset + 5) != ':')) {
+            return null;
+        }
+        return LocalTime.of(hour, minute, second);
+    }
+
+    // yyyy-MM-dd'T'HH:mm:ssX, where the offset is either `Z`, `+HH` or `+HHmm` (the latter for non-zero minutes only)
+    private static ZonedDateTime parseIsoDateTime(CharSequence value) {
+        if (value.charAt(10) != 'T') {
+            return null;
+        }
+        LocalDate date = parseIsoDate(value, 0);
+        if (null == date) {
+            return null;
+        }
+        LocalTime time = parseIsoTime(value, 11);
+        if (null == time) {
+            return null;
+        }
+        ZoneOffset offset;
+        int length = value.length();
+        if (length == 20) {
+            if (value.charAt(19) != 'Z') {
+                return null;
+            }
+            offset = ZoneOffset.UTC;
+        } else {
+            char sign = value.charAt(19);
+            if ((sign != '+') && (sign != '-')) {
+                return null;
+            }
+            int hours = parseDigits(value, 20, 2);
+            int minutes = (length == 24) ? parseDigits(value, 22, 2) : 0;
+            // a zero offset is formatted as `Z`, whole hours without minutes
+            if ((hours < 0) || (minutes < 0) || (minutes > 59) || ((length == 24) && (minutes == 0))
+                    || ((hours == 0) && (minutes == 0)) || (hours > 18) || ((hours == 18) && (minutes > 0))) {
+                return null;
+            }
+            offset = (sign == '+')
+                    ? ZoneOffset.ofHoursMinutes(hours, minutes)
+                    : ZoneOffset.ofHoursMinutes(-hours, -minutes);
+        }
+        return ZonedDateTime.of(date, time, offset);
+    }
+
+    // Parses `count` ASCII digits starting at `offset`, returns -1 if any of them is not a digit
+    private static int parseDigits(CharSequence value, int offset, int count) {
+        int result = 0;
+        for (int i = offset; i < offset + count; i++) {
+            int digit = value.charAt(i) - '0';
+            if ((digit < 0) || (digit > 9)) {
+                return -1;
+            }
+            result = result * 10 + digit;
+        }
+        return result;
+    }
+
+    /**
+     * Parse and resolve the whole value in one pass. Unlike {@link DateTimeFormatter#parse(CharSequence, TemporalQuery)}
+     * it returns null instead of throwing, so that invalid values don't pay for creating a
+     * DateTimeParseException.
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> T parse(String value, DateTimeFormatter formatter, TemporalQuery<T> query) {
+        ParsePosition position = new ParsePosition(0);
+        Object parsed = formatter.toFormat(query).parseObject(value, position);
+        return (position.getIndex() == value.length()) ? (T) parsed : null;
+    }
+
     public static String prepareDateFormat(String format, boolean javaBasedDateFormats) {
         if (format == null) {
             return null;
@@ -104,22 +229,38 @@ public class TableSchemaUtil {
     }
 
     public static Map<Integer, Integer> createSchemaHeaderMapping(String[] headers, String[] sortedHeaders) {
-        if ((null == headers) || (null == sortedHeaders))
+        int[] indices = createSchemaHeaderIndices(headers, sortedHeaders);
+        if (null == indices)
             return null;
         Map<Integer, Integer> mapping = new HashMap<>();
+        for (int i = 0; i < indices.length; i++) {
+            mapping.put(i, (indices[i] >= 0) ? indices[i] : null);
+        }
+        return mapping;
+    }
 
+    /**
+     * Find the position in `headers` for each of the `sortedHeaders`. If a header name appears more
+     * than once in `headers`, its last position is used. Runs in linear time, so it is fine for tables
+     * with thousands of columns.
+     * @param headers the headers as found in the data
+     * @param sortedHeaders the headers in the order to map them to, eg. as declared in the Schema
+     * @return for every entry of `sortedHeaders`, its index in `headers` or -1 if it isn't there
+     */
+    public static int[] createSchemaHeaderIndices(String[] headers, String[] sortedHeaders) {
+        if ((null == headers) || (null == sortedHeaders))
+            return null;
+        Map<String, Integer> positions = new HashMap<>(headers.length * 2);
+        for (int j = 0; j < headers.length; j++) {
+            positions.put(headers[j], j);
+        }
+        int[] indices = new int[sortedHeaders.length];
         for (int i = 0; i < sortedHeaders.length; i++) {
-            for (int j = 0; j < headers.length; j++) {
-                if (sortedHeaders[i].equals(headers[j])) {
-                    mapping.put(i, j);
-                }
-            }
+            Integer position = positions.get(sortedHeaders[i]);
             // declared header not found in actual data - can happen with JSON Arrays
             // of JSON objects as they will not have keys for null values
-            if (!mapping.containsKey(i)) {
-                mapping.put(i, null);
-            }
+            indices[i] = (null != position) ? position : -1;
         }
-        return mapping;
+        return indices;
     }
 }
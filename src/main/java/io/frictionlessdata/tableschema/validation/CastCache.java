@@ -0,0 +1,131 @@
+package io.frictionlessdata.tableschema.validation;
+
+/**
+ * Bounded memo cache from raw values to the values a Field parsed them into, for columns with few
+ * distinct values like country codes, status flags or dates. Besides saving the parsing, repeated
+ * raw values share one parsed instance, so only Fields with immutable values may use it.
+ *
+ * The cache is an open-addressing table with a probe window of 4 slots. If the
+ * window of a new value is full, the entry with the fewest hits in it gets evicted. Keys are looked up
+ * by their characters, so a cache hit for a {@link io.frictionlessdata.tableschema.util.CharSlice}
+ * doesn't create a String.
+ *
+ * The cache samples its first 1024 lookups. If less than a quarter of them were hits,
+ * the column has too many distinct values and the cache switches itself off, see {@link #isDisabled()}.
+ *
+ * Instances belong to one {@link ValidationContext} and are not thread-safe.
+ */
+public final class CastCache {
+    static final int SAMPLE_SIZE = 1024;
+    private static final int PROBE_LENGTH = 4;
+    // stands in for caches that switched themselves off, so their tables can be collected
+    static final CastCache DISABLED = new CastCache(1);
+    static {
+        DISABLED.disabled = true;
+    }
+
+    private final String[] keys;
+    private final Object[] values;
+    private final int[] hashes;
+    private final int[] hits;
+    private final int mask;
+
+    private int lookups = 0;
+    private int hitCount = 0;
+    private boolean disabled = false;
+
+    /**
+     * @param maxEntries the number of values to make room for. The table gets twice as many slots,
+     *                   rounded up to a power of two, so that probe windows rarely overflow.
+     */
+    public CastCache(int maxEntries) {
+        if (maxEntries < 1) {
+            throw new IllegalArgumentException("Cache size must be positive");
+        }
+        int capacity = Integer.highestOneBit(Math.max(maxEntries, PROBE_LENGTH) * 2 - 1) << 1;
+        keys = new String[capacity];
+        values = new Object[capacity];
+        hashes = new int[capacity];
+        hits = new int[capacity];
+        mask = capacity - 1;
+    }
+
+    /**
+     * Look up the parsed value for a raw value.
+     * @param raw the raw value
+     * @return the cached value or null if `raw` is not in the cache
+     */
+    public Object get(CharSequence raw) {
+        if (lookups < SAMPLE_SIZE) {
+            lookups++;
+            if (lookups == SAMPLE_SIZE) {
+                disabled = hitCount < (SAMPLE_SIZE / 4);
+            }
+        }
+        int hash = hash(raw);
+        int slot = hash & mask;
+        for (int i = 0; i < PROBE_LENGTH; i++) {
+            int index = (slot + i) & mask;
+            String key = keys[index];
+            if (null == key) {
+                return null;
+            }
+            if ((hashes[index] == hash) && key.contentEquals(raw)) {
+                hitCount++;
+                if (hits[index] < Integer.MAX_VALUE) {
+                    hits[index]++;
+                }
+                return values[index];
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Cache the parsed value of a raw value. Null values are not cached.
+     * @param raw the raw value, it is copied into a String if it isn't one
+     * @param value the parsed value
+     */
+    public void put(CharSequence raw, Object value) {
+        if (disabled || (null == value)) {
+            return;
+        }
+        int hash = hash(raw);
+        int slot = hash & mask;
+        int victim = slot;
+        for (int i = 0; i < PROBE_LENGTH; i++) {
+            int index = (slot + i) & mask;
+            if (null == keys[index]) {
+                victim = index;
+                break;
+            }
+            if (hits[index] < hits[victim]) {
+                victim = index;
+            }
+        }
+        keys[victim] = raw.toString();
+        values[victim] = value;
+        hashes[victim] = hash;
+        hits[victim] = 0;
+    }
+
+    /**
+     * Signals whether sampling showed that caching doesn't pay off for the column.
+     * @return true if the cache should not be used any more
+     */
+    public boolean isDisabled() {
+        return disabled;
+    }
+
+    // String.hashCode() without creating a String
+    private static int hash(CharSequence raw) {
+        if (raw instanceof String) {
+            return raw.hashCode();
+        }
+        int hash = 0;
+        for (int i = 0; i < raw.length(); i++) {
+            hash = 31 * hash + raw.charAt(i);
+        }
+        return hash;
+    }
+}
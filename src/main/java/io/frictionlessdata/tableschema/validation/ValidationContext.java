@@ -0,0 +1,80 @@
+package io.frictionlessdata.tableschema.validation;
+
+import io.frictionlessdata.tableschema.field.Field;
+
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Holds the state that spans rows while casting or validating one pass over a Table, eg. the values
+ * seen so far for Fields with a `unique` constraint. Keeping this state out of the {@link Field}s
+ * allows one (frozen) {@link io.frictionlessdata.tableschema.schema.Schema} to be shared between
+ * threads.
+ *
+ * A ValidationContext belongs to one iteration and is not thread-safe.
+ */
+public class ValidationContext {
+    // Fields are compared by identity, two equal Fields in a Schema still are different columns
+    private final Map<Field<?>, Set<Object>> uniqueValues = new IdentityHashMap<>();
+    private final Map<Field<?>, CastCache> castCaches = new IdentityHashMap<>();
+    private int castCacheSize = 0;
+
+    public ValidationContext() { }
+
+    /**
+     * Enable memoizing cast values, see {@link CastCache}. Every Field with immutable values gets its own
+     * cache, which switches itself off for columns with many distinct values.
+     * @param castCacheSize the number of values to cache per Field, 0 to disable caching
+     */
+    public void setCastCacheSize(int castCacheSize) {
+        if (castCacheSize < 0) {
+            throw new IllegalArgumentException("Cache size must not be negative");
+        }
+        this.castCacheSize = castCacheSize;
+        castCaches.clear();
+    }
+
+    public int getCastCacheSize() {
+        return castCacheSize;
+    }
+
+    /**
+     * Returns the cache of cast values for a Field.
+     * @param field the Field, it must only produce immutable values
+     * @return the cache or null if caching is disabled or doesn't pay off for `field`
+     */
+    public CastCache getCastCache(Field<?> field) {
+        if (castCacheSize == 0) {
+            return null;
+        }
+        CastCache cache = castCaches.get(field);
+        if (null == cache) {
+            cache = new CastCache(castCacheSize);
+            castCaches.put(field, cache);
+        }
+        if (cache.isDisabled()) {
+            if (cache != CastCache.DISABLED) {
+                castCaches.put(field, CastCache.DISABLED);
+            }
+            return null;
+        }
+        return cache;
+    }
+
+    /**
+     * Record a value for a Field with a `unique` constraint.
+     * @param field the Field the value belongs to
+     * @param value the cast value
+     * @return true if the value was not seen before for this Field, false if it is a duplicate
+     */
+    public boolean addUniqueValue(Field<?> field, Object value) {
+        Set<Object> values = uniqueValues.get(field);
+        if (null == values) {
+            values = new HashSet<>();
+            uniqueValues.put(field, values);
+        }
+        return values.add(value);
+    }
+}
@@ -0,0 +1,89 @@
+package io.frictionlessdata.tableschema.validation;
+
+/**
+ * One problem found while validating Table data against its Schema. Unlike the exceptions thrown by
+ * {@link io.frictionlessdata.tableschema.field.Field#castValue(String)}, instances are cheap to create
+ * as they don't capture a stack trace.
+ */
+public class ValidationError {
+
+    public enum ErrorCode {
+        /** A column declared in the Schema is missing in the data, or the data holds an undeclared column */
+        HEADER_ERROR,
+        /** The value cannot be cast to the type of its Field */
+        TYPE_ERROR,
+        /** The value violates one of the constraints of its Field */
+        CONSTRAINT_ERROR
+    }
+
+    private final long row;
+    private final int column;
+    private final String columnName;
+    private final String rawValue;
+    private final ErrorCode errorCode;
+    private final String constraint;
+    private final Object constraintValue;
+
+    public ValidationError(long row, int column, String columnName, String rawValue,
+                           ErrorCode errorCode, String constraint, Object constraintValue) {
+        this.row = row;
+        this.column = column;
+        this.columnName = columnName;
+        this.rawValue = rawValue;
+        this.errorCode = errorCode;
+        this.constraint = constraint;
+        this.constraintValue = constraintValue;
+    }
+
+    /**
+     * @return 0-based index of the data row (not counting a header row), -1 for header errors
+     */
+    public long getRow() {
+        return row;
+    }
+
+    /**
+     * @return 0-based index of the column in the order declared in the Schema, -1 for undeclared columns
+     */
+    public int getColumn() {
+        return column;
+    }
+
+    public String getColumnName() {
+        return columnName;
+    }
+
+    public String getRawValue() {
+        return rawValue;
+    }
+
+    public ErrorCode getErrorCode() {
+        return errorCode;
+    }
+
+    /**
+     * @return the key of the violated constraint (eg. `required`) for constraint errors, null otherwise
+     */
+    public String getConstraint() {
+        return constraint;
+    }
+
+    /**
+     * @return the value of the violated constraint as declared in the Schema, null for other errors
+     */
+    public Object getConstraintValue() {
+        return constraintValue;
+    }
+
+    @Override
+    public String toString() {
+        return "ValidationError {" +
+                "row=" + row +
+                ", column=" + column +
+                ", columnName='" + columnName + '\'' +
+                ", rawValue='" + rawValue + '\'' +
+                ", errorCode=" + errorCode +
+                ((null != constraint) ? ", constraint='" + constraint + '\'' : "") +
+                '}';
+    }
+}
@@ -0,0 +1,41 @@
+package io.frictionlessdata.tableschema.validation;
+
+/**
+ * Options for collecting a {@link ValidationReport} via
+ * {@link io.frictionlessdata.tableschema.Table#validate(ValidationOptions)}.
+ */
+public class ValidationOptions {
+    public static final int DEFAULT_MAX_ERRORS = 1000;
+
+    private int maxErrors = DEFAULT_MAX_ERRORS;
+    private boolean enforceConstraints = true;
+
+    public ValidationOptions() { }
+
+    /**
+     * Validation stops once this many errors have been collected. A value smaller than 1 means
+     * there is no limit and the whole table is checked.
+     * @return the maximum number of errors to collect
+     */
+    public int getMaxErrors() {
+        return maxErrors;
+    }
+
+    public ValidationOptions setMaxErrors(int maxErrors) {
+        this.maxErrors = maxErrors;
+        return this;
+    }
+
+    /**
+     * Whether Field constraints are checked in addition to the type of the values
+     * @return true if constraints are checked
+     */
+    public boolean isEnforceConstraints() {
+        return enforceConstraints;
+    }
+
+    public ValidationOptions setEnforceConstraints(boolean enforceConstraints) {
+        this.enforceConstraints = enforceConstraints;
+        return this;
+    }
+}
@@ -0,0 +1,82 @@
+package io.frictionlessdata.tableschema.validation;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Collects the {@link ValidationError}s found while validating a Table. The number of collected errors
+ * is bounded by {@link ValidationOptions#getMaxErrors()}, once the limit is reached, no more errors are
+ * added and the report is marked as truncated.
+ */
+public class ValidationReport {
+    private final int maxErrors;
+    private final List<ValidationError> errors = new ArrayList<>();
+    private long rowCount = 0;
+    private boolean truncated = false;
+
+    public ValidationReport(int maxErrors) {
+        this.maxErrors = maxErrors;
+    }
+
+    /**
+     * Add an error to the report unless the maximum number of errors has already been reached.
+     * @param error the error to add
+     * @return false if the report is full and validation should stop, true otherwise
+     */
+    public boolean addError(ValidationError error) {
+        if (isFull()) {
+            truncated = true;
+            return false;
+        }
+        errors.add(error);
+        return true;
+    }
+
+    /**
+     * @return true if no more errors can be added
+     */
+    public boolean isFull() {
+        return (maxErrors > 0) && (errors.size() >= maxErrors);
+    }
+
+    public void setRowCount(long rowCount) {
+        this.rowCount = rowCount;
+    }
+
+    public void setTruncated(boolean truncated) {
+        this.truncated = truncated;
+    }
+
+    public List<ValidationError> getErrors() {
+        return Collections.unmodifiableList(errors);
+    }
+
+    /**
+     * @return the number of data rows that were checked
+     */
+    public long getRowCount() {
+        return rowCount;
+    }
+
+    /**
+     * @return true if validation stopped before reaching the end of the data because the
+     *      maximum number of errors was reached
+     */
+    public boolean isTruncated() {
+        return truncated;
+    }
+
+    public boolean isValid() {
+        return errors.isEmpty();
+    }
+
+    @Override
+    public String toString() {
+        return "ValidationReport {" +
+                "rowCount=" + rowCount +
+                ", errors=" + errors.size() +
+                ", truncated=" + truncated +
+                '}';
+    }
+}
@@ -0,0 +1,194 @@
+package io.frictionlessdata.tableschema.validation;
+
+import io.frictionlessdata.tableschema.Table;
+
+import java.lang.reflect.Method;
+import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Validates many Tables concurrently, see {@link Table#validate(ValidationOptions)}. Each submitted
+ * validation runs as its own task in two phases: loading the Table, which mostly waits for I/O, and
+ * validating its data, which is CPU-bound casting. Any number of tasks can load at the same time, but
+ * only `castParallelism` tasks validate at the same time, so waiting for I/O doesn't hold back casting
+ * and the CPU isn't oversubscribed.
+ *
+ * On JVMs with virtual threads (Java 21 and later), every task runs on a new virtual thread, so the
+ * number of validations waiting for I/O is not limited by the number of threads. On older JVMs, the
+ * tasks run on a fixed pool of platform threads.
+ *
+ * The service is thread-safe. Close it to stop its threads.
+ */
+public class ValidationService implements AutoCloseable {
+    private static final Method virtualThreadFactory = findVirtualThreadFactory();
+    private static final AtomicInteger poolCount = new AtomicInteger();
+
+    private final ExecutorService executor;
+    private final Semaphore castPermits;
+    private final boolean virtualThreads;
+
+    /**
+     * Create a service validating on as many threads as there are processors, with as many platform
+     * threads to load Tables if there are no virtual threads.
+     */
+    public ValidationService() {
+        this(Runtime.getRuntime().availableProcessors(), 4 * Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Create a service running every task on a virtual thread if the JVM supports it, on a fixed pool of
+     * platform threads otherwise.
+     * @param castParallelism the number of Tables to validate at the same time
+     * @param poolSize the number of platform threads if there are no virtual threads
+     */
+    public ValidationService(int castParallelism, int poolSize) {
+        this(castParallelism, newExecutor(poolSize), null != virtualThreadFactory);
+    }
+
+    /**
+     * Create a service running the tasks on the given Executor, which gets shut down on {@link #close()}.
+     * @param castParallelism the number of Tables to validate at the same time
+     * @param executor the Executor to run the tasks on
+     */
+    public ValidationService(int castParallelism, ExecutorService executor) {
+        this(castParallelism, Objects.requireNonNull(executor), false);
+    }
+
+    private ValidationService(int castParallelism, ExecutorService executor, boolean virtualThreads) {
+        if (castParallelism < 1) {
+            throw new IllegalArgumentException("Cast parallelism must be positive");
+        }
+        this.castPermits = new Semaphore(castParallelism);
+        this.executor = executor;
+        this.virtualThreads = virtualThreads;
+    }
+
+    /**
+     * Load a Table and validate its data.
+     * @param loader creates the Table, eg. by reading data and Schema from URLs, runs without counting
+     *               against the cast parallelism
+     * @param options the validation options, defaults are used if null
+     * @return future completing with the report, or exceptionally if loading or reading the Table fails
+     */
+    public CompletableFuture<ValidationReport> submit(Callable<Table> loader, ValidationOptions options) {
+        Objects.requireNonNull(loader);
+        ValidationTask task = new ValidationTask(loader, options);
+        executor.execute(task);
+        return task.result;
+    }
+
+    /**
+     * Validate the data of a Table that has already been loaded.
+     * @param table the Table to validate
+     * @param options the validation options, defaults are used if null
+     * @return future completing with the report, or exceptionally if reading the Table fails
+     */
+    public CompletableFuture<ValidationReport> submit(Table table, ValidationOptions options) {
+        Objects.requireNonNull(table);
+        return submit(() -> table, options);
+    }
+
+    /**
+     * @return true if the tasks run on virtual threads
+     */
+    public boolean usesVirtualThreads() {
+        return virtualThreads;
+    }
+
+    /**
+     * Stop accepting validations and wait for the running ones to finish.
+     * @param timeout the maximum time to wait
+     * @param unit the unit of the timeout
+     * @return true if all validations have finished
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        executor.shutdown();
+        return executor.awaitTermination(timeout, unit);
+    }
+
+    /**
+     * Stop the service. Running validations are interrupted, the futures of the ones not started yet
+     * get cancelled.
+     */
+    @Override
+    public void close() {
+        for (Runnable pending : executor.shutdownNow()) {
+            if (pending instanceof ValidationTask) {
+                ((ValidationTask) pending).result.cancel(false);
+            }
+        }
+    }
+
+    private static ExecutorService newExecutor(int poolSize) {
+        if (null != virtualThreadFactory) {
+            try {
+                return (ExecutorService) virtualThreadFactory.invoke(null);
+            } catch (ReflectiveOperationException ex) {
+                throw new IllegalStateException(ex);
+            }
+        }
+        if (poolSize < 1) {
+            throw new IllegalArgumentException("Pool size must be positive");
+        }
+        return Executors.newFixedThreadPool(poolSize, platformThreads());
+    }
+
+    // Executors.newVirtualThreadPerTaskExecutor() if the JVM has it, looked up as this library targets Java 8
+    private static Method findVirtualThreadFactory() {
+        try {
+            return Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+        } catch (NoSuchMethodException | SecurityException ex) {
+            return null;
+        }
+    }
+
+    private static ThreadFactory platformThreads() {
+        int pool = poolCount.incrementAndGet();
+        AtomicInteger threadCount = new AtomicInteger();
+        return (runnable) -> {
+            Thread thread = new Thread(runnable, "table-validation-" + pool + "-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    private final class ValidationTask implements Runnable {
+        private final Callable<Table> loader;
+        private final ValidationOptions options;
+        private final CompletableFuture<ValidationReport> result = new CompletableFuture<>();
+
+        private ValidationTask(Callable<Table> loader, ValidationOptions options) {
+            this.loader = loader;
+            this.options = options;
+        }
+
+        @Override
+        public void run() {
+            if (result.isDone()) {
+                return;
+            }
+            try {
+                Table table = loader.call();
+                castPermits.acquire();
+                try {
+                    result.complete(table.validate(options));
+                } finally {
+                    castPermits.release();
+                }
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                result.completeExceptionally(ex);
+            } catch (Throwable t) {
+                result.completeExceptionally(t);
+            }
+        }
+    }
+}
@@ -0,0 +1,223 @@
+package io.frictionlessdata.tableschema;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * HTTP server on the loopback address for tests of remote data sources. It serves the resources put
+ * into it, answers requests with a matching `If-None-Match` with 304 and `Range` requests with 206
+ * and counts the requests it has answered. Unknown paths get a 404.
+ */
+public class TestHttpServer implements AutoCloseable {
+    private static final Pattern RANGE = Pattern.compile("bytes=(\\d+)-(\\d+)");
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final Map<String, Resource> resources = new ConcurrentHashMap<>();
+    private final AtomicInteger downloads = new AtomicInteger();
+    private final AtomicInteger notModified = new AtomicInteger();
+    private final AtomicInteger rangeRequests = new AtomicInteger();
+    private volatile boolean rangesSupported = true;
+    private volatile long delay = 0;
+    // the first range request starting at this offset fails
+    private volatile long failAt = -1;
+    // the status it is answered with, 0 to break off the response instead
+    private volatile int failStatus = 0;
+    private final AtomicBoolean failed = new AtomicBoolean();
+
+    public TestHttpServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/", this::handle);
+        executor = Executors.newCachedThreadPool();
+        server.setExecutor(executor);
+        server.start();
+    }
+
+    /**
+     * Serve a resource.
+     * @param path the path of the resource
+     * @param body the content
+     * @param etag the ETag to send and revalidate with, null for none
+     */
+    public void put(String path, byte[] body, String etag) {
+        resources.put(path, new Resource(body, etag));
+    }
+
+    public void put(String path, String body, String etag) {
+        put(path, body.getBytes(StandardCharsets.UTF_8), etag);
+    }
+
+    public void setRangesSupported(boolean rangesSupported) {
+        this.rangesSupported = rangesSupported;
+    }
+
+    /**
+     * @param delay milliseconds to wait before sending a resource
+     */
+    public void setDelay(long delay) {
+        this.delay = delay;
+    }
+
+    /**
+     * Fail the first range request starting at an offset.
+     * @param offset the first byte of the range
+     * @param status the status to answer with, or 0 to break off the response after a few bytes
+     */
+    public void failRangeOnce(long offset, int status) {
+        this.failAt = offset;
+        this.failStatus = status;
+    }
+
+    public boolean hasFailed() {
+        return failed.get();
+    }
+
+    /**
+     * @return the number of complete resources sent with status 200
+     */
+    public int getDownloads() {
+        return downloads.get();
+    }
+
+    public int getNotModified() {
+        return notModified.get();
+    }
+
+    public int getRangeRequests() {
+        return rangeRequests.get();
+    }
+
+    /**
+     * Create the URL of a path on this server.
+     * @param path the path, starting with a slash
+     * @return the URL
+     */
+    public URL url(String path) throws IOException {
+        InetSocketAddress address = server.getAddress();
+        try {
+            return new URI("http", null, address.getAddress().getHostAddress(), address.getPort(), path,
+                    null, null).toURL();
+        } catch (URISyntaxException ex) {
+            throw new IOException(ex);
+        }
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    /**
+     * Read and close a stream.
+     * @param in the stream
+     * @return the content
+     */
+    public static byte[] read(InputStream in) throws IOException {
+        try (InputStream stream = in) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            byte[] buffer = new byte[8192];
+            int read;
+            while ((read = stream.read(buffer)) != -1) {
+                out.write(buffer, 0, read);
+            }
+            return out.toByteArray();
+        }
+    }
+
+    public static String readString(InputStream in) throws IOException {
+        return new String(read(in), StandardCharsets.UTF_8);
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        Resource resource = resources.get(exchange.getRequestURI().getPath());
+        if (null == resource) {
+            exchange.sendResponseHeaders(404, -1);
+            exchange.close();
+            return;
+        }
+        if ((null != resource.etag) && resource.etag.equals(exchange.getRequestHeaders().getFirst("If-None-Match"))) {
+            notModified.incrementAndGet();
+            exchange.sendResponseHeaders(304, -1);
+            exchange.close();
+            return;
+        }
+        if (delay > 0) {
+            try {
+                Thread.sleep(delay);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        if (null != resource.etag) {
+            exchange.getResponseHeaders().add("ETag", resource.etag);
+        }
+        byte[] body = resource.body;
+        String range = exchange.getRequestHeaders().getFirst("Range");
+        Matcher matcher = (null != range) ? RANGE.matcher(range) : null;
+        if (!rangesSupported || (null == matcher) || !matcher.matches()) {
+            downloads.incrementAndGet();
+            exchange.sendResponseHeaders(200, (body.length == 0) ? -1 : body.length);
+            exchange.getResponseBody().write(body);
+            exchange.close();
+            return;
+        }
+        rangeRequests.incrementAndGet();
+        if (body.length == 0) {
+            // no range of an empty resource is satisfiable
+            exchange.getResponseHeaders().add("Content-Range", "bytes */0");
+            exchange.sendResponseHeaders(416, -1);
+            exchange.close();
+            return;
+        }
+        int start = Integer.parseInt(matcher.group(1));
+        int end = Math.min(Integer.parseInt(matcher.group(2)), body.length - 1);
+        boolean fail = (start == failAt) && failed.compareAndSet(false, true);
+        if (fail && (failStatus != 0)) {
+            exchange.sendResponseHeaders(failStatus, -1);
+            exchange.close();
+            return;
+        }
+        exchange.getResponseHeaders().add("Content-Range", "bytes " + start + "-" + end + "/" + body.length);
+        exchange.sendResponseHeaders(206, end - start + 1);
+        OutputStream out = exchange.getResponseBody();
+        if (fail) {
+            out.write(body, start, 3);
+            out.flush();
+            // closes the connection before the announced length is sent
+            exchange.close();
+            return;
+        }
+        out.write(body, start, end - start + 1);
+        exchange.close();
+    }
+
+    private static final class Resource {
+        private final byte[] body;
+        private final String etag;
+
+        private Resource(byte[] body, String etag) {
+            this.body = body;
+            this.etag = etag;
+        }
+    }
+}
@@ -0,0 +1,158 @@
+package io.frictionlessdata.tableschema.datasourceformat;
+
+import io.frictionlessdata.tableschema.Table;
+import io.frictionlessdata.tableschema.schema.Schema;
+import org.apache.commons.csv.CSVFormat;
+import org.apache.commons.csv.CSVParser;
+import org.apache.commons.csv.CSVRecord;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static io.frictionlessdata.tableschema.TestHelper.getTestDataDirectory;
+
+class FastCsvTokenizerTest {
+
+    private static final String[] inputs = new String[]{
+            "",
+            "a,b\n1,2",
+            "a,b\r\n1,2\r\n",
+            "a,b\r1,2\r",
+            "a,\"b \"\"quoted\"\" value\"\n\"1,\n2\",3\n",
+            "  a , b  \n\n\n1,\"2\"   \n",
+            "a,b,\n,,\n",
+            "a\tb\n\"x\ty\"\tz\n",
+            "a,b\n  \n1,2",
+            "a ,b\"c,d\"\"\n",
+            "a,b\n\"1\" x,2\n3,4\n",
+            "a,\"b\"\n1,\"x\"\"y,\r\n\"\"\"\"z\"\r\n3,\" 4 \"",
+    };
+
+    private static final CSVFormat[] formats = new CSVFormat[]{
+            CSVFormat.RFC4180,
+            CSVFormat.DEFAULT,
+            CSVFormat.EXCEL,
+            CSVFormat.TDF,
+            CSVFormat.RFC4180.withIgnoreSurroundingSpaces(),
+            CSVFormat.DEFAULT.withTrim(),
+            CSVFormat.DEFAULT.withQuote(null)
+    };
+
+    @Test
+    @DisplayName("Tokenizing yields the same records as commons-csv")
+    void testSameRecordsAsCommonsCsv() throws Exception {
+        for (CSVFormat format : formats) {
+            for (String input : inputs) {
+                // buffer size 1 forces a refill at every position
+                for (int bufferSize : new int[]{1, 3, 1024}) {
+                    Assertions.assertEquals(parseWithCommonsCsv(input, format),
+                            tokenizeOrNull(input, format, bufferSize, false), "Input: " + input + ", format: " + format);
+                    Assertions.assertEquals(parseWithCommonsCsv(input, format),
+                            tokenizeOrNull(input, format, bufferSize, true), "Input: " + input + ", format: " + format);
+                }
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("The structural index spans blocks and buffer fills")
+    void testStructuralIndexOnLongRecords() throws Exception {
+        StringBuilder data = new StringBuilder();
+        for (int i = 0; i < 500; i++) {
+            data.append(i).append(",\"quoted, with \"\"quotes\"\"\n").append(i).append("\",")
+                    .append(i % 7 == 0 ? "x\"y" : "plain").append("\r\n");
+        }
+        String input = data.toString();
+        List<List<String>> expected = parseWithCommonsCsv(input, CSVFormat.DEFAULT);
+        Assertions.assertEquals(500, expected.size());
+        for (int bufferSize : new int[]{7, 64, 100, 4096}) {
+            Assertions.assertEquals(expected, tokenize(input, CSVFormat.DEFAULT, bufferSize, true));
+        }
+    }
+
+    @Test
+    @DisplayName("Unterminated quotes and garbage after a closing quote are rejected")
+    void testInvalidQuoting() {
+        FastCsvTokenizer tokenizer = new FastCsvTokenizer();
+        Assertions.assertThrows(IOException.class,
+                () -> tokenize("a,\"b\n", CSVFormat.RFC4180, 16, false));
+        Assertions.assertThrows(IOException.class,
+                () -> tokenize("a,\"b\"c\n", CSVFormat.RFC4180, 16, false));
+        Assertions.assertThrows(IOException.class,
+                () -> tokenize("a,\"b\n", CSVFormat.RFC4180, 16, true));
+        Assertions.assertThrows(IOException.class,
+                () -> tokenize("a,\"b\"c\n", CSVFormat.RFC4180, 16, true));
+        Assertions.assertFalse(tokenizer.supports(CSVFormat.MYSQL));
+        Assertions.assertFalse(tokenizer.supports(CSVFormat.DEFAULT.withCommentMarker('#')));
+        Assertions.assertTrue(tokenizer.supports(DataSourceFormat.getDefaultCsvFormat()));
+    }
+
+    @Test
+    @DisplayName("Reading a Table with the fast tokenizer yields the same data")
+    void testReadTableWithFastTokenizer() throws Exception {
+        File testDataDir = getTestDataDirectory();
+        Schema schema = Schema.fromJson(new File(testDataDir, "schema/employee_schema.json"), true);
+        File file = new File("data/employee_data.csv");
+
+        Table expectedTable = Table.fromSource(file, testDataDir, schema, DataSourceFormat.getDefaultCsvFormat());
+        Table table = Table.fromSource(file, testDataDir, schema, DataSourceFormat.getDefaultCsvFormat());
+        table.setCsvTokenizer(new FastCsvTokenizer());
+
+        Assertions.assertArrayEquals(expectedTable.getHeaders(), table.getHeaders());
+        List<Object[]> expected = expectedTable.read(true);
+        List<Object[]> actual = table.read(true);
+        Assertions.assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            Assertions.assertTrue(Arrays.deepEquals(expected.get(i), actual.get(i)));
+        }
+        Assertions.assertEquals(expectedTable.read().size(), table.read().size());
+    }
+
+    // null if the input is invalid for `format`
+    private static List<List<String>> parseWithCommonsCsv(String input, CSVFormat format) throws IOException {
+        List<List<String>> records = new ArrayList<>();
+        try {
+            for (CSVRecord record : CSVParser.parse(input, format)) {
+                List<String> values = new ArrayList<>();
+                record.forEach(values::add);
+                records.add(values);
+            }
+        } catch (IllegalStateException ex) {
+            return null;
+        }
+        return records;
+    }
+
+    private static List<List<String>> tokenizeOrNull(String input, CSVFormat format, int bufferSize,
+                                                     boolean structuralIndex) {
+        try {
+            return tokenize(input, format, bufferSize, structuralIndex);
+        } catch (IOException ex) {
+            return null;
+        }
+    }
+
+    private static List<List<String>> tokenize(String input, CSVFormat format, int bufferSize,
+                                               boolean structuralIndex) throws IOException {
+        List<List<String>> records = new ArrayList<>();
+        FastCsvTokenizer tokenizer = new FastCsvTokenizer(bufferSize, structuralIndex);
+        try (CsvTokenizer.Records tokenized = tokenizer.open(new StringReader(input), format)) {
+            CharSequence[] record;
+            while (null != (record = tokenized.next())) {
+                List<String> values = new ArrayList<>();
+                for (CharSequence value : record) {
+                    values.add(value.toString());
+                }
+                records.add(values);
+            }
+        }
+        return records;
+    }
+}
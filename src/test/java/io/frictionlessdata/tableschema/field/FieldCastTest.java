@@ -5,7 +5,9 @@ import io.frictionlessdata.tableschema.Table;
 import io.frictionlessdata.tableschema.TestHelper;
 import io.frictionlessdata.tableschema.datasourceformat.DataSourceFormat;
 import io.frictionlessdata.tableschema.exception.InvalidCastException;
+import io.frictionlessdata.tableschema.exception.TypeInferringException;
 import io.frictionlessdata.tableschema.schema.Schema;
+import io.frictionlessdata.tableschema.util.CharSlice;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -15,7 +17,9 @@ import java.io.FileInputStream;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.time.*;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.Map;
 
@@ -383,6 +387,142 @@ class FieldCastTest {
         Assertions.assertEquals("John Doe", val);
     }
 
+    @Test
+    @DisplayName("tryParseValue returns the parsed value or INVALID_VALUE instead of throwing")
+    void testTryParseValue() throws Exception{
+        IntegerField intField = new IntegerField("int");
+        Assertions.assertEquals(new BigInteger("-42"), intField.tryParseValue("-42", "default", null));
+        Assertions.assertEquals(new BigInteger("1234567890123456789012"),
+                intField.tryParseValue("1234567890123456789012", "default", null));
+        Assertions.assertSame(Field.INVALID_VALUE, intField.tryParseValue("4.2", "default", null));
+        Assertions.assertSame(Field.INVALID_VALUE, intField.tryParseValue("-", "default", null));
+
+        NumberField numField = new NumberField("num");
+        Assertions.assertEquals(new BigDecimal("-1.5e3"), numField.tryParseValue("-1.5e3", "default", null));
+        Assertions.assertSame(Field.INVALID_VALUE, numField.tryParseValue("1.2.3", "default", null));
+
+        Assertions.assertEquals(Year.of(2020), new YearField("year").tryParseValue("2020", "default", null));
+        Assertions.assertSame(Field.INVALID_VALUE, new YearField("year").tryParseValue("20a0", "default", null));
+        Assertions.assertEquals(YearMonth.of(2020, 2),
+                new YearmonthField("ym").tryParseValue("2020-02", "default", null));
+        Assertions.assertSame(Field.INVALID_VALUE,
+                new YearmonthField("ym").tryParseValue("2020-13", "default", null));
+        Assertions.assertEquals(Duration.ofHours(1),
+                new DurationField("dur").tryParseValue("PT1H", "default", null));
+        Assertions.assertSame(Field.INVALID_VALUE, new DurationField("dur").tryParseValue("1H", "default", null));
+        Assertions.assertSame(Field.INVALID_VALUE, new DateField("date").tryParseValue("2020-02-30x", "default", null));
+        Assertions.assertSame(Field.INVALID_VALUE, new ArrayField("arr").tryParseValue("{}", "default", null));
+        Assertions.assertSame(Field.INVALID_VALUE, new ObjectField("obj").tryParseValue("[]", "default", null));
+        Assertions.assertSame(Field.INVALID_VALUE,
+                new GeojsonField("geo").tryParseValue("{\"type\": \"Nothing\"}", "default", null));
+        Assertions.assertSame(Field.INVALID_VALUE,
+                new GeopointField("point").tryParseValue("12", "default", null));
+        Assertions.assertSame(Field.INVALID_VALUE,
+                new GeopointField("point").tryParseValue("Smith, John", "default", null));
+        Assertions.assertSame(Field.INVALID_VALUE,
+                new GeopointField("point").tryParseValue("1,2,3", "default", null));
+        Assertions.assertArrayEquals(new double[]{-12.5, 1e3},
+                (double[]) new GeopointField("point").tryParseValue("-12.5,  1e3", "default", null));
+    }
+
+    @Test
+    void testParseValueThrowsOnInvalidValue() {
+        assertThrows(TypeInferringException.class,
+                () -> new IntegerField("int").parseValue("abc", "default", null));
+    }
+
+    @Test
+    void testCastMissingValues() throws Exception{
+        IntegerField field = new IntegerField("int");
+        Assertions.assertNull(field.castValue(""));
+        Assertions.assertNull(field.castValue(null));
+
+        field.setMissingValues(new HashSet<>(Arrays.asList("NA", "-", "n/a")));
+        Assertions.assertNull(field.castValue("NA"));
+        Assertions.assertNull(field.castValue("-"));
+        Assertions.assertNull(field.castValue("n/a"));
+        Assertions.assertEquals(BigInteger.valueOf(12), field.castValue("12"));
+        // the empty string is no longer a missing value
+        assertThrows(InvalidCastException.class, () -> field.castValue(""));
+        assertThrows(InvalidCastException.class, () -> field.castValue("NAN"));
+    }
+
+    @Test
+    @DisplayName("An empty set of missing values means no value is missing")
+    void testCastEmptyMissingValues() throws Exception{
+        IntegerField field = new IntegerField("int");
+        field.setMissingValues(new HashSet<>());
+        assertThrows(InvalidCastException.class, () -> field.castValue(""));
+        Assertions.assertEquals(BigInteger.valueOf(12), field.castValue("12"));
+
+        field.setMissingValues(null);
+        Assertions.assertNull(field.castValue(""));
+    }
+
+    @Test
+    @DisplayName("Values can be cast from CharSequence windows without creating Strings first")
+    void testCastFromCharSequence() throws Exception{
+        char[] buffer = " 42 ,-7,true,2020-02-29,13:44:33,1999,1.5,NA,12345678901234567890".toCharArray();
+        CharSlice slice = new CharSlice();
+
+        IntegerField integerField = new IntegerField("int");
+        Assertions.assertEquals(new BigInteger("42"),
+                integerField.castValue(slice.set(buffer, 0, 4), true, null, null));
+        Assertions.assertEquals(new BigInteger("-7"),
+                integerField.castValue(slice.set(buffer, 5, 2), true, null, null));
+        Assertions.assertEquals(new BigInteger("12345678901234567890"),
+                integerField.castValue(slice.set(buffer, 45, 20), true, null, null));
+        Assertions.assertSame(Field.INVALID_VALUE, integerField.tryParseValue(slice.set(buffer, 8, 4), null, null));
+
+        BooleanField booleanField = new BooleanField("bool");
+        Assertions.assertEquals(Boolean.TRUE, booleanField.castValue(slice.set(buffer, 8, 4), true, null, null));
+
+        DateField dateField = new DateField("date");
+        Assertions.assertEquals(LocalDate.of(2020, 2, 29), dateField.castValue(slice.set(buffer, 13, 10), true, null, null));
+
+        TimeField timeField = new TimeField("time");
+        Assertions.assertEquals(LocalTime.of(13, 44, 33), timeField.castValue(slice.set(buffer, 24, 8), true, null, null));
+
+        YearField yearField = new YearField("year");
+        Assertions.assertEquals(Year.of(1999), yearField.castValue(slice.set(buffer, 33, 4), true, null, null));
+
+        // types without a CharSequence parser fall back to parsing the String
+        NumberField numberField = new NumberField("number");
+        Assertions.assertEquals(new BigDecimal("1.5"), numberField.castValue(slice.set(buffer, 38, 3), true, null, null));
+
+        numberField.setMissingValues(new HashSet<>(Arrays.asList("", "NA")));
+        Assertions.assertNull(numberField.castValue(slice.set(buffer, 42, 2), true, null, null));
+        Assertions.assertThrows(InvalidCastException.class,
+                () -> numberField.castValue(slice.set(buffer, 42, 3), true, null, null));
+    }
+
+    @Test
+    @DisplayName("Default date, time and datetime formats are parsed strictly")
+    void testCastIsoDefaultFormats() throws Exception{
+        DateField dateField = new DateField("date");
+        Assertions.assertEquals(LocalDate.of(2020, 2, 29), dateField.tryParseValue("2020-02-29", "default", null));
+        Assertions.assertSame(Field.INVALID_VALUE, dateField.tryParseValue("2019-02-29", "default", null));
+        Assertions.assertSame(Field.INVALID_VALUE, dateField.tryParseValue("0000-01-01", "default", null));
+        Assertions.assertSame(Field.INVALID_VALUE, dateField.tryParseValue("2019-1-01", "default", null));
+
+        TimeField timeField = new TimeField("time");
+        Assertions.assertEquals(LocalTime.of(23, 59, 59), timeField.tryParseValue("23:59:59", "default", null));
+        Assertions.assertSame(Field.INVALID_VALUE, timeField.tryParseValue("24:00:00", "default", null));
+        Assertions.assertSame(Field.INVALID_VALUE, timeField.tryParseValue("12:60:00", "default", null));
+
+        DatetimeField datetimeField = new DatetimeField("datetime");
+        Assertions.assertEquals(ZonedDateTime.of(2020, 1, 15, 13, 44, 33, 0, ZoneOffset.UTC),
+                datetimeField.tryParseValue("2020-01-15T13:44:33Z", "default", null));
+        Assertions.assertEquals(ZonedDateTime.of(2020, 1, 15, 13, 44, 33, 0, ZoneOffset.ofHoursMinutes(-5, -30)),
+                datetimeField.tryParseValue("2020-01-15T13:44:33-0530", "default", null));
+        Assertions.assertEquals(ZonedDateTime.of(2020, 1, 15, 13, 44, 33, 0, ZoneOffset.ofHours(1)),
+                datetimeField.tryParseValue("2020-01-15T13:44:33+01", "default", null));
+        // whole hours and UTC have a shorter canonical form
+        Assertions.assertSame(Field.INVALID_VALUE, datetimeField.tryParseValue("2020-01-15T13:44:33+0100", "default", null));
+        Assertions.assertSame(Field.INVALID_VALUE, datetimeField.tryParseValue("2020-01-15T13:44:33+00", "default", null));
+        Assertions.assertSame(Field.INVALID_VALUE, datetimeField.tryParseValue("2020-01-15 13:44:33Z", "default", null));
+    }
+
     @Test
     @DisplayName("Test fix for Issue https://github.com/frictionlessdata/tableschema-java/issues/21")
     void testIssue21() {
@@ -3,9 +3,12 @@ package io.frictionlessdata.tableschema.field;
 import io.frictionlessdata.tableschema.exception.ConstraintsException;
 import io.frictionlessdata.tableschema.util.JsonUtil;
 
+import java.math.BigDecimal;
+import java.math.BigInteger;
 import java.time.*;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -208,8 +211,42 @@ public class FieldConstraintsTest {
         }
     }
 
+    @Test
     public void testMinimumAndMaximumNumber(){
-        //TODO: Implement
+        Map<String, Object> constraints = new HashMap();
+        constraints.put(Field.CONSTRAINT_KEY_MINIMUM, 2.5);
+        constraints.put(Field.CONSTRAINT_KEY_MAXIMUM, "5");
+
+        NumberField field = new NumberField("test", Field.FIELD_FORMAT_DEFAULT, null, null, null, constraints, null);
+
+        Assert.assertTrue(field.checkConstraintViolations(new BigDecimal("2.5")).isEmpty());
+        Assert.assertTrue(field.checkConstraintViolations(new BigDecimal("5.0")).isEmpty());
+        Assert.assertTrue(field.checkConstraintViolations(Double.NaN).isEmpty());
+        Map<String, Object> violatedConstraints = field.checkConstraintViolations(new BigDecimal("2.4999"));
+        Assert.assertEquals(2.5, violatedConstraints.get(Field.CONSTRAINT_KEY_MINIMUM));
+        violatedConstraints = field.checkConstraintViolations(BigInteger.valueOf(6));
+        Assert.assertEquals(5.0, violatedConstraints.get(Field.CONSTRAINT_KEY_MAXIMUM));
+    }
+
+    @Test
+    public void testValidValueHasNoViolations(){
+        Map<String, Object> constraints = new HashMap();
+        constraints.put(Field.CONSTRAINT_KEY_REQUIRED, true);
+        constraints.put(Field.CONSTRAINT_KEY_MAX_LENGTH, 10);
+        constraints.put(Field.CONSTRAINT_KEY_PATTERN, "[a-z]+");
+        constraints.put(Field.CONSTRAINT_KEY_ENUM, Arrays.asList("one", "Two"));
+
+        StringField field = new StringField("test", null, null, null, null, constraints, null);
+
+        // no Map gets allocated for valid values
+        Assert.assertSame(field.checkConstraintViolations("one"), field.checkConstraintViolations("two"));
+        Assert.assertTrue(field.checkConstraintViolations("two").isEmpty());
+        Map<String, Object> violatedConstraints = field.checkConstraintViolations("three");
+        Assert.assertEquals(1, violatedConstraints.size());
+        Assert.assertTrue(violatedConstraints.containsKey(Field.CONSTRAINT_KEY_ENUM));
+        violatedConstraints = field.checkConstraintViolations(null);
+        Assert.assertEquals(1, violatedConstraints.size());
+        Assert.assertTrue(violatedConstraints.containsKey(Field.CONSTRAINT_KEY_REQUIRED));
     }
 
     @Test
@@ -658,6 +695,34 @@ public class FieldConstraintsTest {
         Assert.assertTrue(violatedConstraints.containsKey(Field.CONSTRAINT_KEY_ENUM));
     }
     
+    @Test
+    public void testConstraintsChangedAfterCast() throws Exception{
+        Map<String, Object> constraints = new HashMap();
+        constraints.put(Field.CONSTRAINT_KEY_MAXIMUM, 10);
+        IntegerField field = new IntegerField("test", null, null, null, null, constraints, null);
+        Assert.assertEquals(BigInteger.valueOf(5), field.castValue("5"));
+
+        Map<String, Object> changed = new HashMap<>();
+        changed.put(Field.CONSTRAINT_KEY_MAXIMUM, 3);
+        field.setConstraints(changed);
+        Assert.assertTrue(field.checkConstraintViolations(5L).containsKey(Field.CONSTRAINT_KEY_MAXIMUM));
+        exception.expect(ConstraintsException.class);
+        field.castValue("5");
+    }
+
+    @Test
+    public void testEnumChangedAfterCheck(){
+        Map<String, Object> constraints = new HashMap();
+        List<String> enumStrings = new ArrayList<>(Arrays.asList("one", "two"));
+        constraints.put(Field.CONSTRAINT_KEY_ENUM, enumStrings);
+        StringField field = new StringField("test", null, null, null, null, constraints, null);
+        Assert.assertTrue(field.checkConstraintViolations("three").containsKey(Field.CONSTRAINT_KEY_ENUM));
+
+        enumStrings.add("three");
+        field.validate();
+        Assert.assertTrue(field.checkConstraintViolations("three").isEmpty());
+    }
+
     private JsonNode createJsonNode(Object obj) {
     	return JsonUtil.getInstance().createNode(obj);
     }
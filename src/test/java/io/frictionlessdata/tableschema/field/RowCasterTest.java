@@ -0,0 +1,77 @@
+package io.frictionlessdata.tableschema.field;
+
+import io.frictionlessdata.tableschema.exception.ConstraintsException;
+import io.frictionlessdata.tableschema.exception.InvalidCastException;
+import io.frictionlessdata.tableschema.schema.Schema;
+import io.frictionlessdata.tableschema.util.CharSlice;
+import io.frictionlessdata.tableschema.validation.ValidationContext;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+class RowCasterTest {
+
+    @Test
+    @DisplayName("Rows are cast like casting every value on its own")
+    void testCastLikeCastValue() throws Exception {
+        Schema schema = Schema.builder()
+                .addField(new IntegerField("id"))
+                .addField(new StringField("name"))
+                .addField(new DateField("born"))
+                .addField(new BooleanField("active"))
+                .missingValues(Collections.singletonList(""))
+                .build();
+        RowCaster caster = RowCaster.compile(schema.getFields(), true, new ValidationContext());
+
+        CharSequence[] row = new CharSequence[]{"true", "1974-05-02", "Maria", "12"};
+        Object[] castRow = caster.cast(row, new int[]{3, 2, 1, 0}, new Object[4]);
+        Assertions.assertArrayEquals(new Object[]{BigInteger.valueOf(12), "Maria", LocalDate.of(1974, 5, 2), true},
+                castRow);
+        for (int i = 0; i < 4; i++) {
+            Field field = schema.getFields().get(i);
+            Assertions.assertEquals(field.castValue((String) row[3 - i]), castRow[i]);
+        }
+
+        // views into a buffer, missing values and columns missing from the data
+        CharSlice slice = new CharSlice();
+        slice.set("x12".toCharArray(), 1, 2);
+        castRow = caster.cast(new CharSequence[]{slice, ""}, new int[]{0, 1, -1, -1}, new Object[4]);
+        Assertions.assertArrayEquals(new Object[]{BigInteger.valueOf(12), null, null, null}, castRow);
+
+        Assertions.assertThrows(InvalidCastException.class,
+                () -> caster.cast(new CharSequence[]{"x", "a", "", ""}, new int[]{0, 1, 2, 3}, new Object[4]));
+    }
+
+    @Test
+    @DisplayName("Constraints are checked across rows of one context")
+    void testConstraints() throws Exception {
+        Map<String, Object> constraints = new HashMap<>();
+        constraints.put(Field.CONSTRAINT_KEY_UNIQUE, true);
+        constraints.put(Field.CONSTRAINT_KEY_MAXIMUM, 100);
+        Schema schema = Schema.builder()
+                .addField(new IntegerField("id", Field.FIELD_FORMAT_DEFAULT, null, null, null, constraints, null))
+                .build();
+        int[] mapping = new int[]{0};
+
+        RowCaster caster = RowCaster.compile(schema.getFields(), true, new ValidationContext());
+        caster.cast(new CharSequence[]{"1"}, mapping, new Object[1]);
+        caster.cast(new CharSequence[]{"2"}, mapping, new Object[1]);
+        Assertions.assertThrows(ConstraintsException.class,
+                () -> caster.cast(new CharSequence[]{"1"}, mapping, new Object[1]));
+        Assertions.assertThrows(ConstraintsException.class,
+                () -> caster.cast(new CharSequence[]{"101"}, mapping, new Object[1]));
+
+        // a new context starts over, and constraints can be switched off
+        RowCaster other = RowCaster.compile(schema.getFields(), true, new ValidationContext());
+        other.cast(new CharSequence[]{"1"}, mapping, new Object[1]);
+        RowCaster unchecked = RowCaster.compile(schema.getFields(), false, new ValidationContext());
+        Assertions.assertEquals(BigInteger.valueOf(101),
+                unchecked.cast(new CharSequence[]{"101"}, mapping, new Object[1])[0]);
+    }
+}
@@ -0,0 +1,126 @@
+package io.frictionlessdata.tableschema.io;
+
+import io.frictionlessdata.tableschema.Table;
+import io.frictionlessdata.tableschema.TestHttpServer;
+import io.frictionlessdata.tableschema.datasourceformat.DataSourceFormat;
+import io.frictionlessdata.tableschema.schema.Schema;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Random;
+
+import static io.frictionlessdata.tableschema.TestHelper.getTestDataDirectory;
+import static io.frictionlessdata.tableschema.TestHttpServer.read;
+
+class RangeDownloaderTest {
+    private static final String ETAG = "\"v1\"";
+
+    private TestHttpServer server;
+
+    @BeforeEach
+    void startServer() throws IOException {
+        server = new TestHttpServer();
+    }
+
+    @AfterEach
+    void stopServer() {
+        server.close();
+    }
+
+    private static byte[] randomBytes(int length) {
+        byte[] bytes = new byte[length];
+        new Random(42).nextBytes(bytes);
+        return bytes;
+    }
+
+    @Test
+    @DisplayName("Download a resource as parallel byte ranges")
+    void testRangeDownload() throws Exception {
+        byte[] body = randomBytes(100_000);
+        server.put("/data.bin", body, ETAG);
+        RangeDownloader downloader = new RangeDownloader(4, 8192, 3);
+        Assertions.assertArrayEquals(body, read(downloader.open(server.url("/data.bin"))));
+        // ceil(100000 / 8192) chunks
+        Assertions.assertEquals(13, server.getRangeRequests());
+        Assertions.assertEquals(0, server.getDownloads());
+
+        // a resource smaller than one chunk
+        byte[] small = "a,b\n1,2".getBytes(StandardCharsets.UTF_8);
+        server.put("/small.csv", small, ETAG);
+        Assertions.assertArrayEquals(small, read(downloader.open(server.url("/small.csv"))));
+    }
+
+    @Test
+    @DisplayName("Fall back to one request if the server doesn't support ranges")
+    void testFallback() throws Exception {
+        byte[] body = randomBytes(50_000);
+        server.put("/data.bin", body, ETAG);
+        server.setRangesSupported(false);
+        Path target = Files.createTempFile("range-test", ".bin");
+        try {
+            new RangeDownloader(4, 8192, 3).download(server.url("/data.bin"), target);
+            Assertions.assertArrayEquals(body, Files.readAllBytes(target));
+            Assertions.assertEquals(1, server.getDownloads());
+            Assertions.assertEquals(0, server.getRangeRequests());
+        } finally {
+            Files.deleteIfExists(target);
+        }
+    }
+
+    @Test
+    @DisplayName("Download an empty resource the server can't serve ranges of")
+    void testEmpty() throws Exception {
+        server.put("/empty.csv", new byte[0], ETAG);
+        Assertions.assertArrayEquals(new byte[0],
+                read(new RangeDownloader(4, 8192, 0).open(server.url("/empty.csv"))));
+        Assertions.assertEquals(1, server.getRangeRequests());
+        Assertions.assertEquals(1, server.getDownloads());
+    }
+
+    @Test
+    @DisplayName("A chunk that breaks off is requested again")
+    void testRetry() throws Exception {
+        byte[] body = randomBytes(40_000);
+        server.put("/data.bin", body, ETAG);
+        server.failRangeOnce(16384, 0);
+        RangeDownloader downloader = new RangeDownloader(2, 8192, 3);
+        Assertions.assertArrayEquals(body, read(downloader.open(server.url("/data.bin"))));
+        Assertions.assertTrue(server.hasFailed());
+        Assertions.assertEquals(6, server.getRangeRequests());
+
+        Assertions.assertThrows(IOException.class, () -> downloader.open(server.url("/missing")).close());
+    }
+
+    @Test
+    @DisplayName("A chunk answered with a server error is requested again")
+    void testRetryServerError() throws Exception {
+        byte[] body = randomBytes(40_000);
+        server.put("/data.bin", body, ETAG);
+        server.failRangeOnce(16384, 503);
+        Assertions.assertArrayEquals(body, read(new RangeDownloader(2, 8192, 3).open(server.url("/data.bin"))));
+        Assertions.assertTrue(server.hasFailed());
+        Assertions.assertEquals(6, server.getRangeRequests());
+    }
+
+    @Test
+    @DisplayName("Create a Table from a downloaded URL")
+    void testTable() throws Exception {
+        File testDataDir = getTestDataDirectory();
+        server.put("/population.csv", Files.readAllBytes(new File(testDataDir, "data/population.csv").toPath()), ETAG);
+        Schema schema = Schema.fromJson(new File(testDataDir, "schema/population_schema.json"), true);
+        Table table = Table.fromSourceDownloaded(server.url("/population.csv"), schema,
+                DataSourceFormat.getDefaultCsvFormat(), new RangeDownloader(2, 16, 1));
+        Assertions.assertTrue(server.getRangeRequests() > 1);
+        Assertions.assertEquals(3, table.read().size());
+        Assertions.assertEquals(Arrays.asList("city", "year", "population"), Arrays.asList(table.getHeaders()));
+    }
+}
@@ -0,0 +1,128 @@
+package io.frictionlessdata.tableschema.io;
+
+import io.frictionlessdata.tableschema.Table;
+import io.frictionlessdata.tableschema.TestHttpServer;
+import io.frictionlessdata.tableschema.datasourceformat.DataSourceFormat;
+import io.frictionlessdata.tableschema.schema.Schema;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static io.frictionlessdata.tableschema.TestHelper.getTestDataDirectory;
+import static io.frictionlessdata.tableschema.TestHttpServer.readString;
+
+class RemoteCacheTest {
+    private static final String POPULATION = "city,year,population\nlondon,2017,8780000\n"
+            + "paris,2017,2240000\nrome,2017,2860000";
+
+    private TestHttpServer server;
+    private RemoteCache cache;
+
+    @BeforeEach
+    void startServer() throws IOException {
+        server = new TestHttpServer();
+        cache = new RemoteCache(1000);
+    }
+
+    @AfterEach
+    void stopServer() {
+        server.close();
+        cache.close();
+    }
+
+    @Test
+    @DisplayName("Unchanged data is read from the local copy, changed data is downloaded again")
+    void testRevalidation() throws Exception {
+        server.put("/data.csv", "a,b\n1,2", "\"v1\"");
+        URL url = server.url("/data.csv");
+
+        Assertions.assertEquals("a,b\n1,2", readString(cache.open(url)));
+        Assertions.assertTrue(cache.contains(url));
+        Assertions.assertEquals("a,b\n1,2", readString(cache.open(url)));
+        Assertions.assertEquals(1, server.getDownloads());
+        Assertions.assertEquals(1, server.getNotModified());
+
+        server.put("/data.csv", "a,b\n3,4", "\"v2\"");
+        Assertions.assertEquals("a,b\n3,4", readString(cache.open(url)));
+        Assertions.assertEquals(2, server.getDownloads());
+        Assertions.assertEquals(7, cache.getSizeInBytes());
+
+        // without validators, the copy is used as it is
+        server.put("/plain.csv", "x", null);
+        readString(cache.open(server.url("/plain.csv")));
+        readString(cache.open(server.url("/plain.csv")));
+        Assertions.assertEquals(3, server.getDownloads());
+
+        Assertions.assertThrows(IOException.class, () -> cache.open(server.url("/missing.csv")));
+    }
+
+    @Test
+    @DisplayName("Threads downloading the same URL at once all read the data")
+    void testConcurrentDownloads() throws Exception {
+        server.put("/data.csv", POPULATION, null);
+        URL url = server.url("/data.csv");
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<String>> reads = new ArrayList<>();
+            for (int i = 0; i < 32; i++) {
+                reads.add(executor.submit(() -> readString(cache.open(url))));
+            }
+            for (Future<String> read : reads) {
+                Assertions.assertEquals(POPULATION, read.get(30, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("The least recently used copies are evicted")
+    void testEviction() throws Exception {
+        String body = new String(new char[400]).replace('\0', 'x');
+        for (String path : new String[]{"/1", "/2", "/3"}) {
+            server.put(path, body, "\"" + path + "\"");
+        }
+        readString(cache.open(server.url("/1")));
+        readString(cache.open(server.url("/2")));
+        readString(cache.open(server.url("/1")));
+        readString(cache.open(server.url("/3")));
+        Assertions.assertTrue(cache.contains(server.url("/1")));
+        Assertions.assertFalse(cache.contains(server.url("/2")));
+        Assertions.assertTrue(cache.contains(server.url("/3")));
+        Assertions.assertEquals(800, cache.getSizeInBytes());
+
+        cache.clear();
+        Assertions.assertEquals(0, cache.getSizeInBytes());
+        Assertions.assertFalse(cache.contains(server.url("/1")));
+    }
+
+    @Test
+    @DisplayName("Passes over a Table download the data once")
+    void testTableReadsOnce() throws Exception {
+        server.put("/population.csv", POPULATION, "\"p\"");
+        File testDataDir = getTestDataDirectory();
+        Schema schema = Schema.fromJson(new File(testDataDir, "schema/population_schema.json"), true);
+
+        Table table = Table.fromSource(server.url("/population.csv"), schema, DataSourceFormat.getDefaultCsvFormat(), cache);
+        Assertions.assertEquals(3, table.read().size());
+        Assertions.assertTrue(table.validate(null).isValid());
+        Assertions.assertEquals(3, table.read(false).size());
+        Assertions.assertEquals(1, server.getDownloads());
+
+        Table uncached = Table.fromSource(server.url("/population.csv"), schema, DataSourceFormat.getDefaultCsvFormat(), null);
+        Assertions.assertEquals(3, uncached.read().size());
+        Assertions.assertTrue(server.getDownloads() > 2);
+    }
+}
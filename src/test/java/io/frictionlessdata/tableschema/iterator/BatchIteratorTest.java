@@ -0,0 +1,116 @@
+package io.frictionlessdata.tableschema.iterator;
+
+import io.frictionlessdata.tableschema.Table;
+import io.frictionlessdata.tableschema.datasourceformat.DataSourceFormat;
+import io.frictionlessdata.tableschema.exception.TableSchemaException;
+import io.frictionlessdata.tableschema.field.BooleanField;
+import io.frictionlessdata.tableschema.field.DateField;
+import io.frictionlessdata.tableschema.field.IntegerField;
+import io.frictionlessdata.tableschema.field.NumberField;
+import io.frictionlessdata.tableschema.schema.Schema;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.math.BigInteger;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+
+import static io.frictionlessdata.tableschema.TestHelper.getTestDataDirectory;
+
+class BatchIteratorTest {
+
+    @Test
+    @DisplayName("Batches hold the same values as the rows")
+    void testBatchesLikeRows() throws Exception {
+        File testDataDir = getTestDataDirectory();
+        Schema schema = Schema.fromJson(new File(testDataDir, "schema/employee_schema.json"), true);
+        Table table = Table.fromSource(new File("data/employee_data.csv"), testDataDir, schema,
+                DataSourceFormat.getDefaultCsvFormat());
+        List<Object[]> rows = table.read();
+
+        Iterator<ColumnBatch> iter = table.batchIterator(2);
+        List<ColumnBatch> batches = new ArrayList<>();
+        iter.forEachRemaining(batches::add);
+        Assertions.assertEquals(2, batches.size());
+        Assertions.assertEquals(2, batches.get(0).getRowCount());
+        Assertions.assertEquals(1, batches.get(1).getRowCount());
+
+        int row = 0;
+        for (ColumnBatch batch : batches) {
+            Assertions.assertEquals(7, batch.getColumnCount());
+            Assertions.assertEquals("id", batch.getName(0));
+            Assertions.assertEquals(ColumnBatch.VectorType.LONG, batch.getType(0));
+            Assertions.assertEquals(ColumnBatch.VectorType.STRING, batch.getType(1));
+            Assertions.assertEquals(ColumnBatch.VectorType.EPOCH_DAY, batch.getType(2));
+            Assertions.assertEquals(ColumnBatch.VectorType.BOOLEAN, batch.getType(3));
+            Assertions.assertEquals(ColumnBatch.VectorType.OBJECT, batch.getType(4));
+            for (int r = 0; r < batch.getRowCount(); r++, row++) {
+                Object[] expected = rows.get(row);
+                Assertions.assertEquals(expected[0], BigInteger.valueOf(batch.getLongs(0)[r]));
+                Assertions.assertEquals(expected[1], batch.getStrings(1)[r]);
+                Assertions.assertEquals(expected[2], LocalDate.ofEpochDay(batch.getEpochDays(2)[r]));
+                Assertions.assertEquals(expected[3], batch.getBooleans(3)[r]);
+                Assertions.assertArrayEquals((double[]) expected[4], (double[]) batch.getObjects(4)[r]);
+                Assertions.assertEquals(expected[5], batch.getObjects(5)[r]);
+                Assertions.assertEquals(expected[6], batch.getObjects(6)[r]);
+            }
+        }
+        Assertions.assertEquals(rows.size(), row);
+        Assertions.assertThrows(IllegalStateException.class, () -> batches.get(0).getDoubles(0));
+    }
+
+    @Test
+    @DisplayName("Integers that don't fit into a long are kept as BigIntegers")
+    void testBigIntegerColumn() throws Exception {
+        File testDataDir = getTestDataDirectory();
+        Schema schema = Schema.fromJson(new File(testDataDir, "schema/number_types_schema.json"), true);
+        Table table = Table.fromSource(new File("data/number_types.csv"), testDataDir, schema,
+                DataSourceFormat.getDefaultCsvFormat());
+
+        ColumnBatch batch = table.batchIterator(100).next();
+        Assertions.assertEquals(23143245L, batch.getLongs(0)[0]);
+        Assertions.assertEquals(345234552345.2345, batch.getDoubles(7)[0]);
+        Assertions.assertEquals(ColumnBatch.VectorType.OBJECT, batch.getType(10));
+        Assertions.assertEquals(new BigInteger("23459734123456676123981234"), batch.getObjects(10)[0]);
+    }
+
+    @Test
+    @DisplayName("Null values are flagged per column")
+    void testNulls() throws Exception {
+        Schema schema = Schema.builder()
+                .addField(new IntegerField("id"))
+                .addField(new NumberField("amount"))
+                .addField(new DateField("day"))
+                .addField(new BooleanField("flag"))
+                .missingValues(Collections.singletonList(""))
+                .build();
+        Table table = Table.fromSource("id,amount,day,flag\n1,,2020-01-01,\n,2.5,,true\n3,1,2020-01-03,false",
+                schema, DataSourceFormat.getDefaultCsvFormat());
+
+        ColumnBatch batch = table.batchIterator(10).next();
+        Assertions.assertEquals(3, batch.getRowCount());
+        Assertions.assertArrayEquals(new long[]{1, 0, 3}, batch.getLongs(0));
+        Assertions.assertTrue(batch.isNull(0, 1));
+        Assertions.assertEquals(1, batch.getNulls(0).cardinality());
+        Assertions.assertArrayEquals(new double[]{0, 2.5, 1}, batch.getDoubles(1));
+        Assertions.assertTrue(batch.isNull(1, 0));
+        Assertions.assertTrue(batch.isNull(2, 1));
+        Assertions.assertFalse(batch.isNull(2, 2));
+        Assertions.assertEquals(LocalDate.of(2020, 1, 3).toEpochDay(), batch.getEpochDays(2)[2]);
+        Assertions.assertTrue(batch.isNull(3, 0));
+        Assertions.assertArrayEquals(new boolean[]{false, true, false}, batch.getBooleans(3));
+    }
+
+    @Test
+    @DisplayName("Batches need a Schema and a positive size")
+    void testNoSchema() throws Exception {
+        Table table = Table.fromSource("id,name\n1,a");
+        Assertions.assertThrows(TableSchemaException.class, () -> table.batchIterator(10));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> table.batchIterator(0));
+    }
+}
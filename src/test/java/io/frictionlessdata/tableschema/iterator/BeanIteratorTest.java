@@ -0,0 +1,74 @@
+package io.frictionlessdata.tableschema.iterator;
+
+import io.frictionlessdata.tableschema.Table;
+import io.frictionlessdata.tableschema.beans.GrossDomesticProductBean;
+import io.frictionlessdata.tableschema.beans.NumbersBean;
+import io.frictionlessdata.tableschema.datasourceformat.DataSourceFormat;
+import io.frictionlessdata.tableschema.exception.TableSchemaException;
+import io.frictionlessdata.tableschema.schema.Schema;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Iterator;
+
+import static io.frictionlessdata.tableschema.TestHelper.getTestDataDirectory;
+
+class BeanIteratorTest {
+
+    @Test
+    @DisplayName("Read rows into beans with annotated fields")
+    void testReadGdpBeans() throws Exception {
+        File testDataDir = getTestDataDirectory();
+        Schema schema = Schema.fromJson(new File(testDataDir, "schema/gdp_schema.json"), true);
+        Table table = Table.fromSource(new File("data/gdp.csv"), testDataDir, schema,
+                DataSourceFormat.getDefaultCsvFormat());
+
+        Iterator<GrossDomesticProductBean> iter = table.iterator(GrossDomesticProductBean.class);
+        Assertions.assertEquals("GrossDomesticProductBean{countryName='Arab World', countryCode='ARB', " +
+                "year=1968, amount=25760683041.0857}", iter.next().toString());
+        int count = 1;
+        while (iter.hasNext()) {
+            Assertions.assertNotNull(iter.next());
+            count++;
+        }
+        Assertions.assertEquals(table.read().size(), count);
+    }
+
+    @Test
+    @DisplayName("Read rows into beans with setters, converting numbers")
+    void testReadNumbersBeans() throws Exception {
+        File testDataDir = getTestDataDirectory();
+        Schema schema = Schema.fromJson(new File(testDataDir, "schema/number_types_schema.json"), true);
+        Table table = Table.fromSource(new File("data/number_types.csv"), testDataDir, schema,
+                DataSourceFormat.getDefaultCsvFormat());
+
+        NumbersBean bean = table.iterator(NumbersBean.class).next();
+        Assertions.assertEquals(Integer.valueOf(23143245), bean.getId());
+        Assertions.assertEquals(126, bean.getByteVal());
+        Assertions.assertEquals(234, bean.getShortVal());
+        Assertions.assertEquals(234534, bean.getIntVal());
+        Assertions.assertEquals(Long.valueOf(908347392304952L), bean.getLongClassVal());
+        Assertions.assertEquals(893479850249L, bean.getLongVal());
+        Assertions.assertEquals(3245.1234f, bean.getFloatVal());
+        Assertions.assertEquals(345234552345.2345, bean.getDoubleVal());
+        Assertions.assertEquals(2.34566246E9f, bean.getFloatClassVal());
+        Assertions.assertEquals(3.4567347437347346E+23, bean.getDoubleClassVal());
+        Assertions.assertEquals(new BigInteger("23459734123456676123981234"), bean.getBigIntVal());
+        Assertions.assertEquals(new BigDecimal("3542352304245234542345345423453.02345234"), bean.getBigDecimalVal());
+        Assertions.assertEquals(2345123, bean.getAtomicIntegerVal().get());
+        Assertions.assertEquals(234597341234502345L, bean.getAtomicLongVal().get());
+        Assertions.assertEquals(3453254.34, bean.getAtomicDoubleVal().get());
+    }
+
+    @Test
+    @DisplayName("Creating beans needs a Schema")
+    void testReadBeansWithoutSchema() throws Exception {
+        Table table = Table.fromSource(new File("data/gdp.csv"), getTestDataDirectory());
+        Assertions.assertThrows(TableSchemaException.class,
+                () -> table.iterator(GrossDomesticProductBean.class));
+    }
+}
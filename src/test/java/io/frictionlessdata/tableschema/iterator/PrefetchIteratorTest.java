@@ -0,0 +1,196 @@
+package io.frictionlessdata.tableschema.iterator;
+
+import io.frictionlessdata.tableschema.Table;
+import io.frictionlessdata.tableschema.datasourceformat.DataSourceFormat;
+import io.frictionlessdata.tableschema.exception.TableSchemaException;
+import io.frictionlessdata.tableschema.schema.Schema;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static io.frictionlessdata.tableschema.TestHelper.getTestDataDirectory;
+
+class PrefetchIteratorTest {
+
+    @Test
+    @DisplayName("Rows are returned in order across batches")
+    void testRowsInOrder() {
+        PrefetchIterator iter = new PrefetchIterator(() -> rows(10, new AtomicInteger()), 2, 3);
+        for (int i = 0; i < 10; i++) {
+            Assertions.assertTrue(iter.hasNext());
+            Assertions.assertEquals(String.valueOf(i), iter.next()[0]);
+        }
+        Assertions.assertFalse(iter.hasNext());
+        Assertions.assertThrows(NoSuchElementException.class, iter::next);
+    }
+
+    @Test
+    @DisplayName("The producer reads no further ahead than the queue holds")
+    void testBackpressure() throws Exception {
+        AtomicInteger read = new AtomicInteger();
+        PrefetchIterator iter = new PrefetchIterator(() -> rows(1000, read), 2, 5);
+        // two batches queued and one waiting to be queued
+        Assertions.assertEquals(15, awaitSettled(read, 15));
+        iter.next();
+        iter.close();
+        Assertions.assertFalse(iter.hasNext());
+        Assertions.assertTrue(read.get() < 1000);
+    }
+
+    @Test
+    @DisplayName("Errors reading the source are thrown after the rows before them")
+    void testErrorPropagation() {
+        PrefetchIterator iter = new PrefetchIterator(() -> new Iterator<String[]>() {
+            int i = 0;
+
+            @Override
+            public boolean hasNext() {
+                return true;
+            }
+
+            @Override
+            public String[] next() {
+                if (i == 4) {
+                    throw new IllegalStateException("broken");
+                }
+                return new String[]{String.valueOf(i++)};
+            }
+        }, 1, 3);
+        for (int i = 0; i < 3; i++) {
+            Assertions.assertEquals(String.valueOf(i), iter.next()[0]);
+        }
+        IllegalStateException ex = Assertions.assertThrows(IllegalStateException.class, iter::hasNext);
+        Assertions.assertEquals("broken", ex.getMessage());
+        Assertions.assertFalse(iter.hasNext());
+
+        PrefetchIterator unopened = new PrefetchIterator(() -> {
+            throw new IOException("no data");
+        }, 1, 3);
+        Assertions.assertThrows(TableSchemaException.class, unopened::hasNext);
+    }
+
+    @Test
+    @DisplayName("The source is closed at the end, on errors and when closing early")
+    void testSourceClosed() throws Exception {
+        CountDownLatch endClosed = new CountDownLatch(1);
+        PrefetchIterator iter = new PrefetchIterator(
+                () -> closeable(rows(10, new AtomicInteger()), endClosed), 2, 3);
+        iter.forEachRemaining((row) -> { });
+        Assertions.assertTrue(endClosed.await(10, TimeUnit.SECONDS));
+
+        CountDownLatch earlyClosed = new CountDownLatch(1);
+        PrefetchIterator early = new PrefetchIterator(
+                () -> closeable(rows(1000, new AtomicInteger()), earlyClosed), 1, 5);
+        early.next();
+        early.close();
+        Assertions.assertTrue(earlyClosed.await(10, TimeUnit.SECONDS));
+
+        CountDownLatch errorClosed = new CountDownLatch(1);
+        PrefetchIterator failing = new PrefetchIterator(() -> closeable(new Iterator<String[]>() {
+            @Override
+            public boolean hasNext() {
+                return true;
+            }
+
+            @Override
+            public String[] next() {
+                throw new IllegalStateException("broken");
+            }
+        }, errorClosed), 1, 3);
+        Assertions.assertThrows(IllegalStateException.class, failing::hasNext);
+        Assertions.assertTrue(errorClosed.await(10, TimeUnit.SECONDS));
+    }
+
+    @Test
+    @DisplayName("Reading ahead returns the same rows as reading on the iterating thread")
+    void testTablePrefetch() throws Exception {
+        File testDataDir = getTestDataDirectory();
+        Schema schema = Schema.fromJson(new File(testDataDir, "schema/gdp_schema.json"), true);
+        Table table = Table.fromSource(new File("data/gdp.csv"), testDataDir, schema,
+                DataSourceFormat.getDefaultCsvFormat());
+        List<Object[]> expected = table.read();
+
+        table.setPrefetchDepth(2);
+        List<Object[]> rows = table.read();
+        Assertions.assertEquals(expected.size(), rows.size());
+        for (int i = 0; i < rows.size(); i++) {
+            Assertions.assertArrayEquals(expected.get(i), rows.get(i));
+        }
+        List<String[]> strings = new ArrayList<>();
+        table.stringArrayIterator().forEachRemaining(strings::add);
+        Assertions.assertEquals(expected.size(), strings.size());
+
+        try (TableIterator<Object[]> iter = new TableIterator<>(table)) {
+            Assertions.assertArrayEquals(expected.get(0), iter.next());
+        }
+        Assertions.assertThrows(IllegalArgumentException.class, () -> table.setPrefetchDepth(-1));
+    }
+
+    private static Iterator<String[]> closeable(Iterator<String[]> rows, CountDownLatch closed) {
+        return new CloseableRows(rows, closed);
+    }
+
+    private static final class CloseableRows implements Iterator<String[]>, Closeable {
+        private final Iterator<String[]> rows;
+        private final CountDownLatch closed;
+
+        private CloseableRows(Iterator<String[]> rows, CountDownLatch closed) {
+            this.rows = rows;
+            this.closed = closed;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return rows.hasNext();
+        }
+
+        @Override
+        public String[] next() {
+            return rows.next();
+        }
+
+        @Override
+        public void close() {
+            closed.countDown();
+        }
+    }
+
+    // waits until `count` has reached `expected` and then stopped rising, or 10 seconds have passed
+    private static int awaitSettled(AtomicInteger count, int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        int last = -1;
+        int stablePolls = 0;
+        while ((stablePolls < 5) && (System.nanoTime() < deadline)) {
+            Thread.sleep(20);
+            int current = count.get();
+            stablePolls = ((current == last) && (current >= expected)) ? stablePolls + 1 : 0;
+            last = current;
+        }
+        return count.get();
+    }
+
+    private static Iterator<String[]> rows(int count, AtomicInteger read) {
+        return new Iterator<String[]>() {
+            @Override
+            public boolean hasNext() {
+                return read.get() < count;
+            }
+
+            @Override
+            public String[] next() {
+                return new String[]{String.valueOf(read.getAndIncrement())};
+            }
+        };
+    }
+}
@@ -11,6 +11,8 @@ import org.junit.jupiter.api.Test;
 import java.io.File;
 import java.io.FileInputStream;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -220,6 +222,43 @@ class TableIteratorTest {
         }
     }
 
+    @Test
+    void testKeyedRowsReadThroughAndCopyOnWrite() throws Exception{
+        Iterator<Map<String, Object>> iter = validPopulationTable.keyedIterator();
+        Map<String, Object> london = iter.next();
+        Map<String, Object> paris = iter.next();
+
+        Map<String, Object> expected = new HashMap<>();
+        expected.put("city", "london");
+        expected.put("year", java.time.Year.of(2017));
+        expected.put("population", java.math.BigInteger.valueOf(8780000));
+        Assertions.assertEquals(expected, london);
+        Assertions.assertEquals(london, expected);
+        Assertions.assertEquals(expected.hashCode(), london.hashCode());
+        Assertions.assertEquals(Arrays.asList("city", "year", "population"), new ArrayList<>(london.keySet()));
+        Assertions.assertFalse(london.containsKey("country"));
+
+        london.put("country", "UK");
+        london.remove("year");
+        Assertions.assertEquals("UK", london.get("country"));
+        Assertions.assertFalse(london.containsKey("year"));
+        Assertions.assertEquals("paris", paris.get("city"));
+        Assertions.assertTrue(paris.containsKey("year"));
+        Assertions.assertFalse(paris.containsKey("country"));
+    }
+
+    @Test
+    void testKeyedRowsWithoutSchema() throws Exception{
+        Table table = Table.fromSource(new File("data/population.csv"), getTestDataDirectory(), null,
+                DataSourceFormat.getDefaultCsvFormat());
+        Iterator<Map<String, Object>> iter = table.keyedIterator();
+        Map<String, Object> expected = new HashMap<>();
+        expected.put("city", "london");
+        expected.put("year", "2017");
+        expected.put("population", "8780000");
+        Assertions.assertEquals(expected, iter.next());
+    }
+
     private List<String[]> getExpectedAlternatePopulationData(){
         List<String[]> expectedData  = new ArrayList<>();
         expectedData.add(new String[]{"2017", "london", "8780000"});
@@ -0,0 +1,202 @@
+package io.frictionlessdata.tableschema.iterator;
+
+import io.frictionlessdata.tableschema.Table;
+import io.frictionlessdata.tableschema.datasourceformat.DataSourceFormat;
+import io.frictionlessdata.tableschema.exception.TableSchemaException;
+import io.frictionlessdata.tableschema.schema.Schema;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static io.frictionlessdata.tableschema.TestHelper.getTestDataDirectory;
+
+class TablePublisherTest {
+
+    @Test
+    @DisplayName("Rows are emitted as requested")
+    void testDemand() throws Exception {
+        Table table = gdpTable();
+        List<Object[]> expected = table.read();
+
+        RecordingSubscriber<Object[]> subscriber = new RecordingSubscriber<>();
+        table.publisher(Runnable::run).subscribe(subscriber);
+        Assertions.assertTrue(subscriber.items.isEmpty());
+
+        subscriber.subscription.request(2);
+        Assertions.assertEquals(2, subscriber.items.size());
+        subscriber.subscription.request(3);
+        Assertions.assertEquals(5, subscriber.items.size());
+        Assertions.assertFalse(subscriber.completed);
+
+        subscriber.subscription.request(Long.MAX_VALUE);
+        Assertions.assertTrue(subscriber.completed);
+        Assertions.assertNull(subscriber.error);
+        Assertions.assertEquals(expected.size(), subscriber.items.size());
+        for (int i = 0; i < expected.size(); i++) {
+            Assertions.assertArrayEquals(expected.get(i), subscriber.items.get(i));
+        }
+    }
+
+    @Test
+    @DisplayName("Cancelling stops the rows and closes the iteration")
+    void testCancel() throws Exception {
+        Table table = gdpTable();
+        AtomicBoolean closed = new AtomicBoolean();
+        TablePublisher<Object[]> publisher = new TablePublisher<>(() -> new TableIterator<Object[]>(table) {
+            @Override
+            public void close() {
+                closed.set(true);
+                super.close();
+            }
+        }, Runnable::run);
+
+        RecordingSubscriber<Object[]> subscriber = new RecordingSubscriber<Object[]>() {
+            @Override
+            public void onNext(Object[] item) {
+                super.onNext(item);
+                if (items.size() == 3) {
+                    subscription.cancel();
+                }
+            }
+        };
+        publisher.subscribe(subscriber);
+        subscriber.subscription.request(10);
+        Assertions.assertEquals(3, subscriber.items.size());
+        Assertions.assertTrue(closed.get());
+        subscriber.subscription.request(10);
+        Assertions.assertEquals(3, subscriber.items.size());
+        Assertions.assertFalse(subscriber.completed);
+        Assertions.assertNull(subscriber.error);
+    }
+
+    @Test
+    @DisplayName("Errors are signalled to the subscriber")
+    void testErrors() throws Exception {
+        RecordingSubscriber<Object[]> subscriber = new RecordingSubscriber<>();
+        gdpTable().publisher(Runnable::run).subscribe(subscriber);
+        subscriber.subscription.request(0);
+        Assertions.assertTrue(subscriber.error instanceof IllegalArgumentException);
+
+        RecordingSubscriber<ColumnBatch> batchSubscriber = new RecordingSubscriber<>();
+        Table.fromSource("id,name\n1,a").batchPublisher(10, Runnable::run).subscribe(batchSubscriber);
+        batchSubscriber.subscription.request(1);
+        Assertions.assertTrue(batchSubscriber.error instanceof TableSchemaException);
+        Assertions.assertTrue(batchSubscriber.items.isEmpty());
+    }
+
+    @Test
+    @DisplayName("Many streams share a small pool")
+    void testConcurrentStreams() throws Exception {
+        Table table = gdpTable();
+        int rowCount = table.read().size();
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            int streams = 8;
+            CountDownLatch done = new CountDownLatch(streams);
+            List<RecordingSubscriber<ColumnBatch>> subscribers = new ArrayList<>();
+            for (int i = 0; i < streams; i++) {
+                RecordingSubscriber<ColumnBatch> subscriber = new RecordingSubscriber<ColumnBatch>() {
+                    @Override
+                    public void onNext(ColumnBatch item) {
+                        super.onNext(item);
+                        subscription.request(1);
+                    }
+
+                    @Override
+                    public void onComplete() {
+                        super.onComplete();
+                        done.countDown();
+                    }
+
+                    @Override
+                    public void onError(Throwable throwable) {
+                        super.onError(throwable);
+                        done.countDown();
+                    }
+                };
+                subscribers.add(subscriber);
+                table.batchPublisher(500, executor).subscribe(subscriber);
+                subscriber.subscription.request(1);
+            }
+            Assertions.assertTrue(done.await(60, TimeUnit.SECONDS));
+            for (RecordingSubscriber<ColumnBatch> subscriber : subscribers) {
+                Assertions.assertNull(subscriber.error);
+                Assertions.assertEquals(rowCount, subscriber.items.stream().mapToInt(ColumnBatch::getRowCount).sum());
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("Yielding on a direct Executor doesn't grow the stack")
+    void testDirectExecutorLargeTable() throws Exception {
+        int rowCount = TablePublisher.MAX_ROWS_PER_RUN * 4000;
+        StringBuilder csv = new StringBuilder("id\n");
+        for (int i = 0; i < rowCount; i++) {
+            csv.append(i).append('\n');
+        }
+        Table table = Table.fromSource(csv.toString());
+        AtomicInteger received = new AtomicInteger();
+        RecordingSubscriber<Object[]> subscriber = new RecordingSubscriber<Object[]>() {
+            @Override
+            public void onNext(Object[] item) {
+                received.incrementAndGet();
+            }
+        };
+        table.publisher(Runnable::run).subscribe(subscriber);
+        // a small stack, so nesting a frame per yield would overflow
+        Thread thread = new Thread(null, () -> subscriber.subscription.request(Long.MAX_VALUE),
+                "publisher-test", 256 * 1024);
+        thread.start();
+        thread.join(120_000);
+        Assertions.assertNull(subscriber.error);
+        Assertions.assertTrue(subscriber.completed);
+        Assertions.assertEquals(rowCount, received.get());
+    }
+
+    private static Table gdpTable() throws Exception {
+        File testDataDir = getTestDataDirectory();
+        Schema schema = Schema.fromJson(new File(testDataDir, "schema/gdp_schema.json"), true);
+        return Table.fromSource(new File("data/gdp.csv"), testDataDir, schema,
+                DataSourceFormat.getDefaultCsvFormat());
+    }
+
+    private static class RecordingSubscriber<T> implements TablePublisher.Subscriber<T> {
+        final List<T> items = Collections.synchronizedList(new ArrayList<>());
+        volatile TablePublisher.Subscription subscription;
+        volatile boolean completed = false;
+        volatile Throwable error = null;
+
+        @Override
+        public void onSubscribe(TablePublisher.Subscription subscription) {
+            this.subscription = subscription;
+        }
+
+        @Override
+        public void onNext(T item) {
+            items.add(item);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            error = throwable;
+        }
+
+        @Override
+        public void onComplete() {
+            completed = true;
+        }
+    }
+}
@@ -0,0 +1,153 @@
+package io.frictionlessdata.tableschema.schema;
+
+import io.frictionlessdata.tableschema.Table;
+import io.frictionlessdata.tableschema.TestHttpServer;
+import io.frictionlessdata.tableschema.datasourceformat.DataSourceFormat;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static io.frictionlessdata.tableschema.TestHelper.getTestDataDirectory;
+
+class SchemaRegistryTest {
+    private static final String SCHEMA_V1 = "{\"fields\": [{\"name\": \"city\", \"type\": \"string\"}]}";
+    private static final String SCHEMA_V2 = "{\"fields\": [{\"name\": \"city\", \"type\": \"string\"}, "
+            + "{\"name\": \"year\", \"type\": \"year\"}]}";
+
+    private TestHttpServer server;
+    private Path directory;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = new TestHttpServer();
+        directory = Files.createTempDirectory("schema-registry");
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        server.close();
+        for (File file : directory.toFile().listFiles()) {
+            Files.delete(file.toPath());
+        }
+        Files.delete(directory);
+    }
+
+    private File write(String name, String json) throws IOException {
+        return Files.write(directory.resolve(name), json.getBytes(StandardCharsets.UTF_8)).toFile();
+    }
+
+    @Test
+    @DisplayName("Schemas from files are cached frozen and read again when the file changes")
+    void testFile() throws Exception {
+        File file = write("schema.json", SCHEMA_V1);
+        SchemaRegistry registry = new SchemaRegistry();
+        Schema schema = registry.get(file, true);
+        Assertions.assertTrue(schema.isFrozen());
+        Assertions.assertEquals(1, schema.getFields().size());
+        Assertions.assertSame(schema, registry.get(file, true));
+        Assertions.assertNotSame(schema, registry.get(file, false));
+        Assertions.assertThrows(IllegalStateException.class, () -> schema.addField(SCHEMA_V1));
+
+        write("schema.json", SCHEMA_V2);
+        file.setLastModified(file.lastModified() + 2000);
+        // not checked before the interval has passed
+        Assertions.assertSame(schema, registry.get(file, true));
+        registry.setRevalidationInterval(0);
+        Schema changed = registry.get(file, true);
+        Assertions.assertEquals(2, changed.getFields().size());
+        Assertions.assertSame(changed, registry.get(file, true));
+
+        Assertions.assertThrows(FileNotFoundException.class,
+                () -> registry.get(new File(directory.toFile(), "missing.json"), true));
+        Assertions.assertEquals(2, registry.size());
+    }
+
+    @Test
+    @DisplayName("Schemas from URLs are revalidated with their ETag")
+    void testUrl() throws Exception {
+        server.put("/schema.json", SCHEMA_V1, "\"v1\"");
+        SchemaRegistry registry = new SchemaRegistry();
+        registry.setRevalidationInterval(0);
+        Schema schema = registry.get(server.url("/schema.json"), true);
+        Assertions.assertSame(schema, registry.get(server.url("/schema.json"), true));
+        Assertions.assertEquals(1, server.getDownloads());
+        Assertions.assertEquals(1, server.getNotModified());
+
+        server.put("/schema.json", SCHEMA_V2, "\"v2\"");
+        Assertions.assertEquals(2, registry.get(server.url("/schema.json"), true).getFields().size());
+        Assertions.assertEquals(2, server.getDownloads());
+    }
+
+    @Test
+    @DisplayName("Concurrent lookups load a Schema once")
+    void testSingleFlight() throws Exception {
+        server.put("/schema.json", SCHEMA_V1, "\"v1\"");
+        server.setDelay(200);
+        SchemaRegistry registry = new SchemaRegistry();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<Schema>> schemas = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                schemas.add(executor.submit(() -> registry.get(server.url("/schema.json"), true)));
+            }
+            Schema first = schemas.get(0).get(30, TimeUnit.SECONDS);
+            for (Future<Schema> schema : schemas) {
+                Assertions.assertSame(first, schema.get(30, TimeUnit.SECONDS));
+            }
+            Assertions.assertEquals(1, server.getDownloads());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("The least recently used Schemas are evicted")
+    void testEviction() throws Exception {
+        SchemaRegistry registry = new SchemaRegistry(2);
+        File one = write("one.json", SCHEMA_V1);
+        File two = write("two.json", SCHEMA_V1);
+        File three = write("three.json", SCHEMA_V1);
+        Schema first = registry.get(one, true);
+        registry.get(two, true);
+        registry.get(one, true);
+        registry.get(three, true);
+        Assertions.assertEquals(2, registry.size());
+        Assertions.assertSame(first, registry.get(one, true));
+
+        registry.clear();
+        Assertions.assertEquals(0, registry.size());
+        Assertions.assertNotSame(first, registry.get(one, true));
+    }
+
+    @Test
+    @DisplayName("Create Tables with a Schema from the registry")
+    void testTable() throws Exception {
+        File testDataDir = getTestDataDirectory();
+        server.put("/population_schema.json",
+                Files.readAllBytes(new File(testDataDir, "schema/population_schema.json").toPath()), "\"p\"");
+        URL dataUrl = new File(testDataDir, "data/population.csv").toURI().toURL();
+        SchemaRegistry registry = new SchemaRegistry();
+        for (int i = 0; i < 3; i++) {
+            Table table = Table.fromSource(dataUrl, server.url("/population_schema.json"),
+                    DataSourceFormat.getDefaultCsvFormat(), registry);
+            Assertions.assertEquals(3, table.read().size());
+        }
+        Assertions.assertEquals(1, server.getDownloads());
+    }
+}
@@ -26,9 +26,15 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.time.*;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import static io.frictionlessdata.tableschema.TestHelper.getTestDataDirectory;
 import static org.hamcrest.CoreMatchers.instanceOf;
@@ -197,6 +203,108 @@ public class SchemaTest {
         Assert.assertTrue(schema.hasFields());
     }
 
+    @Test
+    public void testFieldLookupByName(){
+        Schema schema = new Schema();
+        schema.addField(new IntegerField("id"));
+        schema.addField(new StringField("Name"));
+        Assert.assertEquals(1, schema.getFieldIndex("Name"));
+        Assert.assertEquals(-1, schema.getFieldIndex("name"));
+        Assert.assertEquals("Name", schema.getField("NAME").getName());
+        Assert.assertFalse(schema.hasField("name"));
+
+        // the lookup follows Fields added later on
+        schema.addField(new StringField("name"));
+        Assert.assertEquals(2, schema.getFieldIndex("name"));
+        Assert.assertTrue(schema.hasField("name"));
+        Assert.assertEquals("Name", schema.getField("name").getName());
+        Assert.assertNull(schema.getField(null));
+    }
+
+    @Test
+    public void testFieldLookupAfterChangingFieldList(){
+        Schema schema = new Schema();
+        schema.addField(new IntegerField("a"));
+        schema.addField(new StringField("b"));
+        Assert.assertTrue(schema.hasField("b"));
+
+        schema.getFields().set(1, new StringField("c"));
+        Assert.assertTrue(schema.hasField("c"));
+        Assert.assertEquals("c", schema.getField("C").getName());
+        Assert.assertFalse(schema.hasField("b"));
+        Assert.assertNull(schema.getField("b"));
+
+        schema.getFields().remove(0);
+        schema.getFields().add(new IntegerField("d"));
+        Assert.assertTrue(schema.hasField("d"));
+        Assert.assertEquals(1, schema.getFieldIndex("d"));
+        Assert.assertEquals(0, schema.getFieldIndex("c"));
+        Assert.assertEquals("d", schema.getField("d").getName());
+        Assert.assertFalse(schema.hasField("a"));
+    }
+
+    @Test
+    public void testFieldLookupOnWideSchema() throws Exception{
+        List<Field> fields = new ArrayList<>();
+        for (int i = 0; i < 20000; i++) {
+            fields.add(new StringField("column_" + i));
+        }
+        Schema schema = new Schema(fields, true);
+        for (int i = 0; i < 20000; i++) {
+            Assert.assertEquals(i, schema.getFieldIndex("column_" + i));
+            Assert.assertSame(fields.get(i), schema.getField("COLUMN_" + i));
+        }
+    }
+
+    @Test
+    public void testBuildSchema() throws Exception{
+        Schema expected = new Schema(true);
+        expected.setMissingValues(new HashSet<>(Arrays.asList("", "n/a")));
+        expected.addField(new IntegerField("id"));
+        expected.addField(new StringField("name"));
+        expected.setPrimaryKey("id");
+        Reference ref = new Reference(new URL("http://data.okfn.org/data/mydatapackage/"), "resource", "name");
+        ForeignKey fk = new ForeignKey("name", ref, true);
+        expected.addForeignKey(fk);
+
+        Schema schema = Schema.builder()
+                .addField(new IntegerField("id"))
+                .addField(new StringField("name").getJson())
+                .primaryKey("id")
+                .addForeignKey(fk)
+                .missingValues(Arrays.asList("", "n/a"))
+                .build();
+        Assert.assertEquals(expected, schema);
+        Assert.assertTrue(schema.isValid());
+        Assert.assertFalse(schema.isFrozen());
+        Assert.assertEquals(new HashSet<>(Arrays.asList("", "n/a")), schema.getField("id").getMissingValues());
+
+        Schema frozen = Schema.builder()
+                .addFields(Arrays.asList(new IntegerField("id"), new StringField("name")))
+                .primaryKey("id", "name")
+                .buildFrozen();
+        Assert.assertTrue(frozen.isFrozen());
+        Assert.assertArrayEquals(new String[]{"id", "name"}, frozen.getPrimaryKey());
+    }
+
+    @Test
+    public void testBuildInvalidSchema() throws Exception{
+        exception.expect(PrimaryKeyException.class);
+        Schema.builder()
+                .addField(new IntegerField("id"))
+                .primaryKey("key")
+                .build();
+    }
+
+    @Test
+    public void testBuildInvalidSchemaNonStrict() throws Exception{
+        Schema schema = Schema.builder(false)
+                .addField(new IntegerField("id"))
+                .primaryKey("key")
+                .build();
+        Assert.assertFalse(schema.isValid());
+    }
+
     @Test
     public void hasSetField(){
         Schema schema = new Schema();
@@ -702,6 +810,69 @@ public class SchemaTest {
         Assert.assertEquals(3, data.size());
     }
 
+    @Test
+    public void testFrozenSchemaIsImmutable() throws Exception {
+        Schema schema = Schema.fromJson (new File(getTestDataDirectory()
+                , "schema/population_schema.json"), true).freeze();
+        Assert.assertTrue(schema.isFrozen());
+        Assert.assertTrue(schema.isValid());
+        Assert.assertTrue(schema.getFields().get(0).isFrozen());
+        try {
+            schema.addField(new StringField("extra"));
+            Assert.fail("Adding a Field to a frozen Schema should fail");
+        } catch (IllegalStateException ex) {
+            // expected
+        }
+        try {
+            schema.getFields().get(0).setFormat("email");
+            Assert.fail("Changing a frozen Field should fail");
+        } catch (IllegalStateException ex) {
+            // expected
+        }
+
+        File f = new File("data/population.csv");
+        Table table = Table.fromSource(f, getTestDataDirectory(), schema, null);
+        Assert.assertEquals(3, table.read().size());
+    }
+
+    @Test
+    public void testFrozenSchemaConcurrentCasting() throws Exception {
+        Map<String, Object> constraints = new HashMap<>();
+        constraints.put(Field.CONSTRAINT_KEY_UNIQUE, true);
+        Schema schema = new Schema();
+        schema.addField(new IntegerField("id", null, null, null, null, constraints, null));
+        schema.addField(new StringField("name"));
+        schema.freeze();
+
+        List<String[]> data = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            data.add(new String[]{Integer.toString(i), "name"+i});
+        }
+        // every iteration sees the same ids, the `unique` state must not leak between them
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<Integer>> results = new ArrayList<>();
+            for (int i = 0; i < 16; i++) {
+                results.add(executor.submit(() -> {
+                    Table table = new Table(data, new String[]{"id", "name"}, schema);
+                    int cnt = 0;
+                    Iterator<Object[]> iter = table.iterator();
+                    while (iter.hasNext()) {
+                        Object[] row = iter.next();
+                        Assert.assertEquals(BigInteger.valueOf(cnt), row[0]);
+                        cnt++;
+                    }
+                    return cnt;
+                }));
+            }
+            for (Future<Integer> result : results) {
+                Assert.assertEquals(100, result.get().intValue());
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
     private static File getResourceFile(String fileName) throws URISyntaxException {
         try {
             // Create file-URL of source file:
@@ -12,9 +12,14 @@ import org.junit.Test;
 import org.junit.rules.ExpectedException;
 import org.junit.rules.TemporaryFolder;
 
+import com.sun.net.httpserver.HttpServer;
+
 import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.FileInputStream;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
 import java.math.BigInteger;
 import java.net.URL;
 import java.nio.file.Files;
@@ -22,6 +27,10 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.time.Year;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import static io.frictionlessdata.tableschema.TestHelper.getTestDataDirectory;
 
@@ -372,4 +381,90 @@ public class TableCreationTest {
         table.validate();
     }
 
+
+    @Test
+    public void testReadFromFileUrlsAsync() throws Exception{
+        URL sourceFileUrl = TableCreationTest.class.getResource("/fixtures/data/population.csv");
+        URL schemaUrl = TableCreationTest.class.getResource("/fixtures/schema/population_schema.json");
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Table table = Table.fromSourceAsync(sourceFileUrl, schemaUrl, DataSourceFormat.getDefaultCsvFormat(),
+                    executor).get();
+            Assert.assertEquals(Table.fromSource(sourceFileUrl, schemaUrl, DataSourceFormat.getDefaultCsvFormat()),
+                    table);
+            List<Object[]> actualData = table.read();
+            Assert.assertEquals(3, actualData.size());
+            for (int i = 0; i < actualData.size(); i++) {
+                Assert.assertArrayEquals(populationTestData[i], actualData.get(i));
+            }
+
+            File schemaFile = new File(getTestDataDirectory(), "schema/population_schema.json");
+            Schema schema = Schema.fromJsonAsync(schemaFile, true, executor).get();
+            Assert.assertEquals(Schema.fromJson(schemaFile, true), schema);
+            Table fileTable = Table.fromSourceAsync(new File("data/population.csv"), getTestDataDirectory(),
+                    schema, DataSourceFormat.getDefaultCsvFormat(), executor).get();
+            Assert.assertEquals(table, fileTable);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testReadMissingFileAsync() throws Exception{
+        CompletableFuture<Table> future = Table.fromSourceAsync(new File("data/no_such_file.csv"),
+                getTestDataDirectory(), null, null, Runnable::run);
+        try {
+            future.get();
+            Assert.fail("Missing file must fail the future");
+        } catch (ExecutionException ex) {
+            Assert.assertTrue(ex.getCause() instanceof IOException);
+        }
+    }
+
+    // loading from slow URLs at the same time takes about as long as the slowest
+    @Test
+    public void testReadFromUrlsConcurrently() throws Exception{
+        URL sourceFileUrl = TableCreationTest.class.getResource("/fixtures/data/population.csv");
+        URL schemaUrl = TableCreationTest.class.getResource("/fixtures/schema/population_schema.json");
+        byte[] csv = Files.readAllBytes(Paths.get(sourceFileUrl.toURI()));
+        byte[] schemaJson = Files.readAllBytes(Paths.get(schemaUrl.toURI()));
+        long delay = 300;
+        HttpServer server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/", (exchange) -> {
+            try {
+                Thread.sleep(delay);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+            byte[] body = exchange.getRequestURI().getPath().endsWith(".json") ? schemaJson : csv;
+            exchange.sendResponseHeaders(200, body.length);
+            exchange.getResponseBody().write(body);
+            exchange.close();
+        });
+        ExecutorService serverExecutor = Executors.newCachedThreadPool();
+        server.setExecutor(serverExecutor);
+        server.start();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            String base = "http://localhost:" + server.getAddress().getPort() + "/";
+            int tables = 4;
+            long start = System.nanoTime();
+            List<CompletableFuture<Table>> futures = new ArrayList<>();
+            for (int i = 0; i < tables; i++) {
+                futures.add(Table.fromSourceAsync(new URL(base + "data" + i + ".csv"),
+                        new URL(base + "schema" + i + ".json"), DataSourceFormat.getDefaultCsvFormat(), executor));
+            }
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).get();
+            long elapsed = (System.nanoTime() - start) / 1_000_000;
+            // one after another, the 8 requests would take 8 * delay
+            Assert.assertTrue("Took " + elapsed + "ms", elapsed < 5 * delay);
+            for (CompletableFuture<Table> future : futures) {
+                Assert.assertEquals(3, future.get().read().size());
+            }
+        } finally {
+            executor.shutdown();
+            server.stop(0);
+            serverExecutor.shutdown();
+        }
+    }
 }
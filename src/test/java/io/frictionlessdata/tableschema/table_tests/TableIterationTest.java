@@ -39,6 +39,32 @@ public class TableIterationTest {
         Assert.assertEquals("[id, title]", Arrays.toString(table.getHeaders()));
     }
 
+    @Test
+    public void testReadWithCastCache() throws Exception{
+        StringBuilder csv = new StringBuilder("id,day,status\n");
+        for (int i = 0; i < 3000; i++) {
+            csv.append(i).append(",2020-01-").append(10 + (i % 10)).append(",").append((i % 3 == 0) ? "A" : "B").append("\n");
+        }
+        Schema schema = new Schema();
+        schema.addField(new IntegerField("id"));
+        schema.addField(new DateField("day"));
+        schema.addField(new StringField("status"));
+
+        Table table = Table.fromSource(csv.toString(), schema, DataSourceFormat.getDefaultCsvFormat());
+        List<Object[]> expected = table.read(true);
+        table.setCastCacheSize(64);
+        List<Object[]> data = table.read(true);
+
+        Assert.assertEquals(expected.size(), data.size());
+        for (int i = 0; i < expected.size(); i++) {
+            Assert.assertArrayEquals(expected.get(i), data.get(i));
+        }
+        // low cardinality columns share their values
+        Assert.assertSame(data.get(0)[1], data.get(2990)[1]);
+        Assert.assertSame(data.get(0)[2], data.get(2997)[2]);
+        Assert.assertNotSame(expected.get(0)[1], expected.get(2990)[1]);
+    }
+
     @Test
     public void testReadUncastData() throws Exception{
         File testDataDir = getTestDataDirectory();
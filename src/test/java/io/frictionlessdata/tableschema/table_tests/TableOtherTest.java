@@ -3,6 +3,7 @@ package io.frictionlessdata.tableschema.table_tests;
 import io.frictionlessdata.tableschema.TestHelper;
 import io.frictionlessdata.tableschema.datasourceformat.CsvDataSourceFormat;
 import io.frictionlessdata.tableschema.datasourceformat.DataSourceFormat;
+import io.frictionlessdata.tableschema.datasourceformat.StringArrayDataSourceFormat;
 import io.frictionlessdata.tableschema.exception.TableValidationException;
 import io.frictionlessdata.tableschema.schema.Schema;
 import io.frictionlessdata.tableschema.Table;
@@ -422,4 +423,59 @@ public class TableOtherTest {
         table.setSchema(schema);
         table.read(true);
     }
+
+    @Test
+    public void testHeadersResolvedOnce() throws Exception {
+        int[] headerCalls = new int[1];
+        List<String[]> data = new ArrayList<>();
+        data.add(new String[]{"2017", "london", "8780000"});
+        data.add(new String[]{"2017", "paris", "2240000"});
+        DataSourceFormat dataSourceFormat = new StringArrayDataSourceFormat(data,
+                new String[]{"year", "city", "population"}) {
+            @Override
+            public String[] getHeaders() throws Exception {
+                headerCalls[0]++;
+                return super.getHeaders();
+            }
+        };
+        Table table = new Table();
+        table.setSchema(Schema.fromJson(populationSchema, true));
+        table.setDataSourceFormat(dataSourceFormat);
+        int callsAfterSetup = headerCalls[0];
+
+        for (int i = 0; i < 3; i++) {
+            Assert.assertEquals(2, table.read().size());
+            table.keyedIterator().next();
+            table.validate();
+        }
+        Assert.assertEquals(callsAfterSetup, headerCalls[0]);
+        Assert.assertArrayEquals(new int[]{1, 0, 2}, table.getSchemaHeaderIndices());
+        Assert.assertEquals("london", table.read().get(0)[0]);
+
+        // setting the Schema drops the cached headers
+        table.setSchema(Schema.fromJson(populationSchema, true));
+        table.read();
+        Assert.assertTrue(headerCalls[0] > callsAfterSetup);
+    }
+
+    @Test
+    public void testWideTable() throws Exception {
+        int width = 20000;
+        List<Field> fields = new ArrayList<>();
+        String[] headers = new String[width];
+        String[] row = new String[width];
+        for (int i = 0; i < width; i++) {
+            fields.add(new IntegerField("column_" + i));
+            // the data has the columns in reverse order
+            headers[width - 1 - i] = "column_" + i;
+            row[width - 1 - i] = Integer.toString(i);
+        }
+        Table table = new Table(Collections.singletonList(row), headers, new Schema(fields, true));
+
+        Object[] castRow = table.read().get(0);
+        Assert.assertEquals(width, castRow.length);
+        for (int i = 0; i < width; i++) {
+            Assert.assertEquals(BigInteger.valueOf(i), castRow[i]);
+        }
+    }
 }
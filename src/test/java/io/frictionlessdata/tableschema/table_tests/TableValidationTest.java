@@ -0,0 +1,194 @@
+package io.frictionlessdata.tableschema.table_tests;
+
+import io.frictionlessdata.tableschema.Table;
+import io.frictionlessdata.tableschema.datasourceformat.StringArrayDataSourceFormat;
+import io.frictionlessdata.tableschema.exception.TableValidationException;
+import io.frictionlessdata.tableschema.field.Field;
+import io.frictionlessdata.tableschema.field.IntegerField;
+import io.frictionlessdata.tableschema.field.StringField;
+import io.frictionlessdata.tableschema.schema.Schema;
+import io.frictionlessdata.tableschema.validation.ValidationError;
+import io.frictionlessdata.tableschema.validation.ValidationOptions;
+import io.frictionlessdata.tableschema.validation.ValidationReport;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static io.frictionlessdata.tableschema.TestHelper.getTestDataDirectory;
+
+public class TableValidationTest {
+
+    @Test
+    public void testValidTableReport() throws Exception {
+        File testDataDir = getTestDataDirectory();
+        Schema schema = Schema.fromJson(new File(testDataDir, "schema/population_schema.json"), true);
+        Table table = Table.fromSource(new File("data/population.csv"), testDataDir, schema, null);
+
+        ValidationReport report = table.validate(new ValidationOptions());
+        Assert.assertTrue(report.isValid());
+        Assert.assertFalse(report.isTruncated());
+        Assert.assertEquals(3, report.getRowCount());
+    }
+
+    @Test
+    public void testInvalidValueReport() throws Exception {
+        File testDataDir = getTestDataDirectory();
+        Schema schema = Schema.fromJson(new File(testDataDir, "schema/population_schema.json"), true);
+        Table table = Table.fromSource(new File("data/population-invalid.csv"), testDataDir, schema, null);
+
+        ValidationReport report = table.validate(new ValidationOptions());
+        Assert.assertEquals(1, report.getErrors().size());
+        ValidationError error = report.getErrors().get(0);
+        Assert.assertEquals(0, error.getRow());
+        Assert.assertEquals(1, error.getColumn());
+        Assert.assertEquals("year", error.getColumnName());
+        Assert.assertEquals("london", error.getRawValue());
+        Assert.assertEquals(ValidationError.ErrorCode.TYPE_ERROR, error.getErrorCode());
+    }
+
+    @Test
+    public void testConstraintViolationReport() throws Exception {
+        Map<String, Object> constraints = new HashMap<>();
+        constraints.put(Field.CONSTRAINT_KEY_MIN_LENGTH, 3);
+        Schema schema = new Schema();
+        schema.addField(new StringField("name", null, null, null, null, constraints, null));
+        schema.addField(new IntegerField("id"));
+
+        List<String[]> data = new ArrayList<>();
+        data.add(new String[]{"al", "1"});
+        data.add(new String[]{"bob", "2"});
+        Table table = new Table(data, new String[]{"name", "id"}, schema);
+
+        ValidationReport report = table.validate(new ValidationOptions());
+        Assert.assertEquals(1, report.getErrors().size());
+        ValidationError error = report.getErrors().get(0);
+        Assert.assertEquals(ValidationError.ErrorCode.CONSTRAINT_ERROR, error.getErrorCode());
+        Assert.assertEquals(Field.CONSTRAINT_KEY_MIN_LENGTH, error.getConstraint());
+        Assert.assertEquals("al", error.getRawValue());
+
+        report = table.validate(new ValidationOptions().setEnforceConstraints(false));
+        Assert.assertTrue(report.isValid());
+    }
+
+    @Test
+    public void testUniqueConstraintPerValidation() throws Exception {
+        Map<String, Object> constraints = new HashMap<>();
+        constraints.put(Field.CONSTRAINT_KEY_UNIQUE, true);
+        Schema schema = new Schema();
+        schema.addField(new IntegerField("id", null, null, null, null, constraints, null));
+
+        List<String[]> data = new ArrayList<>();
+        data.add(new String[]{"1"});
+        data.add(new String[]{"2"});
+        data.add(new String[]{"1"});
+        Table table = new Table(data, new String[]{"id"}, schema);
+
+        // repeated validation must not see the values of the previous run
+        for (int i = 0; i < 2; i++) {
+            ValidationReport report = table.validate(new ValidationOptions());
+            Assert.assertEquals(1, report.getErrors().size());
+            Assert.assertEquals(Field.CONSTRAINT_KEY_UNIQUE, report.getErrors().get(0).getConstraint());
+            Assert.assertEquals(2, report.getErrors().get(0).getRow());
+        }
+    }
+
+    @Test
+    public void testReportIsBounded() throws Exception {
+        Schema schema = new Schema();
+        schema.addField(new IntegerField("id"));
+
+        List<String[]> data = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            data.add(new String[]{"invalid"+i});
+        }
+        Table table = new Table(data, new String[]{"id"}, schema);
+
+        ValidationReport report = table.validate(new ValidationOptions().setMaxErrors(3));
+        Assert.assertEquals(3, report.getErrors().size());
+        Assert.assertTrue(report.isTruncated());
+        Assert.assertEquals("invalid2", report.getErrors().get(2).getRawValue());
+
+        report = table.validate(new ValidationOptions().setMaxErrors(0));
+        Assert.assertEquals(10, report.getErrors().size());
+        Assert.assertFalse(report.isTruncated());
+    }
+
+    @Test
+    public void testSourceClosedWhenReportIsFull() throws Exception {
+        Schema schema = new Schema();
+        schema.addField(new IntegerField("id"));
+
+        List<String[]> data = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            data.add(new String[]{"invalid"+i});
+        }
+        AtomicInteger closed = new AtomicInteger();
+        Table table = new Table(data, new String[]{"id"}, schema);
+        table.setDataSourceFormat(new StringArrayDataSourceFormat(data, new String[]{"id"}) {
+            @Override
+            public Iterator<? extends CharSequence[]> charSequenceIterator() throws Exception {
+                return new CloseableIterator(data.iterator(), closed);
+            }
+        });
+
+        ValidationReport report = table.validate(new ValidationOptions().setMaxErrors(3));
+        Assert.assertTrue(report.isTruncated());
+        Assert.assertEquals(1, closed.get());
+    }
+
+    private static class CloseableIterator implements Iterator<String[]>, AutoCloseable {
+        private final Iterator<String[]> rows;
+        private final AtomicInteger closed;
+
+        private CloseableIterator(Iterator<String[]> rows, AtomicInteger closed) {
+            this.rows = rows;
+            this.closed = closed;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return rows.hasNext();
+        }
+
+        @Override
+        public String[] next() {
+            return rows.next();
+        }
+
+        @Override
+        public void close() {
+            closed.incrementAndGet();
+        }
+    }
+
+    @Test
+    public void testHeaderErrorReport() throws Exception {
+        Schema schema = new Schema();
+        schema.addField(new IntegerField("id"));
+        schema.addField(new StringField("name"));
+
+        List<String[]> data = new ArrayList<>();
+        data.add(new String[]{"1", "x"});
+        Table table = new Table(data, new String[]{"id", "title"}, null);
+        try {
+            table.setSchema(schema);
+            Assert.fail("Header validation should have failed");
+        } catch (TableValidationException ex) {
+            // expected, the Schema is set nevertheless
+        }
+
+        ValidationReport report = table.validate(new ValidationOptions());
+        Assert.assertEquals(2, report.getErrors().size());
+        for (ValidationError error : report.getErrors()) {
+            Assert.assertEquals(ValidationError.ErrorCode.HEADER_ERROR, error.getErrorCode());
+            Assert.assertEquals(-1, error.getRow());
+        }
+    }
+}
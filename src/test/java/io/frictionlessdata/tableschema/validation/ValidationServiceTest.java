@@ -0,0 +1,119 @@
+package io.frictionlessdata.tableschema.validation;
+
+import io.frictionlessdata.tableschema.Table;
+import io.frictionlessdata.tableschema.schema.Schema;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static io.frictionlessdata.tableschema.TestHelper.getTestDataDirectory;
+
+class ValidationServiceTest {
+
+    @Test
+    @DisplayName("Validate many Tables concurrently")
+    void testValidateMany() throws Exception {
+        File testDataDir = getTestDataDirectory();
+        Schema schema = Schema.fromJson(new File(testDataDir, "schema/population_schema.json"), true);
+        try (ValidationService service = new ValidationService(2, 4)) {
+            List<CompletableFuture<ValidationReport>> valid = new ArrayList<>();
+            List<CompletableFuture<ValidationReport>> invalid = new ArrayList<>();
+            for (int i = 0; i < 20; i++) {
+                valid.add(service.submit(() -> Table.fromSource(new File("data/population.csv"),
+                        testDataDir, schema, null), new ValidationOptions()));
+                invalid.add(service.submit(() -> Table.fromSource(new File("data/population-invalid.csv"),
+                        testDataDir, schema, null), null));
+            }
+            for (CompletableFuture<ValidationReport> report : valid) {
+                Assertions.assertTrue(report.get(30, TimeUnit.SECONDS).isValid());
+                Assertions.assertEquals(3, report.get().getRowCount());
+            }
+            for (CompletableFuture<ValidationReport> report : invalid) {
+                Assertions.assertEquals(ValidationError.ErrorCode.TYPE_ERROR,
+                        report.get(30, TimeUnit.SECONDS).getErrors().get(0).getErrorCode());
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Loading overlaps, validating is limited to the cast parallelism")
+    void testCastParallelism() throws Exception {
+        File testDataDir = getTestDataDirectory();
+        Schema schema = Schema.fromJson(new File(testDataDir, "schema/population_schema.json"), true);
+        AtomicInteger validating = new AtomicInteger();
+        AtomicInteger maxValidating = new AtomicInteger();
+        int tasks = 8;
+        long loadTime = 200;
+        try (ValidationService service = new ValidationService(2, tasks)) {
+            long start = System.nanoTime();
+            List<CompletableFuture<ValidationReport>> reports = new ArrayList<>();
+            for (int i = 0; i < tasks; i++) {
+                reports.add(service.submit(() -> {
+                    // waiting for I/O
+                    Thread.sleep(loadTime);
+                    return new Table(new ArrayList<>(), new String[]{"city", "year", "population"}, schema) {
+                        @Override
+                        public ValidationReport validate(ValidationOptions options) {
+                            maxValidating.accumulateAndGet(validating.incrementAndGet(), Math::max);
+                            try {
+                                Thread.sleep(20);
+                                return super.validate(options);
+                            } catch (InterruptedException ex) {
+                                throw new IllegalStateException(ex);
+                            } finally {
+                                validating.decrementAndGet();
+                            }
+                        }
+                    };
+                }, null));
+            }
+            for (CompletableFuture<ValidationReport> report : reports) {
+                Assertions.assertTrue(report.get(30, TimeUnit.SECONDS).isValid());
+            }
+            long elapsed = (System.nanoTime() - start) / 1_000_000;
+            Assertions.assertTrue(elapsed < (tasks * loadTime) / 2, "Took " + elapsed + "ms");
+            Assertions.assertTrue(maxValidating.get() <= 2);
+        }
+    }
+
+    @Test
+    @DisplayName("Failures complete the future exceptionally, closing cancels pending validations")
+    void testFailureAndClose() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<ValidationReport> running;
+        CompletableFuture<ValidationReport> pending;
+        try (ValidationService service = new ValidationService(1, Executors.newSingleThreadExecutor())) {
+            Assertions.assertFalse(service.usesVirtualThreads());
+            CompletableFuture<ValidationReport> failed = service.submit(() -> {
+                throw new FileNotFoundException("no data");
+            }, null);
+            ExecutionException ex = Assertions.assertThrows(ExecutionException.class,
+                    () -> failed.get(30, TimeUnit.SECONDS));
+            Assertions.assertTrue(ex.getCause() instanceof FileNotFoundException);
+
+            running = service.submit(() -> {
+                started.countDown();
+                release.await();
+                return new Table();
+            }, null);
+            Assertions.assertTrue(started.await(30, TimeUnit.SECONDS));
+            pending = service.submit(new Table(), null);
+        }
+        Assertions.assertTrue(pending.isCancelled());
+        ExecutionException ex = Assertions.assertThrows(ExecutionException.class,
+                () -> running.get(30, TimeUnit.SECONDS));
+        Assertions.assertTrue(ex.getCause() instanceof InterruptedException);
+    }
+}